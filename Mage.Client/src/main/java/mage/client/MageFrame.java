@@ -50,6 +50,7 @@ import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import mage.utils.MageVersion;
 import mage.view.GameEndView;
+import mage.view.RoomUpdateView;
 import mage.view.UserRequestMessage;
 import net.java.truevfs.access.TArchiveDetector;
 import net.java.truevfs.access.TConfig;
@@ -1331,6 +1332,12 @@ public class MageFrame extends javax.swing.JFrame implements MageClient {
         }
     }
 
+    public void updateServerLobby(RoomUpdateView update) {
+        if (this.tablesPane != null) {
+            this.tablesPane.applyRoomUpdate(update);
+        }
+    }
+
     public void prepareAndShowServerLobby() {
         // Update the tables pane with the new session
         this.tablesPane.showTables();
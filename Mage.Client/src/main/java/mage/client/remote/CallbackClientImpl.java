@@ -13,6 +13,7 @@ import mage.client.util.DeckUtil;
 import mage.client.util.IgnoreList;
 import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
+import mage.constants.PlayerAction;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackType;
@@ -39,6 +40,7 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final GameViewDiffs.Decoder gameViewDecoder = new GameViewDiffs.Decoder();
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
@@ -52,12 +54,36 @@ public class CallbackClientImpl implements CallbackClient {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.gameViewDecoder.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
         callback.decompressData();
 
+        // server sends changed cards only, so restore full game view before any usage
+        GameView gameView = null;
+        if (callback.getData() instanceof GameView) {
+            gameView = (GameView) callback.getData();
+        } else if (callback.getData() instanceof GameClientMessage) {
+            gameView = ((GameClientMessage) callback.getData()).getGameView();
+        }
+        if (gameView != null && gameViewDecoder.decode(callback.getObjectId(), gameView) == null) {
+            // partial data can't be used, so ask server to send full game view
+            if (gameViewDecoder.takeResyncRequest(callback.getObjectId())) {
+                SessionHandler.sendPlayerAction(PlayerAction.RESYNC_GAME_VIEW, callback.getObjectId(), null);
+            }
+            switch (callback.getMethod().getType()) {
+                case UPDATE:
+                case DIALOG:
+                    // server sends full game view on resync request (with the last dialog if it waits an answer)
+                    return;
+                default:
+                    // messages without game view usage
+                    break;
+            }
+        }
+
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
 
@@ -212,6 +238,11 @@ public class CallbackClientImpl implements CallbackClient {
                         break;
                     }
 
+                    case ROOM_UPDATE: {
+                        frame.updateServerLobby((RoomUpdateView) callback.getData());
+                        break;
+                    }
+
                     case JOINED_TABLE: {
                         TableClientMessage message = (TableClientMessage) callback.getData();
                         joinedTable(message.getRoomId(), message.getCurrentTableId(), message.getFlag());
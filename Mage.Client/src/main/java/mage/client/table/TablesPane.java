@@ -6,6 +6,7 @@ import javax.swing.JComponent;
 import mage.client.MagePane;
 import mage.client.SessionHandler;
 import mage.client.plugins.impl.Plugins;
+import mage.view.RoomUpdateView;
 
 /**
  * Game GUI: lobby frame
@@ -119,6 +120,12 @@ public class TablesPane extends MagePane {
         tablesPanel.stopTasks();
     }
 
+    public void applyRoomUpdate(RoomUpdateView update) {
+        if (tablesPanel != null) {
+            tablesPanel.applyRoomUpdate(update);
+        }
+    }
+
     public void setTableFilter() {
         if (tablesPanel != null) {
             tablesPanel.setTableFilter();
@@ -23,6 +23,8 @@ import mage.remote.MageRemoteException;
 import mage.util.DeckUtil;
 import mage.util.RandomUtil;
 import mage.view.MatchView;
+import mage.view.RoomLobbyData;
+import mage.view.RoomUpdateView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
 import mage.view.UserRequestMessage;
@@ -143,6 +145,9 @@ public class TablesPanel extends javax.swing.JPanel {
     private UpdatePlayersTask updatePlayersTask;
     private UpdateMatchesTask updateMatchesTask;
 
+    // lobby changes from server, polling works until first change and after version gaps only
+    private volatile RoomLobbyData lobbyData = new RoomLobbyData(UUID.randomUUID());
+
     // no needs in multiple create/join tables dialogs, it's a client side action
     private JoinTableDialog joinTableDialog;
     private NewTableDialog newTableDialog;
@@ -696,16 +701,34 @@ public class TablesPanel extends javax.swing.JPanel {
         return components;
     }
 
-    public void updateTables(Collection<TableView> tables) {
+    /**
+     * @param requestVersion lobby version before the request (outdated data will be ignored)
+     */
+    public void updateTables(Collection<TableView> tables, int requestVersion) {
+        if (lobbyData.applyTables(tables, requestVersion)) {
+            loadTables();
+        }
+    }
+
+    private void loadTables() {
         try {
-            tableModel.loadData(tables);
+            tableModel.loadData(lobbyData.getTables());
             this.tableTables.repaint();
         } catch (MageRemoteException ex) {
             hideTables();
         }
     }
 
-    public void updateMatches(Collection<MatchView> matches) {
+    /**
+     * @param requestVersion lobby version before the request (outdated data will be ignored)
+     */
+    public void updateMatches(Collection<MatchView> matches, int requestVersion) {
+        if (lobbyData.canApplyMatches(requestVersion)) {
+            updateMatches(matches);
+        }
+    }
+
+    private void updateMatches(Collection<MatchView> matches) {
         try {
             matchesModel.loadData(matches);
             this.tableCompleted.repaint();
@@ -714,6 +737,55 @@ public class TablesPanel extends javax.swing.JPanel {
         }
     }
 
+    /**
+     * @param requestVersion lobby version before the request (outdated data will be ignored)
+     */
+    public void updateRoomUsers(List<Collection<RoomUsersView>> roomUsers, int requestVersion) {
+        if (lobbyData.canApplyRoomUsers(requestVersion)) {
+            chatPanelMain.setRoomUserInfo(roomUsers);
+        }
+    }
+
+    /**
+     * Apply lobby changes from server (GUI thread only)
+     */
+    public void applyRoomUpdate(RoomUpdateView update) {
+        if (!lobbyData.applyUpdate(update)) {
+            // outdated or another room's data
+            return;
+        }
+
+        if (!update.getChangedTables().isEmpty() || !update.getRemovedTables().isEmpty()) {
+            loadTables();
+        }
+        if (update.getFinishedMatches() != null) {
+            updateMatches(update.getFinishedMatches());
+        }
+        if (update.getRoomUsers() != null) {
+            chatPanelMain.setRoomUserInfo(Collections.singletonList(update.getRoomUsers()));
+        }
+
+        if (lobbyData.takeFullListsRequest()) {
+            // first or lost changes (e.g. slow connection), so load full lists
+            LOGGER.info("Lobby changes started or lost, refreshing all lists...");
+            startUpdateTasks(true);
+        }
+    }
+
+    /**
+     * Server sends lobby changes, so update tasks can skip data loading
+     */
+    public boolean isPushUpdatesActive() {
+        return lobbyData.isPushUpdatesActive();
+    }
+
+    /**
+     * Lobby version for full lists requests (can be called from any thread)
+     */
+    public int getLobbyVersion() {
+        return lobbyData.getVersion();
+    }
+
     public void startUpdateTasks(boolean refreshImmediately) {
         if (SessionHandler.getSession() != null) {
             // active tables and server messages
@@ -737,7 +809,7 @@ public class TablesPanel extends javax.swing.JPanel {
             // players list
             if (updatePlayersTask == null || updatePlayersTask.isDone() || refreshImmediately) {
                 if (updatePlayersTask != null) updatePlayersTask.cancel(true);
-                updatePlayersTask = new UpdatePlayersTask(roomId, this.chatPanelMain);
+                updatePlayersTask = new UpdatePlayersTask(roomId, this);
                 updatePlayersTask.execute();
             }
         }
@@ -757,6 +829,7 @@ public class TablesPanel extends javax.swing.JPanel {
 
     public void showTables(UUID roomId) {
         this.roomId = roomId;
+        this.lobbyData = new RoomLobbyData(roomId);
         UUID chatRoomId = null;
         if (SessionHandler.getSession() != null) {
             btnQuickStart2Player.setVisible(SessionHandler.isTestMode());
@@ -1838,7 +1911,7 @@ public class TablesPanel extends javax.swing.JPanel {
 
 }
 
-class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
+class UpdateTablesTask extends SwingWorker<Void, LobbyListResult<Collection<TableView>>> {
 
     private final UUID roomId;
     private final TablesPanel panel;
@@ -1856,10 +1929,18 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
 
     @Override
     protected Void doInBackground() throws Exception {
+        boolean needLoad = true;
         while (!isCancelled()) {
-            Collection<TableView> tables = SessionHandler.getTables(roomId);
-            if (tables != null) {
-                this.publish(tables);
+            if (needLoad || !panel.isPushUpdatesActive()) {
+                int requestVersion = panel.getLobbyVersion();
+                Collection<TableView> tables = SessionHandler.getTables(roomId);
+                if (tables != null) {
+                    this.publish(new LobbyListResult<>(tables, requestVersion));
+                }
+                needLoad = false;
+            } else {
+                // tables come from server's push updates, but server messages must be reloaded anyway
+                this.publish(new LobbyListResult<>(null, 0));
             }
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_ACTIVE_TABLES_SECS));
         }
@@ -1867,8 +1948,10 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
     }
 
     @Override
-    protected void process(java.util.List<Collection<TableView>> view) {
-        panel.updateTables(view.get(0));
+    protected void process(java.util.List<LobbyListResult<Collection<TableView>>> view) {
+        if (view.get(0).getData() != null) {
+            panel.updateTables(view.get(0).getData(), view.get(0).getRequestVersion());
+        }
 
         // update server messages
         count++;
@@ -1891,31 +1974,37 @@ class UpdateTablesTask extends SwingWorker<Void, Collection<TableView>> {
 
 }
 
-class UpdatePlayersTask extends SwingWorker<Void, Collection<RoomUsersView>> {
+class UpdatePlayersTask extends SwingWorker<Void, LobbyListResult<Collection<RoomUsersView>>> {
 
     private final UUID roomId;
-    private final PlayersChatPanel chat;
+    private final TablesPanel panel;
 
     private static final Logger logger = Logger.getLogger(UpdatePlayersTask.class);
 
-    UpdatePlayersTask(UUID roomId, PlayersChatPanel chat) {
+    UpdatePlayersTask(UUID roomId, TablesPanel panel) {
 
         this.roomId = roomId;
-        this.chat = chat;
+        this.panel = panel;
     }
 
     @Override
     protected Void doInBackground() throws Exception {
+        boolean needLoad = true;
         while (!isCancelled()) {
-            this.publish(SessionHandler.getRoomUsers(roomId));
+            if (needLoad || !panel.isPushUpdatesActive()) {
+                int requestVersion = panel.getLobbyVersion();
+                this.publish(new LobbyListResult<>(SessionHandler.getRoomUsers(roomId), requestVersion));
+                needLoad = false;
+            }
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_PLAYERS_SECS));
         }
         return null;
     }
 
     @Override
-    protected void process(java.util.List<Collection<RoomUsersView>> roomUserInfo) {
-        chat.setRoomUserInfo(roomUserInfo);
+    protected void process(java.util.List<LobbyListResult<Collection<RoomUsersView>>> roomUserInfo) {
+        LobbyListResult<Collection<RoomUsersView>> last = roomUserInfo.get(roomUserInfo.size() - 1);
+        panel.updateRoomUsers(Collections.singletonList(last.getData()), last.getRequestVersion());
     }
 
     @Override
@@ -1930,7 +2019,7 @@ class UpdatePlayersTask extends SwingWorker<Void, Collection<RoomUsersView>> {
 
 }
 
-class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
+class UpdateMatchesTask extends SwingWorker<Void, LobbyListResult<Collection<MatchView>>> {
 
     private final UUID roomId;
     private final TablesPanel panel;
@@ -1944,16 +2033,21 @@ class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
 
     @Override
     protected Void doInBackground() throws Exception {
+        boolean needLoad = true;
         while (!isCancelled()) {
-            this.publish(SessionHandler.getFinishedMatches(roomId));
+            if (needLoad || !panel.isPushUpdatesActive()) {
+                int requestVersion = panel.getLobbyVersion();
+                this.publish(new LobbyListResult<>(SessionHandler.getFinishedMatches(roomId), requestVersion));
+                needLoad = false;
+            }
             TimeUnit.SECONDS.sleep(TablesPanel.randomizeTimout(TablesPanel.REFRESH_FINISHED_TABLES_SECS));
         }
         return null;
     }
 
     @Override
-    protected void process(java.util.List<Collection<MatchView>> view) {
-        panel.updateMatches(view.get(0));
+    protected void process(java.util.List<LobbyListResult<Collection<MatchView>>> view) {
+        panel.updateMatches(view.get(0).getData(), view.get(0).getRequestVersion());
     }
 
     @Override
@@ -1968,6 +2062,28 @@ class UpdateMatchesTask extends SwingWorker<Void, Collection<MatchView>> {
 
 }
 
+/**
+ * Lobby list from server with lobby version before the request
+ */
+class LobbyListResult<T> {
+
+    private final T data;
+    private final int requestVersion;
+
+    LobbyListResult(T data, int requestVersion) {
+        this.data = data;
+        this.requestVersion = requestVersion;
+    }
+
+    T getData() {
+        return data;
+    }
+
+    int getRequestVersion() {
+        return requestVersion;
+    }
+}
+
 class GameChooser extends JPopupMenu {
 
     public void init() {
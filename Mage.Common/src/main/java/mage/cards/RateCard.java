@@ -17,10 +17,15 @@ import org.apache.log4j.Logger;
 
 import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class responsible for reading ratings from resources and rating given cards.
  * Based on card relative ratings from resources and card parameters.
+ * <p>
+ * Thread safe: used by all draft bots and deck generators at the same time. Ratings from resources
+ * are loaded once to read only map, scores are cached by card name without mana cost part, so
+ * scores for the chosen colors are cheap too.
  *
  * @author nantuko
  */
@@ -28,10 +33,10 @@ public final class RateCard {
 
     public static final boolean PRELOAD_CARD_RATINGS_ON_STARTUP = false; // warning, rating and card classes preloading can cause lags for users with low memory
 
-    private static Map<String, Integer> baseRatings = new HashMap<>();
-    private static final Map<String, Integer> ratedCard = new HashMap<>();
-    private static final Map<String, Integer> ratedCardView = new HashMap<>(); // Rating is not exactly the same for CardView, so cached in a different map.
-    private static boolean isLoaded = false;
+    private static volatile Map<String, Integer> baseRatings = null; // ratings from resources, read only after load
+    private static final Map<String, Integer> rarityRatings = new ConcurrentHashMap<>(); // not rated cards
+    private static final Map<String, Integer> ratedCard = new ConcurrentHashMap<>(); // score without mana cost part
+    private static final Map<String, Integer> ratedCardView = new ConcurrentHashMap<>(); // Rating is not exactly the same for CardView, so cached in a different map.
 
     /**
      * Rating that is given for new cards.
@@ -70,7 +75,7 @@ public final class RateCard {
     /**
      * Get absolute score of the card.
      * Depends on type, manacost, rating.
-     * If allowedColors is null then the rating is retrieved from the cache
+     * If allowedColors is null or empty then the score is for any colors
      *
      * @param card
      * @param allowedColors
@@ -89,20 +94,17 @@ public final class RateCard {
             return 0;
         }
 
-        String name = card.getName();
-        if (useCache && allowedColors.isEmpty() && ratedCard.containsKey(name)) {
-            return ratedCard.get(name);
-        }
-
-        int typeMultiplier = typeMultiplier(card);
-        int score = getBaseCardScore(card) + 2 * typeMultiplier + getManaCostScore(card, allowedColors)
-                + 40 * isRemoval(card);
-
-        if (useCache && allowedColors.isEmpty()) {
-            ratedCard.put(name, score);
+        // same card name must have same rating, so it can be cached by name
+        Integer score = useCache ? ratedCard.get(card.getName()) : null;
+        if (score == null) {
+            int typeMultiplier = typeMultiplier(card);
+            score = getBaseCardScore(card) + 2 * typeMultiplier + 40 * isRemoval(card);
+            if (useCache) {
+                ratedCard.putIfAbsent(card.getName(), score);
+            }
         }
 
-        return score;
+        return score + getManaCostScore(card, allowedColors);
     }
 
     public static int rateCard(CardView cardview, List<ColoredManaSymbol> allowedColors, boolean useCache) {
@@ -110,20 +112,17 @@ public final class RateCard {
             return 0;
         }
 
-        String name = cardview.getName();
-        if (useCache && allowedColors.isEmpty() && ratedCardView.containsKey(name)) {
-            return ratedCardView.get(name);
-        }
-
-        int typeMultiplier = typeMultiplier(cardview);
-        int score = getBaseCardScore(cardview) + 2 * typeMultiplier + getManaCostScore(cardview, allowedColors);
-        // Cardview does not have enough info to know the card is a removal.
-
-        if (useCache && allowedColors.isEmpty()) {
-            ratedCardView.put(name, score);
+        Integer score = useCache ? ratedCardView.get(cardview.getName()) : null;
+        if (score == null) {
+            int typeMultiplier = typeMultiplier(cardview);
+            score = getBaseCardScore(cardview) + 2 * typeMultiplier;
+            // Cardview does not have enough info to know the card is a removal.
+            if (useCache) {
+                ratedCardView.putIfAbsent(cardview.getName(), score);
+            }
         }
 
-        return score;
+        return score + getManaCostScore(cardview, allowedColors);
     }
 
     protected static int typeMultiplier(Card card) {
@@ -245,8 +244,10 @@ public final class RateCard {
         // same card name must have same rating
 
         // ratings from files
-        // lazy loading on first request
-        prepareAndLoadRatings();
+        Integer fileRating = getBaseRatings().get(name);
+        if (fileRating != null) {
+            return fileRating;
+        }
 
         // ratings from card rarity
         // some cards can have different rarity -- it's will be used from first set
@@ -278,26 +279,39 @@ public final class RateCard {
             newRating = DEFAULT_NOT_RATED_CARD_RATING;
         }
 
-        int oldRating = baseRatings.getOrDefault(name, 0);
-        if (oldRating != 0 && oldRating != newRating) {
+        Integer oldRating = rarityRatings.putIfAbsent(name, newRating);
+        if (oldRating != null && oldRating != newRating) {
             //log.info("card have different rating by sets: " + card.getName() + " (" + oldRating + " <> " + newRating + ")");
         }
+        return oldRating != null ? oldRating : newRating;
+    }
 
-        if (oldRating != 0) {
-            return oldRating;
-        } else {
-            baseRatings.put(name, newRating);
-            return newRating;
+    /**
+     * Load ratings from resources (server calls it on startup, otherwise it will be loaded on first usage)
+     */
+    public static void prepareAndLoadRatings() {
+        getBaseRatings();
+    }
+
+    private static Map<String, Integer> getBaseRatings() {
+        Map<String, Integer> ratings = baseRatings;
+        if (ratings == null) {
+            synchronized (RateCard.class) {
+                ratings = baseRatings;
+                if (ratings == null) {
+                    ratings = Collections.unmodifiableMap(loadRatings());
+                    baseRatings = ratings;
+                }
+            }
         }
+        return ratings;
     }
 
     /**
      * reads the list of sets that have ratings csv files and read each file
      */
-    public synchronized static void prepareAndLoadRatings() {
-        if (isLoaded) {
-            return;
-        }
+    private static Map<String, Integer> loadRatings() {
+        Map<String, Integer> ratings = new HashMap<>();
 
         // load sets list
         List<String> setsToLoad = new LinkedList<>();
@@ -320,19 +334,19 @@ public final class RateCard {
             for (String code : setsToLoad) {
                 //log.info("Reading ratings for the set " + code);
                 rateFile = RATINGS_DIR + code + ".csv";
-                readFromFile(rateFile);
+                readFromFile(rateFile, ratings);
             }
         } catch (Exception e) {
             log.error("Failed to read ratings set file: " + rateFile, e);
         }
 
-        isLoaded = true;
+        return ratings;
     }
 
     /**
      * reads ratings from the file
      */
-    private synchronized static void readFromFile(String path) {
+    private static void readFromFile(String path, Map<String, Integer> ratings) {
         // card must get max rating from multiple cards
         Integer min = Integer.MAX_VALUE, max = 0;
         Map<String, Integer> thisFileRatings = new HashMap<>();
@@ -362,9 +376,9 @@ public final class RateCard {
             int r = ratingByName.getValue();
             String name = ratingByName.getKey();
             int newRating = (int) (100.0f * (r - min) / (max - min));
-            int oldRating = baseRatings.getOrDefault(name, 0);
+            int oldRating = ratings.getOrDefault(name, 0);
             if (newRating > oldRating) {
-                baseRatings.put(name, newRating);
+                ratings.put(name, newRating);
             }
         }
     }
@@ -402,7 +416,7 @@ public final class RateCard {
     }
 
     private static int getManaCostScore(String name, int manaValue, List<String> manaCostSymbols, List<ColoredManaSymbol> allowedColors) {
-        if (allowedColors.isEmpty()) {
+        if (allowedColors == null || allowedColors.isEmpty()) {
             int colorPenalty = 0;
             for (String symbol : manaCostSymbols) {
                 if (isColoredMana(symbol)) {
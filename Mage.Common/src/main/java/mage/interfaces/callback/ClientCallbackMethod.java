@@ -16,6 +16,9 @@ public enum ClientCallbackMethod {
     SHOW_USERMESSAGE(ClientCallbackType.MESSAGE, "showUserMessage"),
     SERVER_MESSAGE(ClientCallbackType.MESSAGE, "serverMessage"),
 
+    // lobby
+    ROOM_UPDATE(ClientCallbackType.MESSAGE, "roomUpdate"), // lobby changes, client checks versions itself
+
     // table
     JOINED_TABLE(ClientCallbackType.TABLE_CHANGE, "joinedTable"),
 
@@ -0,0 +1,39 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+
+/**
+ * Network: reader for data from {@link CompactObjectOutputStream}
+ */
+public class CompactObjectInputStream extends ObjectInputStream {
+
+    public CompactObjectInputStream(InputStream in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        // stream contains class name only, so use local class info
+        return ObjectStreamClass.lookupAny(findClass(readUTF()));
+    }
+
+    @Override
+    protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        return findClass(desc.getName());
+    }
+
+    private static Class<?> findClass(String className) throws ClassNotFoundException {
+        try {
+            return Class.forName(className, false, CompactObjectInputStream.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+            if (contextLoader == null) {
+                throw e;
+            }
+            return Class.forName(className, false, contextLoader);
+        }
+    }
+}
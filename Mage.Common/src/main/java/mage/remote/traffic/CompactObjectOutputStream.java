@@ -0,0 +1,41 @@
+package mage.remote.traffic;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Network: compact java serialization for client-server data, must be read by {@link CompactObjectInputStream}
+ * <p>
+ * Differences from default serialization:
+ * - class descriptors contain class name only (client and server must use same version, so fields info is useless);
+ * - equal strings and UUIDs are written once per message (rules text, card names, set codes, ids, etc).
+ */
+public class CompactObjectOutputStream extends ObjectOutputStream {
+
+    // message's dictionary, contains first written instance of each value
+    private final Map<Object, Object> values = new HashMap<>();
+
+    public CompactObjectOutputStream(OutputStream out) throws IOException {
+        super(out);
+        enableReplaceObject(true);
+    }
+
+    @Override
+    protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+    }
+
+    @Override
+    protected Object replaceObject(Object obj) throws IOException {
+        // same instance will be written as a link to the first one
+        if (obj instanceof String || obj instanceof UUID) {
+            return values.computeIfAbsent(obj, k -> k);
+        }
+        return obj;
+    }
+}
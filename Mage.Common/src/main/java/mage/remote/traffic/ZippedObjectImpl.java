@@ -12,14 +12,22 @@ import java.util.zip.GZIPOutputStream;
 /**
  * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
+ * <p>
+ * Compact mode uses {@link CompactObjectOutputStream}. Mode is stored with the data, so receiver supports both formats.
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
     private byte[] data;
+    private boolean compact;
 
     public ZippedObjectImpl(T object) {
+        this(object, false);
+    }
+
+    public ZippedObjectImpl(T object, boolean compact) {
+        this.compact = compact;
         zip(object);
     }
 
@@ -27,7 +35,7 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         try {
             ByteArrayOutputStream bos = new ByteArrayOutputStream();
             GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
+            ObjectOutputStream oos = compact ? new CompactObjectOutputStream(gz) : new ObjectOutputStream(gz);
             oos.writeObject(object);
             oos.close();
             data = bos.toByteArray();
@@ -41,7 +49,7 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         try {
             ByteArrayInputStream bis = new ByteArrayInputStream(data);
             GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
+            ObjectInputStream ois = compact ? new CompactObjectInputStream(gz) : new ObjectInputStream(gz);
             Object o = ois.readObject();
             return (T)o;
         } catch (Exception e) {
@@ -50,5 +58,9 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
         return null;
     }
 
+    public boolean isCompact() {
+        return compact;
+    }
+
     private static final long serialVersionUID = 1L;
 }
@@ -14,8 +14,14 @@ public final class CompressUtil {
     private static final String NO_COMPRESS_DATA_PROPERTY = "xmage.network.nocompress";
     private static final boolean compressData;
 
+    // disable compact data encoding (use default java serialization), add java param like -Dxmage.network.nocompact
+    // client and server must have same version on connect, so client can read any data format
+    private static final String NO_COMPACT_DATA_PROPERTY = "xmage.network.nocompact";
+    private static final boolean compactData;
+
     static {
         compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
+        compactData = System.getProperty(NO_COMPACT_DATA_PROPERTY) == null;
     }
 
     public static Object decompress(Object data) {
@@ -27,7 +33,7 @@ public final class CompressUtil {
 
     public static Object compress(Object data) {
         if (data != null && compressData) {
-            return new ZippedObjectImpl<>(data);
+            return new ZippedObjectImpl<>(data, compactData);
         }
         return data;
     }
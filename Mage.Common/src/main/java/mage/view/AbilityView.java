@@ -2,6 +2,7 @@ package mage.view;
 
 import mage.ObjectColor;
 import mage.abilities.Ability;
+import mage.util.StateHashUtil;
 import mage.util.SubTypes;
 
 import java.util.ArrayList;
@@ -43,4 +44,10 @@ public class AbilityView extends CardView {
         this.name = name;
     }
 
+    @Override
+    public long getSyncHash() {
+        long hash = StateHashUtil.combine(super.getSyncHash(), this.sourceName);
+        return StateHashUtil.combine(hash, this.sourceCard == null ? 0 : this.sourceCard.getSyncHash());
+    }
+
 }
@@ -42,6 +42,7 @@ import mage.target.Target;
 import mage.target.Targets;
 import mage.util.CardUtil;
 import mage.util.ManaUtil;
+import mage.util.StateHashUtil;
 import mage.util.SubTypes;
 
 import java.util.*;
@@ -1608,4 +1609,99 @@ public class CardView extends SimpleCardView {
     public String getIdName() {
         return getName() + " [" + getId().toString().substring(0, 3) + ']';
     }
+
+    /**
+     * Network: hash of all data that client can see, so unchanged views can be skipped (see {@link GameViewDiffs})
+     * <p>
+     * Warning, don't forget to add new fields here and in the subclasses
+     */
+    public long getSyncHash() {
+        long hash = StateHashUtil.hash(this.id);
+        hash = StateHashUtil.combine(hash, this.expansionSetCode);
+        hash = StateHashUtil.combine(hash, this.cardNumber);
+        hash = StateHashUtil.combine(hash, this.usesVariousArt);
+        hash = StateHashUtil.combine(hash, this.gameObject);
+        hash = StateHashUtil.combine(hash, this.isChoosable);
+        hash = StateHashUtil.combine(hash, this.isSelected);
+
+        hash = StateHashUtil.combine(hash, this.parentId);
+        hash = StateHashUtil.combine(hash, this.name);
+        hash = StateHashUtil.combine(hash, this.displayName);
+        hash = StateHashUtil.combine(hash, this.displayFullName);
+        hash = StateHashUtil.combine(hash, this.rules);
+        hash = StateHashUtil.combine(hash, this.power);
+        hash = StateHashUtil.combine(hash, this.toughness);
+        hash = StateHashUtil.combine(hash, this.loyalty);
+        hash = StateHashUtil.combine(hash, this.defense);
+        hash = StateHashUtil.combine(hash, this.startingLoyalty);
+        hash = StateHashUtil.combine(hash, this.startingDefense);
+        hash = StateHashUtil.combine(hash, this.cardTypes);
+        hash = StateHashUtil.combine(hash, this.subTypes);
+        hash = StateHashUtil.combine(hash, this.superTypes);
+        hash = StateHashUtil.combine(hash, this.color);
+        hash = StateHashUtil.combine(hash, this.frameColor);
+        hash = StateHashUtil.combine(hash, this.frameStyle);
+        hash = StateHashUtil.combine(hash, this.manaCostLeftStr);
+        hash = StateHashUtil.combine(hash, this.manaCostRightStr);
+        hash = StateHashUtil.combine(hash, this.manaValue);
+        hash = StateHashUtil.combine(hash, this.rarity);
+
+        hash = StateHashUtil.combine(hash, this.mageObjectType);
+        hash = StateHashUtil.combine(hash, this.isAbility);
+        hash = StateHashUtil.combine(hash, this.abilityType);
+        hash = StateHashUtil.combine(hash, this.isToken);
+        hash = StateHashUtil.combine(hash, this.ability == null ? 0 : this.ability.getSyncHash());
+        hash = StateHashUtil.combine(hash, this.imageFileName);
+        hash = StateHashUtil.combine(hash, this.imageNumber);
+
+        hash = StateHashUtil.combine(hash, this.extraDeckCard);
+        hash = StateHashUtil.combine(hash, this.transformable);
+        hash = StateHashUtil.combine(hash, this.secondCardFace == null ? 0 : this.secondCardFace.getSyncHash());
+        hash = StateHashUtil.combine(hash, this.transformed);
+        hash = StateHashUtil.combine(hash, this.flipCard);
+        hash = StateHashUtil.combine(hash, this.faceDown);
+        hash = StateHashUtil.combine(hash, this.alternateName);
+
+        hash = StateHashUtil.combine(hash, this.isSplitCard);
+        hash = StateHashUtil.combine(hash, this.leftSplitName);
+        hash = StateHashUtil.combine(hash, this.leftSplitCostsStr);
+        hash = StateHashUtil.combine(hash, this.leftSplitRules);
+        hash = StateHashUtil.combine(hash, this.leftSplitTypeLine);
+        hash = StateHashUtil.combine(hash, this.rightSplitName);
+        hash = StateHashUtil.combine(hash, this.rightSplitCostsStr);
+        hash = StateHashUtil.combine(hash, this.rightSplitRules);
+        hash = StateHashUtil.combine(hash, this.rightSplitTypeLine);
+        hash = StateHashUtil.combine(hash, this.isModalDoubleFacedCard);
+        hash = StateHashUtil.combine(hash, this.artRect);
+
+        hash = StateHashUtil.combine(hash, this.targets);
+        hash = StateHashUtil.combine(hash, this.pairedCard);
+        hash = StateHashUtil.combine(hash, this.bandedCards);
+        hash = StateHashUtil.combine(hash, this.paid);
+        if (this.counters != null) {
+            for (CounterView counter : this.counters) {
+                hash = StateHashUtil.combine(StateHashUtil.combine(hash, counter.getName()), counter.getCount());
+            }
+        }
+        hash = StateHashUtil.combine(hash, this.controlledByOwner);
+        hash = StateHashUtil.combine(hash, this.zone);
+        hash = StateHashUtil.combine(hash, this.rotate);
+        hash = StateHashUtil.combine(hash, this.hideInfo);
+        hash = StateHashUtil.combine(hash, this.canAttack);
+        hash = StateHashUtil.combine(hash, this.canBlock);
+        hash = StateHashUtil.combine(hash, this.inViewerOnly);
+        if (this.cardIcons != null) {
+            for (CardIcon icon : this.cardIcons) {
+                hash = StateHashUtil.combine(hash, icon.getIconType());
+                hash = StateHashUtil.combine(hash, icon.getText());
+                hash = StateHashUtil.combine(hash, icon.getHint());
+            }
+        }
+
+        hash = StateHashUtil.combine(hash, this.originalPower == null ? 0 : this.originalPower.getValue());
+        hash = StateHashUtil.combine(hash, this.originalToughness == null ? 0 : this.originalToughness.getValue());
+        hash = StateHashUtil.combine(hash, this.originalColorIdentity);
+        hash = StateHashUtil.combine(hash, this.originalIsCopy);
+        return hash;
+    }
 }
@@ -2,6 +2,7 @@
 
 package mage.view;
 
+import java.util.Map;
 import java.util.UUID;
 import mage.cards.Card;
 import mage.game.ExileZone;
@@ -26,6 +27,12 @@ public class ExileView extends CardsView {
         }
     }
 
+    public ExileView(ExileZone exileZone, Map<UUID, CardView> cardViews) {
+        this.name = exileZone.getName();
+        this.id = exileZone.getId();
+        this.putAll(cardViews);
+    }
+
     public String getName() {
         return name;
     }
@@ -63,18 +63,29 @@ public class GameView implements Serializable {
     private boolean special = false;
     private final boolean rollbackTurnsAllowed;
 
+    // network: incremental updates support, see GameViewDiffs
+    private int syncVersion = 0; // key frame version (0 for non synced views like replays)
+    private boolean syncDiff = false; // true if unchanged cards must be restored from the key frame
+
     // for debug only
     // TODO: implement and support in admin tools
     private int totalErrorsCount;
     private int totalEffectsCount;
 
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
+        this(state, game, createdForPlayerId, watcherUserId, new ZoneViewsCache());
+    }
+
+    /**
+     * @param zoneViewsCache client's session cache for graveyards and exile zones
+     */
+    public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId, ZoneViewsCache zoneViewsCache) {
         Player createdForPlayer = null;
         this.priorityTime = game.getPriorityTime();
         this.bufferTime = game.getBufferTime();
 
         for (Player player : state.getPlayers().values()) {
-            PlayerView playerView = new PlayerView(player, state, game, createdForPlayerId, watcherUserId);
+            PlayerView playerView = new PlayerView(player, state, game, createdForPlayerId, watcherUserId, zoneViewsCache);
             players.add(playerView);
             if (player.getId().equals(createdForPlayerId)) {
                 createdForPlayer = player;
@@ -166,10 +177,10 @@ public class GameView implements Serializable {
         }
 
         for (ExileZone exileZone : state.getExile().getExileZones()) {
-            exiles.add(new ExileView(exileZone, game, createdForPlayerId));
+            exiles.add(new ExileView(exileZone, zoneViewsCache.getExileZone(exileZone, game, createdForPlayerId)));
         }
         for (String name : state.getRevealed().keySet()) {
-            revealed.add(new RevealedView(name, state.getRevealed().get(name), game));
+            revealed.add(new RevealedView(name, zoneViewsCache.getRevealed("revealed-" + name, state.getRevealed().get(name), game)));
         }
         if (this.myPlayerId != null) {
             for (String name : state.getLookedAt(this.myPlayerId).keySet()){
@@ -179,7 +190,7 @@ public class GameView implements Serializable {
         for (String name : state.getCompanion().keySet()) {
             // Only show the companion window when the companion is still outside the game.
             if (state.getCompanion().get(name).stream().anyMatch(cardId -> state.getZone(cardId) == Zone.OUTSIDE)) {
-                companion.add(new RevealedView(name, state.getCompanion().get(name), game));
+                companion.add(new RevealedView(name, zoneViewsCache.getRevealed("companion-" + name, state.getCompanion().get(name), game)));
             }
         }
         this.phase = state.getTurnPhaseType();
@@ -351,6 +362,19 @@ public class GameView implements Serializable {
         return gson.toJson(this);
     }
 
+    public int getSyncVersion() {
+        return this.syncVersion;
+    }
+
+    public boolean isSyncDiff() {
+        return this.syncDiff;
+    }
+
+    public void setSyncInfo(int syncVersion, boolean syncDiff) {
+        this.syncVersion = syncVersion;
+        this.syncDiff = syncDiff;
+    }
+
     public int getTotalErrorsCount() {
         return this.totalErrorsCount;
     }
@@ -0,0 +1,177 @@
+package mage.view;
+
+import org.apache.log4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Network: incremental game view updates
+ * <p>
+ * Server sends full game view (key frame) on game init and after each KEY_FRAME_INTERVAL updates. All other
+ * updates contain changed cards only: unchanged cards (same data as in the key frame) are sent as null values,
+ * so client must restore it from the last key frame before usage. Client can restore data from any update after
+ * the key frame, so it works with wrong messages order too. Data without own key frame (e.g. lost messages)
+ * can't be restored, so client must ignore it and request full game view from server.
+ */
+public final class GameViewDiffs {
+
+    private static final Logger logger = Logger.getLogger(GameViewDiffs.class);
+
+    // key frame also works as full resync on version mismatch (e.g. after lost messages)
+    public static final int KEY_FRAME_INTERVAL = 20;
+
+    // unique versions for all encoders, so client can't restore data from a key frame of another encoder
+    private static final AtomicInteger KEY_FRAME_VERSIONS = new AtomicInteger();
+
+    private GameViewDiffs() {
+    }
+
+    /**
+     * Find all cards lists that can be synced, e.g. hand, battlefield or graveyard
+     *
+     * @return list name -> cards
+     */
+    private static Map<String, Map<UUID, CardView>> collectCards(GameView gameView) {
+        Map<String, Map<UUID, CardView>> res = new HashMap<>();
+        res.put("hand", gameView.getMyHand());
+        res.put("stack", gameView.getStack());
+        for (ExileView exileView : gameView.getExile()) {
+            res.put("exile-" + exileView.getId(), exileView);
+        }
+        for (PlayerView playerView : gameView.getPlayers()) {
+            String prefix = "player-" + playerView.getPlayerId() + "-";
+            res.put(prefix + "battlefield", (Map) playerView.getBattlefield());
+            res.put(prefix + "graveyard", playerView.getGraveyard());
+            res.put(prefix + "exile", playerView.getExile());
+            res.put(prefix + "sideboard", playerView.getSideboard());
+        }
+        return res;
+    }
+
+    /**
+     * Server side: one encoder per client's game session
+     */
+    public static class Encoder {
+
+        private int keyFrameVersion = 0; // 0 - no key frame yet
+        private int updatesAfterKeyFrame = 0;
+        private boolean needKeyFrame = true;
+        private Map<String, Map<UUID, Long>> keyFrameHashes = new HashMap<>();
+
+        /**
+         * Force full game view on next update (e.g. client reconnect)
+         */
+        public synchronized void reset() {
+            this.needKeyFrame = true;
+        }
+
+        /**
+         * Prepare game view to send, warning: it will change the view's data
+         */
+        public synchronized GameView encode(GameView gameView) {
+            Map<String, Map<UUID, CardView>> allCards = collectCards(gameView);
+            if (this.needKeyFrame || this.updatesAfterKeyFrame >= KEY_FRAME_INTERVAL) {
+                this.keyFrameVersion = KEY_FRAME_VERSIONS.incrementAndGet();
+                this.updatesAfterKeyFrame = 0;
+                this.needKeyFrame = false;
+                this.keyFrameHashes = new HashMap<>();
+                allCards.forEach((listName, cards) -> {
+                    Map<UUID, Long> hashes = new HashMap<>();
+                    cards.forEach((cardId, cardView) -> hashes.put(cardId, cardView.getSyncHash()));
+                    this.keyFrameHashes.put(listName, hashes);
+                });
+                gameView.setSyncInfo(this.keyFrameVersion, false);
+                return gameView;
+            }
+
+            this.updatesAfterKeyFrame++;
+            for (Map.Entry<String, Map<UUID, CardView>> list : allCards.entrySet()) {
+                Map<UUID, Long> hashes = this.keyFrameHashes.get(list.getKey());
+                if (hashes == null) {
+                    continue;
+                }
+                for (Map.Entry<UUID, CardView> card : list.getValue().entrySet()) {
+                    Long keyFrameHash = hashes.get(card.getKey());
+                    if (keyFrameHash != null && keyFrameHash == card.getValue().getSyncHash()) {
+                        card.setValue(null);
+                    }
+                }
+            }
+            // must be marked as diff even without unchanged cards, so client will keep the real key frame
+            gameView.setSyncInfo(this.keyFrameVersion, true);
+            return gameView;
+        }
+    }
+
+    /**
+     * Client side: one decoder for all games
+     */
+    public static class Decoder {
+
+        private final Map<UUID, GameView> keyFrames = new HashMap<>(); // game id -> last key frame
+        private final Map<UUID, Integer> resyncVersions = new HashMap<>(); // game id -> last unrestored sync version
+        private final Set<UUID> resyncRequests = new HashSet<>();
+
+        /**
+         * Restore full game view from server's data, warning: it will change the view's data
+         *
+         * @return null if view can't be restored (e.g. lost key frame), so client must ignore it and request a resync
+         */
+        public synchronized GameView decode(UUID gameId, GameView gameView) {
+            if (gameView.getSyncVersion() == 0) {
+                // not synced data like replays
+                return gameView;
+            }
+            if (!gameView.isSyncDiff()) {
+                this.keyFrames.put(gameId, gameView);
+                this.resyncVersions.remove(gameId);
+                this.resyncRequests.remove(gameId);
+                return gameView;
+            }
+
+            GameView keyFrame = this.keyFrames.get(gameId);
+            if (keyFrame == null || keyFrame.getSyncVersion() != gameView.getSyncVersion()) {
+                return onMismatch(gameId, gameView);
+            }
+
+            Map<String, Map<UUID, CardView>> keyFrameCards = collectCards(keyFrame);
+            for (Map.Entry<String, Map<UUID, CardView>> list : collectCards(gameView).entrySet()) {
+                Map<UUID, CardView> keyFrameList = keyFrameCards.getOrDefault(list.getKey(), Collections.emptyMap());
+                for (Map.Entry<UUID, CardView> card : list.getValue().entrySet()) {
+                    if (card.getValue() == null) {
+                        CardView keyFrameCard = keyFrameList.get(card.getKey());
+                        if (keyFrameCard == null) {
+                            return onMismatch(gameId, gameView);
+                        }
+                        card.setValue(keyFrameCard);
+                    }
+                }
+            }
+            gameView.setSyncInfo(gameView.getSyncVersion(), false);
+            return gameView;
+        }
+
+        private GameView onMismatch(UUID gameId, GameView gameView) {
+            Integer prevVersion = this.resyncVersions.put(gameId, gameView.getSyncVersion());
+            if (prevVersion == null || prevVersion != gameView.getSyncVersion()) {
+                logger.warn("Can't restore game view, wait for full update (possible reason: slow connection or reconnect)");
+                this.resyncRequests.add(gameId);
+            }
+            return null;
+        }
+
+        /**
+         * Client must request full game view after unrestored data (returns true once per server's key frame)
+         */
+        public synchronized boolean takeResyncRequest(UUID gameId) {
+            return this.resyncRequests.remove(gameId);
+        }
+
+        public synchronized void clear() {
+            this.keyFrames.clear();
+            this.resyncVersions.clear();
+            this.resyncRequests.clear();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import mage.game.Game;
 import mage.game.Table;
@@ -186,4 +187,33 @@ public class MatchView implements Serializable {
     public boolean isRated() {
         return rated;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MatchView that = (MatchView) o;
+        return Objects.equals(tableId, that.tableId)
+                && Objects.equals(matchId, that.matchId)
+                && Objects.equals(matchName, that.matchName)
+                && Objects.equals(gameType, that.gameType)
+                && Objects.equals(deckType, that.deckType)
+                && Objects.equals(games, that.games)
+                && Objects.equals(result, that.result)
+                && Objects.equals(players, that.players)
+                && Objects.equals(startTime, that.startTime)
+                && Objects.equals(endTime, that.endTime)
+                && replayAvailable == that.replayAvailable
+                && isTournament == that.isTournament
+                && rated == that.rated;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, matchId, matchName, gameType, deckType, games, result, players, startTime, endTime, replayAvailable, isTournament, rated);
+    }
 }
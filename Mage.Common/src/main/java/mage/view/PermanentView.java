@@ -6,6 +6,7 @@ import mage.game.permanent.Permanent;
 import mage.game.permanent.PermanentToken;
 import mage.players.Player;
 import mage.util.CardUtil;
+import mage.util.StateHashUtil;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -230,4 +231,28 @@ public class PermanentView extends CardView {
     public boolean isCloaked() {
         return cloaked;
     }
+
+    @Override
+    public long getSyncHash() {
+        long hash = super.getSyncHash();
+        hash = StateHashUtil.combine(hash, this.tapped);
+        hash = StateHashUtil.combine(hash, this.flipped);
+        hash = StateHashUtil.combine(hash, this.phasedIn);
+        hash = StateHashUtil.combine(hash, this.summoningSickness);
+        hash = StateHashUtil.combine(hash, this.damage);
+        hash = StateHashUtil.combine(hash, this.attachments);
+        hash = StateHashUtil.combine(hash, this.original == null ? 0 : this.original.getSyncHash());
+        hash = StateHashUtil.combine(hash, this.copy);
+        hash = StateHashUtil.combine(hash, this.nameOwner);
+        hash = StateHashUtil.combine(hash, this.nameController);
+        hash = StateHashUtil.combine(hash, this.controlled);
+        hash = StateHashUtil.combine(hash, this.attachedTo);
+        hash = StateHashUtil.combine(hash, this.morphed);
+        hash = StateHashUtil.combine(hash, this.disguised);
+        hash = StateHashUtil.combine(hash, this.manifested);
+        hash = StateHashUtil.combine(hash, this.cloaked);
+        hash = StateHashUtil.combine(hash, this.attachedToPermanent);
+        hash = StateHashUtil.combine(hash, this.attachedControllerDiffers);
+        return hash;
+    }
 }
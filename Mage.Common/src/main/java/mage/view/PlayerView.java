@@ -61,6 +61,10 @@ public class PlayerView implements Serializable {
     private final List<String> designationNames = new ArrayList<>();
 
     public PlayerView(Player player, GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
+        this(player, state, game, createdForPlayerId, watcherUserId, new ZoneViewsCache());
+    }
+
+    public PlayerView(Player player, GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId, ZoneViewsCache zoneViewsCache) {
         this.playerId = player.getId();
         this.name = player.getName();
         this.controlled = player.getId().equals(createdForPlayerId);
@@ -81,13 +85,12 @@ public class PlayerView implements Serializable {
                 || player.getId().equals(game.getState().getChoosingPlayerId());
 
         this.hasLeft = player.hasLeft();
-        for (Card card : player.getGraveyard().getCards(game)) {
-            graveyard.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
-        }
+        graveyard.putAll(zoneViewsCache.getGraveyard(player, game, createdForPlayerId));
         for (ExileZone exileZone : game.getExile().getExileZones()) {
+            Map<UUID, CardView> exileViews = zoneViewsCache.getExileZone(exileZone, game, createdForPlayerId);
             for (Card card : exileZone.getCards(game)) {
-                if (player.getId().equals(card.getOwnerId())) {
-                    exile.put(card.getId(), new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
+                if (player.getId().equals(card.getOwnerId()) && exileViews.containsKey(card.getId())) {
+                    exile.put(card.getId(), exileViews.get(card.getId()));
                 }
             }
         }
@@ -3,6 +3,8 @@
 package mage.view;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.UUID;
 
 import mage.cards.Card;
 import mage.cards.Cards;
@@ -20,11 +22,20 @@ public class RevealedView implements Serializable {
     public RevealedView(String name, Cards cards, Game game) {
         this.name = name;
         for (Card card : cards.getCards(game)) {
-            if (card instanceof PermanentCard && card.isFaceDown(game)) {
-                this.cards.put(card.getId(), new CardView(card.getMainCard())); // do not use game param, so it will take default card
-            } else {
-                this.cards.put(card.getId(), new CardView(card, game));
-            }
+            this.cards.put(card.getId(), createCardView(card, game));
+        }
+    }
+
+    public RevealedView(String name, Map<UUID, CardView> cardViews) {
+        this.name = name;
+        this.cards.putAll(cardViews);
+    }
+
+    static CardView createCardView(Card card, Game game) {
+        if (card instanceof PermanentCard && card.isFaceDown(game)) {
+            return new CardView(card.getMainCard()); // do not use game param, so it will take default card
+        } else {
+            return new CardView(card, game);
         }
     }
 
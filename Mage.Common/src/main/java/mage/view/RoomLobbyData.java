@@ -0,0 +1,128 @@
+package mage.view;
+
+import java.util.*;
+
+/**
+ * Network: client side lobby data from full lists and server's push updates (see {@link RoomUpdateView})
+ * <p>
+ * Full lists have no version, so client must remember lobby version before each request. Full lists
+ * are used in polling mode (old servers) and as a base for push updates only: on first update and on
+ * lost updates it needs new full lists, all other full lists can be outdated and will be ignored.
+ * Push updates received while waiting new lists will be applied to it again.
+ */
+public class RoomLobbyData {
+
+    private final UUID roomId;
+
+    private volatile int version = 0; // last applied push update, 0 - polling mode
+    private int fullListsVersion = 0; // full lists must be requested after that version, 0 - no needs in full lists
+    private boolean fullListsRequestNeeded = false;
+    private final List<RoomUpdateView> updatesForFullLists = new ArrayList<>();
+
+    private final Map<UUID, TableView> tables = new LinkedHashMap<>();
+    private int matchesVersion = 0;
+    private int roomUsersVersion = 0;
+
+    public RoomLobbyData(UUID roomId) {
+        this.roomId = roomId;
+    }
+
+    /**
+     * Lobby version for full lists requests (can be called from any thread)
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public boolean isPushUpdatesActive() {
+        return version > 0;
+    }
+
+    public Collection<TableView> getTables() {
+        return tables.values();
+    }
+
+    /**
+     * @return false on outdated or another room's update (it was ignored)
+     */
+    public boolean applyUpdate(RoomUpdateView update) {
+        if (!roomId.equals(update.getRoomId()) || update.getVersion() <= version) {
+            return false;
+        }
+
+        if (version == 0 || update.getVersion() != version + 1) {
+            // first or lost updates (e.g. slow connection), so current lists can miss some changes
+            fullListsVersion = update.getVersion();
+            fullListsRequestNeeded = true;
+            updatesForFullLists.clear();
+        }
+        version = update.getVersion();
+
+        applyTablesChanges(update);
+        if (update.getFinishedMatches() != null) {
+            matchesVersion = version;
+        }
+        if (update.getRoomUsers() != null) {
+            roomUsersVersion = version;
+        }
+        if (fullListsVersion > 0) {
+            updatesForFullLists.add(update);
+        }
+        return true;
+    }
+
+    /**
+     * Full lists must be requested after the update (returns true once)
+     */
+    public boolean takeFullListsRequest() {
+        boolean res = fullListsRequestNeeded;
+        fullListsRequestNeeded = false;
+        return res;
+    }
+
+    /**
+     * @param requestVersion lobby version before the request
+     * @return false on outdated data (it was ignored)
+     */
+    public boolean applyTables(Collection<TableView> newTables, int requestVersion) {
+        if (version > 0 && (fullListsVersion == 0 || requestVersion < fullListsVersion)) {
+            return false;
+        }
+
+        tables.clear();
+        newTables.forEach(table -> tables.put(table.getTableId(), table));
+
+        // server can send the lists before some of the updates
+        for (RoomUpdateView update : updatesForFullLists) {
+            if (update.getVersion() > requestVersion) {
+                applyTablesChanges(update);
+            }
+        }
+        updatesForFullLists.clear();
+        fullListsVersion = 0;
+        return true;
+    }
+
+    /**
+     * Finished matches are sent as full list, so it can be used until newer update only
+     *
+     * @param requestVersion lobby version before the request
+     */
+    public boolean canApplyMatches(int requestVersion) {
+        return matchesVersion <= requestVersion;
+    }
+
+    /**
+     * Room users are sent as full list, so it can be used until newer update only
+     *
+     * @param requestVersion lobby version before the request
+     */
+    public boolean canApplyRoomUsers(int requestVersion) {
+        return roomUsersVersion <= requestVersion;
+    }
+
+    private void applyTablesChanges(RoomUpdateView update) {
+        update.getChangedTables().forEach(table -> tables.put(table.getTableId(), table));
+        update.getRemovedTables().forEach(tables::remove);
+    }
+}
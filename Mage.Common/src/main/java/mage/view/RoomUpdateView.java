@@ -0,0 +1,70 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Network: lobby changes since the previous update of the room
+ * <p>
+ * Server sends it to lobby's users on each lobby change, so clients don't need to poll full lists.
+ * Each update has version number, client must use full lists fetch on first update and on version gap
+ * (e.g. after reconnect), see {@link RoomLobbyData}.
+ */
+public class RoomUpdateView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID roomId;
+    private final int version;
+
+    private final List<TableView> changedTables = new ArrayList<>(); // new and changed tables
+    private final List<UUID> removedTables = new ArrayList<>();
+    private List<MatchView> finishedMatches = null; // null - unchanged
+    private List<RoomUsersView> roomUsers = null; // null - unchanged
+
+    public RoomUpdateView(UUID roomId, int version) {
+        this.roomId = roomId;
+        this.version = version;
+    }
+
+    public UUID getRoomId() {
+        return roomId;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public List<TableView> getChangedTables() {
+        return changedTables;
+    }
+
+    public List<UUID> getRemovedTables() {
+        return removedTables;
+    }
+
+    public List<MatchView> getFinishedMatches() {
+        return finishedMatches;
+    }
+
+    public void setFinishedMatches(List<MatchView> finishedMatches) {
+        this.finishedMatches = finishedMatches;
+    }
+
+    public List<RoomUsersView> getRoomUsers() {
+        return roomUsers;
+    }
+
+    public void setRoomUsers(List<RoomUsersView> roomUsers) {
+        this.roomUsers = roomUsers;
+    }
+
+    public boolean isEmpty() {
+        return changedTables.isEmpty()
+                && removedTables.isEmpty()
+                && finishedMatches == null
+                && roomUsers == null;
+    }
+}
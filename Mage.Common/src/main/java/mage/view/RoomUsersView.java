@@ -4,6 +4,7 @@ package mage.view;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.Objects;
 
 /**
  *
@@ -43,4 +44,23 @@ public class RoomUsersView implements Serializable {
         return usersView;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RoomUsersView that = (RoomUsersView) o;
+        return numberActiveGames == that.numberActiveGames
+                && numberGameThreads == that.numberGameThreads
+                && numberMaxGames == that.numberMaxGames
+                && Objects.equals(usersView, that.usersView);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberActiveGames, numberGameThreads, numberMaxGames, usersView);
+    }
 }
@@ -16,6 +16,7 @@ import mage.game.stack.StackObject;
 import mage.target.Target;
 import mage.target.targetpointer.TargetPointer;
 import mage.util.GameLog;
+import mage.util.StateHashUtil;
 
 import java.util.*;
 
@@ -160,4 +161,9 @@ public class StackAbilityView extends CardView {
         return abilityType;
     }
 
+    @Override
+    public long getSyncHash() {
+        return StateHashUtil.combine(super.getSyncHash(), this.sourceCard.getSyncHash());
+    }
+
 }
@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -333,4 +334,41 @@ public class TableView implements Serializable {
     public boolean isPassworded() {
         return passworded;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TableView that = (TableView) o;
+        return Objects.equals(tableId, that.tableId)
+                && Objects.equals(gameType, that.gameType)
+                && Objects.equals(deckType, that.deckType)
+                && Objects.equals(tableName, that.tableName)
+                && Objects.equals(controllerName, that.controllerName)
+                && Objects.equals(additionalInfoShort, that.additionalInfoShort)
+                && Objects.equals(additionalInfoFull, that.additionalInfoFull)
+                && Objects.equals(createTime, that.createTime)
+                && Objects.equals(tableState, that.tableState)
+                && Objects.equals(skillLevel, that.skillLevel)
+                && Objects.equals(tableStateText, that.tableStateText)
+                && Objects.equals(seatsInfo, that.seatsInfo)
+                && isTournament == that.isTournament
+                && Objects.equals(seats, that.seats)
+                && Objects.equals(games, that.games)
+                && Objects.equals(quitRatio, that.quitRatio)
+                && Objects.equals(minimumRating, that.minimumRating)
+                && limited == that.limited
+                && rated == that.rated
+                && passworded == that.passworded
+                && spectatorsAllowed == that.spectatorsAllowed;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, gameType, deckType, tableName, controllerName, additionalInfoShort, additionalInfoFull, createTime, tableState, skillLevel, tableStateText, seatsInfo, isTournament, seats, games, quitRatio, minimumRating, limited, rated, passworded, spectatorsAllowed);
+    }
 }
@@ -2,6 +2,7 @@
 package mage.view;
 
 import java.io.Serializable;
+import java.util.Objects;
 
 /**
  *
@@ -82,4 +83,31 @@ public class UsersView implements Serializable {
     public int getLimitedRating() {
         return limitedRating;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        UsersView that = (UsersView) o;
+        return Objects.equals(flagName, that.flagName)
+                && Objects.equals(userName, that.userName)
+                && Objects.equals(matchHistory, that.matchHistory)
+                && matchQuitRatio == that.matchQuitRatio
+                && Objects.equals(tourneyHistory, that.tourneyHistory)
+                && tourneyQuitRatio == that.tourneyQuitRatio
+                && Objects.equals(infoGames, that.infoGames)
+                && Objects.equals(infoPing, that.infoPing)
+                && generalRating == that.generalRating
+                && constructedRating == that.constructedRating
+                && limitedRating == that.limitedRating;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flagName, userName, matchHistory, matchQuitRatio, tourneyHistory, tourneyQuitRatio, infoGames, infoPing, generalRating, constructedRating, limitedRating);
+    }
 }
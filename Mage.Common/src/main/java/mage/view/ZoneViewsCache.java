@@ -0,0 +1,145 @@
+package mage.view;
+
+import mage.cards.Card;
+import mage.cards.Cards;
+import mage.cards.VersionedCards;
+import mage.counters.Counter;
+import mage.game.CardState;
+import mage.game.ExileZone;
+import mage.game.Game;
+import mage.players.Player;
+import mage.util.CardUtil;
+import mage.util.StateHashUtil;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Game views: cached cards views of rarely changed zones (graveyards, exile zones, revealed cards)
+ * <p>
+ * Game view contains all graveyards and exile zones and it builds on each game update, but these zones
+ * change rarely compared to battlefield. Zone's cards views are reused while zone keeps the same version
+ * (see {@link VersionedCards}) and cards keep the same states. Cards hints can use other zones, so
+ * views also rebuild on any zone changes, battlefield or stack size changes, players life or hand size
+ * changes and on each new step. Other data (e.g. permanents P/T) can be outdated in hints until that.
+ * <p>
+ * Cards views depend on the player (controlled or not), so use one cache per client's session.
+ * Views data is shared between game views, so it must be copied to own lists (network sync changes it).
+ */
+public class ZoneViewsCache {
+
+    private static final int MAX_CACHED_ZONES = 200;
+
+    private final Map<String, CachedZone> zones = new LinkedHashMap<String, CachedZone>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedZone> eldest) {
+            return size() > MAX_CACHED_ZONES; // too many exile zones in long games
+        }
+    };
+
+    private int hits = 0;
+    private int misses = 0;
+
+    private static class CachedZone {
+
+        private final long version;
+        private final long stateHash;
+        private final Map<UUID, CardView> views;
+
+        private CachedZone(long version, long stateHash, Map<UUID, CardView> views) {
+            this.version = version;
+            this.stateHash = stateHash;
+            this.views = views;
+        }
+    }
+
+    public Map<UUID, CardView> getGraveyard(Player player, Game game, UUID createdForPlayerId) {
+        return getCards("graveyard-" + player.getId(), player.getGraveyard(), game,
+                card -> new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
+    }
+
+    public Map<UUID, CardView> getExileZone(ExileZone exileZone, Game game, UUID createdForPlayerId) {
+        return getCards("exile-" + exileZone.getId(), exileZone, game,
+                card -> new CardView(card, game, CardUtil.canShowAsControlled(card, createdForPlayerId)));
+    }
+
+    /**
+     * Revealed and companion cards (same views for all players)
+     */
+    public Map<UUID, CardView> getRevealed(String zoneKey, Cards cards, Game game) {
+        return getCards(zoneKey, cards, game, card -> RevealedView.createCardView(card, game));
+    }
+
+    private synchronized Map<UUID, CardView> getCards(String zoneKey, Cards cards, Game game, Function<Card, CardView> viewMaker) {
+        if (!(cards instanceof VersionedCards)) {
+            // unknown zone, can't find changes
+            misses++;
+            return createViews(cards, game, viewMaker);
+        }
+
+        long version = ((VersionedCards) cards).getVersion();
+        long stateHash = getStateHash(cards, game);
+        CachedZone cached = zones.get(zoneKey);
+        if (cached != null && cached.version == version && cached.stateHash == stateHash) {
+            hits++;
+            return cached.views;
+        }
+
+        misses++;
+        Map<UUID, CardView> views = createViews(cards, game, viewMaker);
+        zones.put(zoneKey, new CachedZone(version, stateHash, views));
+        return views;
+    }
+
+    private static Map<UUID, CardView> createViews(Cards cards, Game game, Function<Card, CardView> viewMaker) {
+        Map<UUID, CardView> views = new LinkedHashMap<>();
+        for (Card card : cards.getCards(game)) {
+            views.put(card.getId(), viewMaker.apply(card));
+        }
+        return Collections.unmodifiableMap(views);
+    }
+
+    /**
+     * Cheap info about zone's cards and other game data that can be used by cards views (rules, hints)
+     */
+    private static long getStateHash(Cards cards, Game game) {
+        long hash = StateHashUtil.combine(game.getState().getTurnNum(), game.getState().getTurnStepType());
+        hash = StateHashUtil.combine(hash, game.getState().getStack().size());
+        hash = StateHashUtil.combine(hash, game.getState().getBattlefield().getAllPermanents().size());
+        long zonesHash = 0;
+        for (Player player : game.getState().getPlayers().values()) {
+            zonesHash += StateHashUtil.mix(player.getGraveyard().getVersion());
+            // players info for hints like "you have less life than..." or "cards in hand"
+            zonesHash += StateHashUtil.combine(StateHashUtil.hash(player.getId()),
+                    ((long) player.getLife() << 32) + player.getHand().size());
+        }
+        for (ExileZone exileZone : game.getState().getExile().getExileZones()) {
+            zonesHash += StateHashUtil.mix(exileZone.getVersion());
+        }
+        hash = StateHashUtil.combine(hash, zonesHash);
+
+        long cardsHash = 0;
+        for (UUID cardId : cards) {
+            CardState cardState = game.getState().getCardState(cardId);
+            long cardHash = StateHashUtil.hash(cardId);
+            cardHash = StateHashUtil.combine(cardHash, cardState.isFaceDown());
+            cardHash = StateHashUtil.combine(cardHash, cardState.hasLostAllAbilities());
+            cardHash = StateHashUtil.combine(cardHash, cardState.getAbilities().size());
+            cardHash = StateHashUtil.combine(cardHash, cardState.getInfo());
+            long countersHash = 0;
+            for (Counter counter : cardState.getCounters().values()) {
+                countersHash += StateHashUtil.combine(StateHashUtil.item(counter.getName()), counter.getCount());
+            }
+            cardsHash += StateHashUtil.combine(cardHash, countersHash);
+        }
+        return StateHashUtil.combine(hash, cardsHash);
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+}
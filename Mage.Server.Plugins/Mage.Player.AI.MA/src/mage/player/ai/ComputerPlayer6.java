@@ -31,6 +31,7 @@ import mage.target.TargetAmount;
 import mage.target.TargetCard;
 import mage.util.CardUtil;
 import mage.util.RandomUtil;
+import mage.util.TranspositionTable;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
@@ -52,6 +53,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
     // TODO: increase maxNodes due AI skill level like max depth?
     private static final int MAX_SIMULATED_NODES_PER_CALC = 5000;
     private static final int MAX_SIMULATED_NODES_PER_ERROR = 5100; // TODO: debug only, set low value to find big calculations
+    private static final int SIMULATION_FINISH_TIME_MS = 500; // part of think time to stop simulation and return its result
 
     // same params as Executors.newFixedThreadPool
     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
@@ -66,6 +68,8 @@ public class ComputerPlayer6 extends ComputerPlayer {
     protected int maxDepth;
     protected int maxNodes;
     protected int maxThinkTimeSecs;
+    private long simulatedNodesTotal = 0; // stats
+    private long simulationTimeMsTotal = 0; // stats
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
     protected List<String> choices = new ArrayList<>();
@@ -205,18 +209,16 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.trace("Add Action [" + depth + "] " + node.getAbilities().toString() + "  a: " + alpha + " b: " + beta);
         }
         Game game = node.getGame();
-        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                && Thread.interrupted()) {
-            Thread.currentThread().interrupt();
+        if (isSimulationStopped(node)) {
             logger.debug("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getCount() > maxNodes
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -300,10 +302,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            logger.trace("Sim getNextAction -- game value:" + game.getState().getStateHash(true) + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && game.getState().getStateHash(true) == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -311,7 +313,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (game.getState().getStateHash(true) != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -334,10 +336,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getCount() > maxNodes) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -409,7 +411,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -424,22 +426,72 @@ public class ComputerPlayer6 extends ComputerPlayer {
         game.getPlayerList().setCurrent(game.getActivePlayerId());
     }
 
+    private synchronized void addSimulationStats(SimulationContext context) {
+        this.simulatedNodesTotal += context.getNodeCount();
+        this.simulationTimeMsTotal += context.getThinkTimeMs();
+        if (logger.isDebugEnabled()) {
+            logger.debug("AI simulation for " + getName() + " - " + context
+                    + " (total nodes/sec: " + getSimulationNodesPerSecond() + ")");
+        }
+    }
+
+    /**
+     * AI performance stats: nodes/sec for all simulations of the player
+     */
+    public synchronized long getSimulationNodesPerSecond() {
+        return this.simulatedNodesTotal * 1000L / Math.max(1, this.simulationTimeMsTotal);
+    }
+
+    /**
+     * Stop simulation on timeout and use current best result
+     */
+    private boolean isSimulationStopped(SimulationNode2 node) {
+        if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
+            return false;
+        }
+        if (Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        return node.getContext().isThinkTimeOver();
+    }
+
     /**
      * Base call for simulation of AI actions
      *
      * @return
      */
     protected Integer addActionsTimed() {
+        int maxSeconds = maxThinkTimeSecs;
+        if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
+            maxSeconds = 3600;
+        }
+        logger.debug("maxThink: " + maxSeconds + " seconds ");
+
         // run new game simulation in parallel thread
-        FutureTask<Integer> task = new FutureTask<>(() -> addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        // simulation threads shared between all AI players, so it uses one deadline for queue and think time
+        // and AI player never waits longer than max think time (simulation stops itself a bit before it
+        // to return current best result)
+        SimulationContext context = root.getContext();
+        long maxTimeMs = TimeUnit.SECONDS.toMillis(maxSeconds);
+        long deadlineMs = System.currentTimeMillis() + maxTimeMs;
+        long thinkDeadlineMs = deadlineMs - Math.min(SIMULATION_FINISH_TIME_MS, maxTimeMs / 2);
+        FutureTask<Integer> task = new FutureTask<>(() -> {
+            context.start(thinkDeadlineMs);
+            try {
+                return addActions(root, maxDepth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            } finally {
+                context.finish();
+                addSimulationStats(context);
+            }
+        });
         threadPoolSimulations.execute(task);
         try {
-            int maxSeconds = maxThinkTimeSecs;
-            if (COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS) {
-                maxSeconds = 3600;
+            if (!context.waitStart(thinkDeadlineMs - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("AI simulation waited too long for free simulation thread, player: " + getName());
+                throw new TimeoutException();
             }
-            logger.debug("maxThink: " + maxSeconds + " seconds ");
-            Integer res = task.get(maxSeconds, TimeUnit.SECONDS);
+            Integer res = task.get(Math.max(0, deadlineMs - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
             if (res != null) {
                 return res;
             }
@@ -466,13 +518,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
     }
 
     protected int simulatePriority(SimulationNode2 node, Game game, int depth, int alpha, int beta) {
-        if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                && Thread.interrupted()) {
-            Thread.currentThread().interrupt();
+        if (isSimulationStopped(node)) {
             logger.info("interrupted");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getStateHash(true));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -495,11 +545,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
+        TranspositionTable simulatedPositions = new TranspositionTable(); // repeated positions for possible actions
         for (Ability action : allActions) {
             actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS
-                    && Thread.interrupted()) {
-                Thread.currentThread().interrupt();
+            if (isSimulationStopped(node)) {
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
                 break;
             }
@@ -522,6 +571,12 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 }
                 SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
                 sim.checkStateAndTriggered();
+                if (!simulatedPositions.add(sim)) {
+                    // same position as after another action (e.g. same land or another copy of the card), no need to simulate it again
+                    logger.debug("Sim Prio [" + depth + "] -- repeated position: " + action);
+                    node.getContext().incrementRepeatedPositions();
+                    continue;
+                }
                 int finalScore;
                 if (action instanceof PassAbility && sim.getStack().isEmpty()) {
                     // no more next actions, it's a final score
@@ -677,10 +732,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+                if (node.getCount() > MAX_SIMULATED_NODES_PER_ERROR) {
                     throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getCount() > maxNodes) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -689,7 +744,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + node.getCount());
         }
         if (bestNode != null) {
             node.children.clear();
@@ -0,0 +1,97 @@
+package mage.player.ai;
+
+import java.io.Serializable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI: data for one simulation of one AI player (nodes counter, think time limit and stats)
+ * <p>
+ * All AI players share same simulation threads, so simulation can wait in the queue before start.
+ * Think time starts on real simulation start and ends on player's deadline, so waiting in the queue
+ * doesn't increase player's total wait time.
+ */
+public class SimulationContext implements Serializable {
+
+    private final AtomicInteger nodeCount = new AtomicInteger();
+    private final AtomicInteger repeatedPositions = new AtomicInteger(); // pruned by same state hash
+    private final transient CountDownLatch started = new CountDownLatch(1);
+    private final long createdTimeMs;
+    private volatile long startTimeMs = 0;
+    private volatile long finishTimeMs = 0;
+    private volatile long thinkDeadlineMs = Long.MAX_VALUE;
+
+    public SimulationContext() {
+        this.createdTimeMs = System.currentTimeMillis();
+    }
+
+    public int incrementNodeCount() {
+        return nodeCount.incrementAndGet();
+    }
+
+    public int getNodeCount() {
+        return nodeCount.get();
+    }
+
+    public int incrementRepeatedPositions() {
+        return repeatedPositions.incrementAndGet();
+    }
+
+    public int getRepeatedPositions() {
+        return repeatedPositions.get();
+    }
+
+    /**
+     * Simulation thread: start think time
+     *
+     * @param thinkDeadlineMs simulation must be stopped after that time (queue time is a part of think time limit)
+     */
+    public void start(long thinkDeadlineMs) {
+        this.thinkDeadlineMs = thinkDeadlineMs;
+        this.startTimeMs = System.currentTimeMillis();
+        this.started.countDown();
+    }
+
+    public void finish() {
+        this.finishTimeMs = System.currentTimeMillis();
+    }
+
+    /**
+     * AI player thread: wait for free simulation thread
+     *
+     * @return false on too long waiting
+     */
+    public boolean waitStart(long timeout, TimeUnit unit) throws InterruptedException {
+        return this.started.await(timeout, unit);
+    }
+
+    /**
+     * Simulation must be stopped and use current best result
+     */
+    public boolean isThinkTimeOver() {
+        return this.startTimeMs > 0
+                && System.currentTimeMillis() > this.thinkDeadlineMs;
+    }
+
+    public long getQueueTimeMs() {
+        return this.startTimeMs == 0 ? 0 : this.startTimeMs - this.createdTimeMs;
+    }
+
+    public long getThinkTimeMs() {
+        if (this.startTimeMs == 0) {
+            return 0;
+        }
+        return (this.finishTimeMs == 0 ? System.currentTimeMillis() : this.finishTimeMs) - this.startTimeMs;
+    }
+
+    public long getNodesPerSecond() {
+        return getNodeCount() * 1000L / Math.max(1, getThinkTimeMs());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("nodes: %d, repeated positions: %d, think time: %d ms, queue time: %d ms, nodes/sec: %d",
+                getNodeCount(), getRepeatedPositions(), getThinkTimeMs(), getQueueTimeMs(), getNodesPerSecond());
+    }
+}
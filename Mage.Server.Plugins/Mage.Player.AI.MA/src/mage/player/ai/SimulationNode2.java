@@ -15,10 +15,9 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
-
+    protected final SimulationContext context; // same for all nodes of the simulation tree
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state hash to monitor changes
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -29,13 +28,25 @@ public class SimulationNode2 implements Serializable {
     protected UUID playerId;
     protected Combat combat;
 
+    /**
+     * Root node of the new simulation
+     */
+    public SimulationNode2(SimulationContext context, Game game, int depth, UUID playerId) {
+        this(null, context, game, depth, playerId);
+    }
+
     public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent, parent == null ? new SimulationContext() : parent.context, game, depth, playerId);
+    }
+
+    private SimulationNode2(SimulationNode2 parent, SimulationContext context, Game game, int depth, UUID playerId) {
         this.parent = parent;
+        this.context = context;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
         game.setCustomData(this);
-        nodeCount++;
+        context.incrementNodeCount();
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,23 +60,26 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    public SimulationContext getContext() {
+        return this.context;
     }
 
-    public static int getCount() {
-        return nodeCount;
+    /**
+     * Nodes count in the whole simulation tree
+     */
+    public int getCount() {
+        return this.context.getNodeCount();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
@@ -2684,12 +2684,14 @@ public class ComputerPlayer extends PlayerImpl {
 
     protected void addBlockSimulations(List<Permanent> blockers, TreeNode<CombatSimulator> node, Game game) {
         int numGroups = node.getData().groups.size();
-        Copier<CombatSimulator> copier = new Copier<>();
         for (Permanent blocker : blockers) {
             List<Permanent> subList = remove(blockers, blocker);
             for (int i = 0; i < numGroups; i++) {
                 if (node.getData().groups.get(i).canBlock(blocker, game)) {
-                    CombatSimulator combat = copier.copy(node.getData());
+                    CombatSimulator combat = node.getData().copy();
+                    if (DebugUtil.GAME_COPY_VERIFY_WITH_SERIALIZATION) {
+                        new Copier<CombatSimulator>().verifyCopy(node.getData(), combat);
+                    }
                     combat.groups.get(i).blockers.add(new CreatureSimulator(blocker));
                     TreeNode<CombatSimulator> child = new TreeNode<>(combat);
                     node.addChild(child);
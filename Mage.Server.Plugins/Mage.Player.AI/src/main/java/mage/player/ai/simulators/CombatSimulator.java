@@ -5,6 +5,7 @@ import mage.game.Game;
 import mage.game.combat.CombatGroup;
 import mage.game.permanent.Permanent;
 import mage.players.Player;
+import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.*;
@@ -14,7 +15,7 @@ import java.util.Map.Entry;
  *
  * @author BetaSteward_at_googlemail.com
  */
-public class CombatSimulator implements Serializable {
+public class CombatSimulator implements Serializable, Copyable<CombatSimulator> {
 
     public List<CombatGroupSimulator> groups = new ArrayList<>();
     public List<UUID> defenders = new ArrayList<>();
@@ -44,6 +45,22 @@ public class CombatSimulator implements Serializable {
 
     public CombatSimulator() {}
 
+    protected CombatSimulator(final CombatSimulator simCombat) {
+        for (CombatGroupSimulator group : simCombat.groups) {
+            this.groups.add(group.copy());
+        }
+        this.defenders.addAll(simCombat.defenders);
+        this.playersLife.putAll(simCombat.playersLife);
+        this.planeswalkerLoyalty.putAll(simCombat.planeswalkerLoyalty);
+        this.attackerId = simCombat.attackerId;
+        this.rating = simCombat.rating;
+    }
+
+    @Override
+    public CombatSimulator copy() {
+        return new CombatSimulator(this);
+    }
+
     public void clear() {
         groups.clear();
         defenders.clear();
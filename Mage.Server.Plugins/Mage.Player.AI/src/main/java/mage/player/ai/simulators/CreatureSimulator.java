@@ -6,6 +6,7 @@ import mage.abilities.keyword.TrampleAbility;
 import mage.filter.common.FilterCreaturePermanent;
 import mage.game.Game;
 import mage.game.permanent.Permanent;
+import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.List;
@@ -15,7 +16,7 @@ import java.util.UUID;
  *
  * @author BetaSteward_at_googlemail.com
  */
-public class CreatureSimulator implements Serializable {
+public class CreatureSimulator implements Serializable, Copyable<CreatureSimulator> {
     public UUID id;
     public int damage;
     public int power;
@@ -36,6 +37,22 @@ public class CreatureSimulator implements Serializable {
         this.permanent = permanent;
     }
 
+    protected CreatureSimulator(final CreatureSimulator creature) {
+        this.id = creature.id;
+        this.damage = creature.damage;
+        this.power = creature.power;
+        this.toughness = creature.toughness;
+        this.hasFirstStrike = creature.hasFirstStrike;
+        this.hasDoubleStrike = creature.hasDoubleStrike;
+        this.hasTrample = creature.hasTrample;
+        this.permanent = creature.permanent; // read only, no needs in copy
+    }
+
+    @Override
+    public CreatureSimulator copy() {
+        return new CreatureSimulator(this);
+    }
+
     public boolean isDead() {
         return damage >= toughness;
     }
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -30,18 +31,23 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     private static final int THINK_MAX_RATIO = 100;
     private static final double THINK_TIME_MULTIPLIER = 2.0;
     private static final boolean USE_MULTIPLE_THREADS = true;
+    private static final int THINK_TIME_EXTRA_SECS = 5; // max waiting time for last simulations after think time
+    private static final int DEFAULT_MAX_PLAYOUTS = 0; // playouts limit per one decision, 0 - use think time only
 
     protected transient MCTSNode root;
     protected int maxThinkTime;
+    protected int maxPlayouts;
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
     private int poolSize;
 
     private ExecutorService threadPoolSimulations = null;
+    private transient Object treeLock; // search tree's lock, same for all search threads
 
     public ComputerPlayerMCTS(String name, RangeOfInfluence range, int skill) {
         super(name, range);
         human = false;
         maxThinkTime = (int) (skill * THINK_TIME_MULTIPLIER);
+        maxPlayouts = DEFAULT_MAX_PLAYOUTS;
         poolSize = Runtime.getRuntime().availableProcessors();
     }
 
@@ -51,6 +57,9 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
 
     public ComputerPlayerMCTS(final ComputerPlayerMCTS player) {
         super(player);
+        this.maxThinkTime = player.maxThinkTime;
+        this.maxPlayouts = player.maxPlayouts;
+        this.poolSize = player.poolSize;
     }
 
     @Override
@@ -58,6 +67,23 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         return new ComputerPlayerMCTS(this);
     }
 
+    /**
+     * Playouts limit per one decision (search ends on think time or playouts limit)
+     *
+     * @param maxPlayouts 0 - use think time only
+     */
+    public void setMaxPlayouts(int maxPlayouts) {
+        this.maxPlayouts = maxPlayouts;
+    }
+
+    private Object getTreeLock() {
+        // game thread only (lock must be created before search threads start)
+        if (treeLock == null) {
+            treeLock = new Object();
+        }
+        return treeLock;
+    }
+
     protected String lastPhase = "";
 
     @Override
@@ -95,20 +121,24 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             root = new MCTSNode(playerId, sim);
         }
         applyMCTS(game, action);
-        if (root != null && root.bestChild() != null) {
-            root = root.bestChild();
-            root.emancipate();
+        synchronized (getTreeLock()) {
+            if (root != null && root.bestChild() != null) {
+                root = root.bestChild();
+                root.emancipate();
+            }
         }
     }
 
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
-            if (newRoot != null) {
-                newRoot.emancipate();
-            } else
-                logger.info("unable to find matching state");
+            synchronized (getTreeLock()) {
+                newRoot = root.getMatchingState(game.getState().getStateHash(game, playerId));
+                if (newRoot != null) {
+                    newRoot.emancipate();
+                } else
+                    logger.info("unable to find matching state");
+            }
             root = newRoot;
         }
         calculateActions(game, nextAction);
@@ -163,6 +193,15 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         int thinkTime = calculateThinkTime(game, action);
 
         if (thinkTime > 0) {
+            // tree parallel search: all threads work with same tree (see MCTSExecutor)
+            // search ends on think time or playouts limit
+            long endTime = System.nanoTime() + TimeUnit.SECONDS.toNanos(thinkTime);
+            AtomicInteger playoutsLeft = new AtomicInteger(maxPlayouts > 0 ? maxPlayouts : Integer.MAX_VALUE);
+            List<MCTSExecutor> tasks = new ArrayList<>();
+            for (int i = 0; i < (USE_MULTIPLE_THREADS ? poolSize : 1); i++) {
+                tasks.add(new MCTSExecutor(root, playerId, getTreeLock(), endTime, playoutsLeft));
+            }
+
             if (USE_MULTIPLE_THREADS) {
                 if (this.threadPoolSimulations == null) {
                     // same params as Executors.newFixedThreadPool
@@ -177,21 +216,17 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     );
                 }
 
-                List<MCTSExecutor> tasks = new ArrayList<>();
-                for (int i = 0; i < poolSize; i++) {
-                    Game sim = createMCTSGame(game);
-                    MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
-                    player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
-                    tasks.add(exec);
+                List<Future<Boolean>> runningTasks = new ArrayList<>();
+                for (MCTSExecutor task : tasks) {
+                    runningTasks.add(threadPoolSimulations.submit(task));
                 }
-
                 try {
-                    List<Future<Boolean>> runningTasks = threadPoolSimulations.invokeAll(tasks, thinkTime, TimeUnit.SECONDS);
+                    // search threads check think time itself, so wait a bit longer for last simulations
+                    long waitEndTime = endTime + TimeUnit.SECONDS.toNanos(THINK_TIME_EXTRA_SECS);
                     for (Future<Boolean> runningTask : runningTasks) {
-                        runningTask.get();
+                        runningTask.get(Math.max(0, waitEndTime - System.nanoTime()), TimeUnit.NANOSECONDS);
                     }
-                } catch (InterruptedException | CancellationException e) {
+                } catch (TimeoutException | InterruptedException | CancellationException e) {
                     logger.warn("applyMCTS timeout");
                 } catch (ExecutionException e) {
                     // real games: must catch and log
@@ -199,53 +234,26 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     if (this.isTestsMode()) {
                         throw new IllegalStateException("One of the simulated games raise the error: " + e, e);
                     }
+                } finally {
+                    // move selection must use finished tree only, so stop all search threads and wait for it
+                    tasks.forEach(MCTSExecutor::stop);
+                    tasks.forEach(MCTSExecutor::awaitFinish);
                 }
-
-                int simCount = 0;
-                for (MCTSExecutor task : tasks) {
-                    simCount += task.getSimCount();
-                    root.merge(task.getRoot());
-                    task.clear();
-                }
-                tasks.clear();
-                totalThinkTime += thinkTime;
-                totalSimulations += simCount;
-                logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
-                logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
-                MCTSNode.logHitMiss();
             } else {
-                long startTime = System.nanoTime();
-                long endTime = startTime + (thinkTime * 1000000000l);
-                MCTSNode current;
-                int simCount = 0;
-                while (true) {
-                    long currentTime = System.nanoTime();
-                    if (currentTime > endTime)
-                        break;
-                    current = root;
-
-                    // Selection
-                    while (!current.isLeaf()) {
-                        current = current.select(this.playerId);
-                    }
+                tasks.get(0).call();
+            }
 
-                    int result;
-                    if (!current.isTerminal()) {
-                        // Expansion
-                        current.expand();
-
-                        // Simulation
-                        current = current.select(this.playerId);
-                        result = current.simulate(this.playerId);
-                        simCount++;
-                    } else {
-                        result = current.isWinner(this.playerId) ? 1 : -1;
-                    }
-                    // Backpropagation
-                    current.backpropagate(result);
-                }
-                logger.info("Simulated " + simCount + " games - nodes in tree: " + root.size());
+            int simCount = 0;
+            for (MCTSExecutor task : tasks) {
+                simCount += task.getSimCount();
+                task.clear();
             }
+            tasks.clear();
+            totalThinkTime += thinkTime;
+            totalSimulations += simCount;
+            logger.info("Player: " + name + " Simulated " + simCount + " games in " + thinkTime + " seconds - nodes in tree: " + root.size());
+            logger.info("Total: Simulated " + totalSimulations + " games in " + totalThinkTime + " seconds - Average: " + totalSimulations / totalThinkTime);
+            MCTSNode.logHitMiss();
 //            displayMemory();
         }
 
@@ -301,7 +309,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         for (Player copyPlayer : mcts.getState().getPlayers().values()) {
             Player origPlayer = game.getState().getPlayers().get(copyPlayer.getId());
             MCTSPlayer newPlayer = new MCTSPlayer(copyPlayer.getId());
-            newPlayer.restore(origPlayer);
+            newPlayer.restore(origPlayer.getRealPlayer()); // real player for unit tests
             newPlayer.setMatchPlayer(origPlayer.getMatchPlayer());
             if (!newPlayer.getId().equals(playerId)) {
                 int handSize = newPlayer.getHand().size();
@@ -1,66 +1,151 @@
-
 package mage.player.ai;
 
 import java.util.UUID;
 import java.util.concurrent.Callable;
-import mage.game.Game;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.log4j.Logger;
 
 /**
+ * AI: one worker of the tree parallel search
+ * <p>
+ * All workers use same tree. Selection and backpropagation are synced by tree lock, expansion
+ * and simulation run in parallel. Each worker adds virtual loss on selected path until result
+ * backpropagation, so other workers will explore other nodes.
+ * <p>
+ * Search can be stopped by stop() at any time, simulated games check it on each priority
+ * (see SimulatedPlayerMCTS), so use awaitFinish() before any tree usage.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class MCTSExecutor implements Callable<Boolean> {
 
     protected transient MCTSNode root;
-    protected int thinkTime;
     protected UUID playerId;
     protected int simCount;
 
+    private final Object treeLock;
+    private final long endTime; // nanos
+    private final AtomicInteger playoutsLeft; // shared between all workers
+    private volatile boolean stopped = false;
+    private Thread worker = null; // current search thread, used by stop
+    private final CountDownLatch finished = new CountDownLatch(1);
+
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    /**
+     * @param root         search tree, same for all workers
+     * @param treeLock     lock for tree statistics, same for all workers
+     * @param endTime      search end time (System.nanoTime)
+     * @param playoutsLeft playouts budget, same for all workers
+     */
+    public MCTSExecutor(MCTSNode root, UUID playerId, Object treeLock, long endTime, AtomicInteger playoutsLeft) {
+        this.root = root;
         this.playerId = playerId;
-        this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        this.treeLock = treeLock;
+        this.endTime = endTime;
+        this.playoutsLeft = playoutsLeft;
     }
 
     @Override
     public Boolean call() {
+        synchronized (this) {
+            worker = Thread.currentThread();
+        }
+        try {
+            search();
+        } finally {
+            synchronized (this) {
+                worker = null;
+            }
+            // thread can be interrupted by stop, so clear it before return to the pool
+            Thread.interrupted();
+            finished.countDown();
+        }
+        return true;
+    }
+
+    private void search() {
         simCount = 0;
         MCTSNode current;
 
-
-        while (true) {
-            current = root;
+        while (!stopped
+                && System.nanoTime() < endTime
+                && playoutsLeft.getAndDecrement() > 0
+                && !Thread.currentThread().isInterrupted()) {
 
             // Selection
-            while (!current.isLeaf()) {
-                current = current.select(this.playerId);
+            synchronized (treeLock) {
+                current = root;
+                current.addVirtualLoss();
+                while (!current.isLeaf()) {
+                    current = current.select(this.playerId);
+                    current.addVirtualLoss();
+                }
             }
 
             int result;
             if (!current.isTerminal()) {
-                // Expansion
+                // Expansion (can be already expanded by another worker)
                 current.expand();
 
+                MCTSNode child;
+                synchronized (treeLock) {
+                    child = current.isLeaf() ? null : current.select(this.playerId);
+                    if (child != null) {
+                        child.addVirtualLoss();
+                    }
+                }
+
                 // only run simulations for nodes that have siblings
-                if (current.getNumChildren() > 1) {
+                if (child != null && current.getNumChildren() > 1) {
                     // Simulation
-                    current = current.select(this.playerId);
-                    result = current.simulate(this.playerId);
+                    result = child.simulate(this.playerId);
                     simCount++;
-                }
-                else {
-                    current = current.select(this.playerId);
+                } else {
                     result = 0;
                 }
+                if (child != null) {
+                    current = child;
+                }
+            } else {
+                result = current.isWinner(this.playerId) ? 1 : -1;
             }
-            else {
-                result = current.isWinner(this.playerId)?1:-1;
-            }
+
             // Backpropagation
-            current.backpropagate(result);
+            synchronized (treeLock) {
+                current.backpropagate(result, true);
+            }
+        }
+    }
+
+    /**
+     * Stop search: current simulation will be stopped on next priority without result
+     */
+    public void stop() {
+        stopped = true;
+        synchronized (this) {
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Wait until search ends (it must be started or stopped before)
+     */
+    public void awaitFinish() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
     }
 
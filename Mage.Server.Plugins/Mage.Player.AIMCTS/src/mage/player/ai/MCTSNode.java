@@ -2,12 +2,11 @@
 package mage.player.ai;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -19,6 +18,7 @@ import mage.game.combat.Combat;
 import mage.game.turn.Step.StepPart;
 import mage.players.Player;
 import mage.util.RandomUtil;
+import mage.util.TranspositionTable;
 import org.apache.log4j.Logger;
 
 /**
@@ -34,13 +34,14 @@ public class MCTSNode {
 
     private int visits = 0;
     private int wins = 0;
+    private int virtualLosses = 0; // parallel search: visits without results yet
     private MCTSNode parent;
-    private final List<MCTSNode> children = new ArrayList<>();
+    private final List<MCTSNode> children = new CopyOnWriteArrayList<>(); // parallel search: can be expanded while reading
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateHash; // state for target player (without opponents hands)
+    private final long fullStateHash;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
@@ -50,38 +51,38 @@ public class MCTSNode {
     public MCTSNode(UUID targetPlayer, Game game) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }    
 
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
         setPlayer();
         nodeCount++;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }
 
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateHash = game.getState().getStateHash(game, targetPlayer);
+        this.fullStateHash = game.getState().getStateHash(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
         nodeCount++;
-//        logger.info(this.stateValue);
+//        logger.info(this.stateHash);
     }
 
     private void setPlayer() {
@@ -105,11 +106,14 @@ public class MCTSNode {
         }
         for (MCTSNode node: children) {
             double uct;
-            if (node.visits > 0)
+            // virtual losses count as loss for any player, so other search threads will try another nodes
+            int parentVisits = visits + virtualLosses;
+            int nodeVisits = node.visits + node.virtualLosses;
+            if (nodeVisits > 0)
                 if (isTarget)
-                    uct = (node.wins / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = (node.wins / (double) nodeVisits) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / nodeVisits));
                 else
-                    uct = ((node.visits - node.wins) / (node.visits)) + (selectionCoefficient * Math.sqrt(Math.log(visits) / (node.visits)));
+                    uct = ((node.visits - node.wins) / (double) nodeVisits) + (selectionCoefficient * Math.sqrt(Math.log(parentVisits) / nodeVisits));
             else
                 // ensure that a random unvisited node is played first
                 uct = 10000 + 1000 * RandomUtil.nextDouble();
@@ -121,19 +125,41 @@ public class MCTSNode {
         return bestChild;
     }
 
-    public void expand() {
+    public synchronized void expand() {
+        if (game == null) {
+            // already expanded by another search thread
+            return;
+        }
         MCTSPlayer player = (MCTSPlayer) game.getPlayer(playerId);
         if (player.getNextAction() == null) {
             logger.fatal("next action is null");
         }
-        children.addAll(MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateValue));
+        List<MCTSNode> newChildren = MCTSNextActionFactory.createNextAction(player.getNextAction()).performNextAction(this, player, game, fullStateHash);
+        // transposition: different actions can lead to the same position (e.g. same lands or cards), search it once
+        TranspositionTable positions = new TranspositionTable();
+        for (MCTSNode child : newChildren) {
+            if (child.game == null || positions.add(child.fullStateHash, child.game)) {
+                children.add(child);
+            }
+        }
         game = null;
     }
 
     public int simulate(UUID playerId) {
 //        long startTime = System.nanoTime();
-        Game sim = createSimulation(game, playerId);
+        Game sim;
+        synchronized (this) {
+            if (game == null) {
+                // already expanded by another search thread
+                return 0;
+            }
+            sim = createSimulation(game, playerId);
+        }
         sim.resume();
+        if (Thread.currentThread().isInterrupted()) {
+            // search stopped (see MCTSExecutor.stop), so game wasn't finished
+            return 0;
+        }
 //        long duration = System.nanoTime() - startTime;
         int retVal = -1;  //anything other than a win is a loss
         for (Player simPlayer: sim.getPlayers().values()) {
@@ -147,13 +173,33 @@ public class MCTSNode {
     }
 
     public void backpropagate(int result) {
-        if (result == 0)
-            return;
-        if (result == 1)
-            wins++;
-        visits++;
+        backpropagate(result, false);
+    }
+
+    /**
+     * @param removeVirtualLoss parallel search: remove virtual loss from selected path
+     */
+    public void backpropagate(int result, boolean removeVirtualLoss) {
+        if (removeVirtualLoss && virtualLosses > 0)
+            virtualLosses--;
+        if (result != 0) {
+            if (result == 1)
+                wins++;
+            visits++;
+        }
         if (parent != null)
-            parent.backpropagate(result);
+            parent.backpropagate(result, removeVirtualLoss);
+    }
+
+    /**
+     * Parallel search: mark node as visited by search thread until result's backpropagation
+     */
+    public void addVirtualLoss() {
+        virtualLosses++;
+    }
+
+    public int getVirtualLosses() {
+        return virtualLosses;
     }
 
     public boolean isLeaf() {
@@ -222,8 +268,8 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
-        return stateValue;
+    public long getStateHash() {
+        return stateHash;
     }
 
     public double getWinRatio() {
@@ -300,13 +346,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateHash == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -315,63 +361,6 @@ public class MCTSNode {
         return null;
     }
 
-    public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
-            logger.info("mismatched merge states at root");
-            return;
-        }
-
-        this.visits += merge.visits;
-        this.wins += merge.wins;
-        int mismatchCount = 0;
-        
-        List<MCTSNode> mergeChildren = new ArrayList<>();
-        for (MCTSNode child: merge.children) {
-            mergeChildren.add(child);
-        }
-
-        for (MCTSNode child: children) {
-            for (MCTSNode mergeChild: mergeChildren) {
-                if (mergeChild.action != null && child.action != null) {
-                    if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-                else {
-                    if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
-                            mismatchCount++;
-//                            logger.info("mismatched merge states");
-//                            mergeChildren.remove(mergeChild);
-                        }
-                        else {
-                            child.merge(mergeChild);
-                            mergeChildren.remove(mergeChild);
-                        }
-                        break;
-                    }
-                }
-            }
-        }
-        if (!mergeChildren.isEmpty()) {
-            for (MCTSNode child: mergeChildren) {
-                child.parent = this;
-                children.add(child);
-            }
-        }
-//        if (mismatchCount > 0)
-//            logger.info("mismatched merge states: " + mismatchCount);
-    }
-
 //    public void print(int depth) {
 //        String indent = String.format("%1$-" + depth + "s", "");
 //        StringBuilder sb = new StringBuilder();
@@ -393,9 +382,9 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Long, CachedActions<List<Ability>>> playablesCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Long, CachedActions<List<List<UUID>>>> attacksCache = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Long, CachedActions<List<List<List<UUID>>>>> blocksCache = new ConcurrentHashMap<>();
 
     private static long playablesHit = 0;
     private static long playablesMiss = 0;
@@ -404,78 +393,74 @@ public class MCTSNode {
     private static long blocksHit = 0;
     private static long blocksMiss = 0;
 
-    protected static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
+    private static class CachedActions<T> {
+
+        private final int turnNum;
+        private final T actions;
+
+        private CachedActions(int turnNum, T actions) {
+            this.turnNum = turnNum;
+            this.actions = actions;
+        }
+    }
+
+    protected static List<Ability> getPlayables(MCTSPlayer player, long state, Game game) {
+        CachedActions<List<Ability>> cached = playablesCache.get(state);
+        if (cached != null) {
             playablesHit++;
-            return playablesCache.get(state);
+            return cached.actions;
         }
         else {
             playablesMiss++;
             List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
+            playablesCache.put(state, new CachedActions<>(game.getTurnNum(), abilities));
             return abilities;
         }
     }
 
-    protected static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
+    protected static List<List<UUID>> getAttacks(MCTSPlayer player, long state, Game game) {
+        CachedActions<List<List<UUID>>> cached = attacksCache.get(state);
+        if (cached != null) {
             attacksHit++;
-            return attacksCache.get(state);
+            return cached.actions;
         }
         else {
             attacksMiss++;
             List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
+            attacksCache.put(state, new CachedActions<>(game.getTurnNum(), attacks));
             return attacks;
         }
     }
     
-    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
+    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, long state, Game game) {
+        CachedActions<List<List<List<UUID>>>> cached = blocksCache.get(state);
+        if (cached != null) {
             blocksHit++;
-            return blocksCache.get(state);
+            return cached.actions;
         }
         else {
             blocksMiss++;
             List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
+            blocksCache.put(state, new CachedActions<>(game.getTurnNum(), blocks));
             return blocks;
         }
     }
     
     public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
+        return cleanupCache(playablesCache, turnNum)
+                + cleanupCache(attacksCache, turnNum)
+                + cleanupCache(blocksCache, turnNum);
+    }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
+    private static <T> int cleanupCache(ConcurrentHashMap<Long, CachedActions<T>> cache, int turnNum) {
+        int count = 0;
+        Iterator<CachedActions<T>> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().turnNum < turnNum) {
+                iterator.remove();
                 count++;
             }
         }
-
         return count;
     }
     
@@ -64,6 +64,11 @@ public final class SimulatedPlayerMCTS extends MCTSPlayer {
     @Override
     public boolean priority(Game game) {
 //        logger.info("priority");
+        if (Thread.currentThread().isInterrupted()) {
+            // search stopped (see MCTSExecutor.stop)
+            game.pause();
+            return false;
+        }
         boolean didSomething = false;
         Ability ability = getAction(game);
 //        logger.info("simulate " + ability.toString());
@@ -54,6 +54,8 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.*;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import static mage.constants.PlayerAction.REQUEST_AUTO_ANSWER_RESET_ALL;
@@ -91,9 +93,9 @@ public class HumanPlayer extends PlayerImpl {
     // * keep only latest income feedback (if user sends multiple clicks/choices)
     // * HumanPlayer contains "response" object for threads sync and data exchange
     // * so sync logic:
-    // * - GAME thread: open response for income command and wait (go to sleep by response.wait)
+    // * - GAME thread: open response for income command and wait (go to sleep by response.waitNewAnswer)
     // * - CALL thread: on closed response - waiting open status of player's response object (if it's too long then cancel the answer)
-    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.notifyAll
+    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.setNewAnswer
     // * - GAME thread: on notify from response - check new answer value and process it (if it bad then repeat and wait the next one);
     private transient Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
     private transient long responseLastWaitingThreadId = 0;
@@ -128,6 +130,9 @@ public class HumanPlayer extends PlayerImpl {
     protected boolean recordingMacro = false;
     protected boolean macroTriggeredSelectionFlag;
     protected boolean activatingMacro = false;
+    // locks instead synchronized/wait, so waiting thread doesn't pin carrier thread in virtual threads mode
+    private final ReentrantLock macroLock = new ReentrantLock();
+    private final Condition macroFinished = macroLock.newCondition();
 
     public HumanPlayer(String name, RangeOfInfluence range, int skill) {
         super(name, range);
@@ -272,12 +277,10 @@ public class HumanPlayer extends PlayerImpl {
                 sendPlayerAction(PlayerAction.PASS_PRIORITY_UNTIL_STACK_RESOLVED, game, null);
             }
             //waitResponseOpen(); // it's a macro action, no need it here?
-            synchronized (response) {
-                response.copyFrom(action);
-                response.notifyAll();
-                macroTriggeredSelectionFlag = false;
-                return true;
-            }
+            PlayerResponse newAnswer = action;
+            response.setNewAnswer(r -> r.copyFrom(newAnswer));
+            macroTriggeredSelectionFlag = false;
+            return true;
         }
         return false;
     }
@@ -334,14 +337,12 @@ public class HumanPlayer extends PlayerImpl {
             responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            try {
+                response.waitNewAnswer(); // start waiting a response.setNewAnswer command from CALL thread (client answer)
+            } catch (InterruptedException ignore) {
+            } finally {
+                responseOpenedForAnswer = false;
+                game.pauseTimer(getTurnControlledBy());
             }
 
             // async command: concede by any player
@@ -1371,8 +1372,11 @@ public class HumanPlayer extends PlayerImpl {
                         return false;
                     } else {
                         if (activatingMacro) {
-                            synchronized (actionQueue) {
-                                actionQueue.notifyAll();
+                            macroLock.lock();
+                            try {
+                                macroFinished.signalAll();
+                            } finally {
+                                macroLock.unlock();
                             }
                         }
                         continue;
@@ -2651,11 +2655,8 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
-            response.setString(responseString);
-            response.notifyAll();
-            logger.debug("Got response string from player: " + getId());
-        }
+        response.setNewAnswer(r -> r.setString(responseString));
+        logger.debug("Got response string from player: " + getId());
     }
 
     @Override
@@ -2663,12 +2664,11 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
-            response.setManaType(manaType);
-            response.setResponseManaPlayerId(manaTypePlayerId);
-            response.notifyAll();
-            logger.debug("Got response mana type from player: " + getId());
-        }
+        response.setNewAnswer(r -> {
+            r.setManaType(manaType);
+            r.setResponseManaPlayerId(manaTypePlayerId);
+        });
+        logger.debug("Got response mana type from player: " + getId());
     }
 
     @Override
@@ -2676,11 +2676,8 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
-            response.setUUID(responseUUID);
-            response.notifyAll();
-            logger.debug("Got response UUID from player: " + getId());
-        }
+        response.setNewAnswer(r -> r.setUUID(responseUUID));
+        logger.debug("Got response UUID from player: " + getId());
     }
 
     @Override
@@ -2688,11 +2685,8 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
-            response.setBoolean(responseBoolean);
-            response.notifyAll();
-            logger.debug("Got response boolean from player: " + getId());
-        }
+        response.setNewAnswer(r -> r.setBoolean(responseBoolean));
+        logger.debug("Got response boolean from player: " + getId());
     }
 
     @Override
@@ -2700,21 +2694,16 @@ public class HumanPlayer extends PlayerImpl {
         if (!waitResponseOpen()) {
             return;
         }
-        synchronized (response) {
-            response.setInteger(responseInteger);
-            response.notifyAll();
-            logger.debug("Got response integer from player: " + getId());
-        }
+        response.setNewAnswer(r -> r.setInteger(responseInteger));
+        logger.debug("Got response integer from player: " + getId());
     }
 
     @Override
     public void abort() {
         // abort must cancel any response and stop waiting immediately
         abort = true;
-        synchronized (response) {
-            response.notifyAll();
-            logger.debug("Got cancel action from player: " + getId());
-        }
+        response.setNewAnswer(null);
+        logger.debug("Got cancel action from player: " + getId());
     }
 
     @Override
@@ -2724,33 +2713,24 @@ public class HumanPlayer extends PlayerImpl {
         // may be executed in CALL, HEALTH, GAME and other threads
         // so make sure another player can't break/stop currently choosing player
 
-        synchronized (response) {
-            response.setAsyncWantConcede(); // tell game that it must check conceding players
-            if (stopCurrentChooseDialog) {
-                response.notifyAll(); // will force to stop a current waiting dialog (so game can continue)
-            }
-        }
+        // tell game that it must check conceding players
+        // stop dialog will force to stop a current waiting dialog (so game can continue)
+        response.setNewAnswer(PlayerResponse::setAsyncWantConcede, stopCurrentChooseDialog);
     }
 
     @Override
     public void signalPlayerCheat() {
         // waitResponseOpen(); // cheat is async event, will be processed on first player's priority
-        synchronized (response) {
-            response.setAsyncWantCheat();
-            response.notifyAll();
-            logger.debug("Set cheat for waiting player: " + getId());
-        }
+        response.setNewAnswer(PlayerResponse::setAsyncWantCheat);
+        logger.debug("Set cheat for waiting player: " + getId());
     }
 
     @Override
     public void skip() {
         // waitResponseOpen(); //skip is direct event, no need to wait it
         // TODO: can be bugged and must be reworked, see wantConcede as example?!
-        synchronized (response) {
-            response.setInteger(0);
-            response.notifyAll();
-            logger.debug("Got skip action from player: " + getId());
-        }
+        response.setNewAnswer(r -> r.setInteger(0));
+        logger.debug("Got skip action from player: " + getId());
     }
 
     @Override
@@ -2793,12 +2773,12 @@ public class HumanPlayer extends PlayerImpl {
                     activatingMacro = true;
                     recordingMacro = false;
                     actionIterations = announceRepetitions(game);
+                    macroLock.lock();
                     try {
-                        synchronized (actionQueue) {
-                            actionQueue.wait();
-                        }
+                        macroFinished.await();
                     } catch (InterruptedException ex) {
                     } finally {
+                        macroLock.unlock();
                         activatingMacro = false;
                     }
                 } else {
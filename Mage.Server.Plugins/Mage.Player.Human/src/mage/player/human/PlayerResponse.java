@@ -6,6 +6,9 @@ import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 /**
  * Network: server side data for waiting a user's response like new choice
@@ -14,7 +17,8 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by waitNewAnswer (game thread) and end by setNewAnswer (network/call thread)
+ * - uses locks instead synchronized/wait, so waiting game thread doesn't pin carrier thread in virtual threads mode
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,6 +42,9 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
     private Boolean asyncWantConcede;
     private Boolean asyncWantCheat;
 
+    private final ReentrantLock answerLock = new ReentrantLock();
+    private final Condition answerReceived = answerLock.newCondition();
+
     public PlayerResponse() {
         clear();
     }
@@ -77,6 +84,41 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
         this.asyncWantCheat = response.asyncWantCheat;
     }
 
+    /**
+     * Game thread: sleep until new answer or any other signal
+     */
+    public void waitNewAnswer() throws InterruptedException {
+        answerLock.lock();
+        try {
+            answerReceived.await();
+        } finally {
+            answerLock.unlock();
+        }
+    }
+
+    /**
+     * Network/call thread: save new answer and wake up waiting game thread
+     *
+     * @param answer can be null to wake up only
+     */
+    public void setNewAnswer(Consumer<PlayerResponse> answer) {
+        setNewAnswer(answer, true);
+    }
+
+    public void setNewAnswer(Consumer<PlayerResponse> answer, boolean wakeUpGame) {
+        answerLock.lock();
+        try {
+            if (answer != null) {
+                answer.accept(this);
+            }
+            if (wakeUpGame) {
+                answerReceived.signalAll();
+            }
+        } finally {
+            answerLock.unlock();
+        }
+    }
+
     public void clear() {
         this.activeAction = null;
         this.activeGameInfo = null;
@@ -73,6 +73,7 @@ public final class Main {
     private static final String adminPasswordArg = "-adminPassword=";
     private static final String adminPasswordProp = "xmage.adminPassword";
     private static final String configPathProp = "xmage.config.path";
+    private static final String cardsCatalogProp = "xmage.cardsCatalog"; // in-memory cards db, can be disabled for low memory servers
 
     private static final File pluginFolder = new File("plugins");
     private static final File extensionFolder = new File("extensions");
@@ -188,6 +189,13 @@ public final class Main {
 
         logger.info("Loading cards...");
         CardScanner.scan();
+        if (Boolean.parseBoolean(System.getProperty(cardsCatalogProp, "true"))) {
+            CardRepository.instance.enableCatalog();
+        }
+        logger.info("Done.");
+
+        logger.info("Loading card ratings...");
+        RateCard.prepareAndLoadRatings();
         logger.info("Done.");
 
         // cards preload with ratings
@@ -247,6 +255,7 @@ public final class Main {
         logger.info("Config - server address:   " + config.getServerAddress());
         logger.info("Config - server port:      " + config.getPort());
         logger.info("Config - max game threads: " + config.getMaxGameThreads());
+        logger.info("Config - virtual threads : " + (Boolean.TRUE.equals(config.isUseVirtualThreads()) ? "true" : "false"));
         logger.info("Config - max seconds idle: " + config.getMaxSecondsIdle());
         logger.info("Config - max AI opponents: " + config.getMaxAiOpponents());
         logger.info("Config - min usr name le.: " + config.getMinUserNameLength());
@@ -26,14 +26,13 @@ import mage.server.managers.ManagerFactory;
 import mage.util.MultiAmountMessage;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
-import mage.utils.StreamUtils;
 import mage.utils.timer.PriorityTimer;
 import mage.view.*;
 import mage.view.ChatMessage.MessageColor;
 import mage.view.ChatMessage.MessageType;
 import org.apache.log4j.Logger;
 
-import java.io.*;
+import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.*;
@@ -41,7 +40,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -66,6 +64,7 @@ public class GameController implements GameCallback {
 
     private final ConcurrentMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
+    private final GameWatchersView watchersView; // shared data for all watchers
 
     private final ConcurrentMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
@@ -82,6 +81,7 @@ public class GameController implements GameCallback {
     private UUID userRequestingRollback;
     private int turnsToRollback;
     private int requestsOpen;
+    private GameReplayRecorder replayRecorder = null; // replays support, writes game states during the game
 
     public GameController(ManagerFactory managerFactory, Game game, ConcurrentMap<UUID, UUID> userPlayerMap, UUID tableId, UUID choosingPlayerId, GameOptions gameOptions) {
         this.managerFactory = managerFactory;
@@ -92,7 +92,12 @@ public class GameController implements GameCallback {
         chatId = managerFactory.chatManager().createChatSession("Game " + game.getId());
         this.userRequestingRollback = null;
         this.game = game;
+        this.watchersView = new GameWatchersView(game);
         this.game.setSaveGame(managerFactory.configSettings().isSaveGameActivated());
+        if (this.game.isSaveGame()) {
+            this.replayRecorder = new GameReplayRecorder(game.getId());
+            this.game.setReplayRecorder(this.replayRecorder);
+        }
         this.tableId = tableId;
         this.choosingPlayerId = choosingPlayerId;
         this.gameOptions = gameOptions;
@@ -110,6 +115,10 @@ public class GameController implements GameCallback {
         getGameSessionWatchers().forEach(GameSessionWatcher::cleanUp);
 
         managerFactory.chatManager().destroyChatSession(chatId);
+
+        if (replayRecorder != null) {
+            replayRecorder.close();
+        }
     }
 
     private void init() {
@@ -468,7 +477,7 @@ public class GameController implements GameCallback {
             return false;
         }
         managerFactory.userManager().getUser(userId).ifPresent(user -> {
-            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false);
+            GameSessionWatcher gameWatcher = new GameSessionWatcher(managerFactory.userManager(), userId, game, false, watchersView);
             final Lock w = gameWatchersLock.writeLock();
             w.lock();
             try {
@@ -522,6 +531,9 @@ public class GameController implements GameCallback {
         // * game change commands must be executed by game thread (example: undo)
         // * user change commands can be executed by network thread??? (example: change skip settings)
         //SystemUtil.ensureRunInGameThread();
+        if (playerAction != PlayerAction.RESYNC_GAME_VIEW) {
+            dialogAnswered(userId);
+        }
         switch (playerAction) {
             case UNDO:
                 game.undo(getPlayerId(userId));
@@ -653,6 +665,14 @@ public class GameController implements GameCallback {
                     viewDeckOrSideboard(getPlayerId(userId), userId, targetPlayerId, true);
                 }
                 break;
+            case RESYNC_GAME_VIEW: {
+                UUID playerId = getPlayerId(userId);
+                GameSessionWatcher gameSession = playerId == null ? watchers.get(userId) : gameSessions.get(playerId);
+                if (gameSession != null) {
+                    gameSession.resync();
+                }
+                break;
+            }
             default:
                 game.sendPlayerAction(playerAction, getPlayerId(userId), data);
         }
@@ -769,6 +789,7 @@ public class GameController implements GameCallback {
             gameSession.gameOver(message);
             gameSession.removeGame();
         }
+        watchersView.invalidate();
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
             gameWatcher.gameOver(message);
         }
@@ -822,6 +843,7 @@ public class GameController implements GameCallback {
         for (final GameSessionPlayer gameSession : getGameSessions()) {
             gameSession.update();
         }
+        watchersView.invalidate();
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
             gameWatcher.update();
         }
@@ -917,6 +939,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message.toString());
             }
         }
+        watchersView.invalidate();
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
             watcher.inform(message.toString());
         }
@@ -938,6 +961,7 @@ public class GameController implements GameCallback {
                 entry.getValue().inform(message);
             }
         }
+        watchersView.invalidate();
         for (final GameSessionWatcher watcher : getGameSessionWatchers()) {
             watcher.inform(message);
         }
@@ -981,25 +1005,10 @@ public class GameController implements GameCallback {
     }
 
     public boolean saveGame() {
-        OutputStream file = null;
-        ObjectOutput output = null;
-        OutputStream buffer = null;
-        try {
-            file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
-            buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
-            output.writeObject(game);
-            output.writeObject(game.getGameStates());
-            logger.debug("Saved game:" + game.getId());
-            return true;
-        } catch (IOException ex) {
-            logger.fatal("Cannot save game.", ex);
-        } finally {
-            StreamUtils.closeQuietly(file);
-            StreamUtils.closeQuietly(output);
-            StreamUtils.closeQuietly(buffer);
+        if (replayRecorder == null) {
+            return false;
         }
-        return false;
+        return replayRecorder.finish(game);
     }
 
     /**
@@ -1041,6 +1050,7 @@ public class GameController implements GameCallback {
      * @param command
      */
     private void sendMessage(UUID userId, Command command) {
+        dialogAnswered(userId);
         final UUID playerId = userPlayerMap.get(userId);
         // player has game under control (is not cotrolled by other player)
         Player player = game.getPlayer(playerId);
@@ -1070,6 +1080,14 @@ public class GameController implements GameCallback {
         }
     }
 
+    private void dialogAnswered(UUID userId) {
+        UUID playerId = userPlayerMap.get(userId);
+        GameSessionPlayer session = playerId == null ? null : gameSessions.get(playerId);
+        if (session != null) {
+            session.dialogAnswered();
+        }
+    }
+
     private void startResponseIdleTimeout(final UUID playerId) {
         if (!useResponseIdleTimeout) {
             return;
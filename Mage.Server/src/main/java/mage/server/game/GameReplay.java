@@ -8,16 +8,24 @@ import mage.util.CopierObjectInputStream;
 import org.apache.log4j.Logger;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
+import java.io.RandomAccessFile;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.zip.GZIPInputStream;
 
 /**
- * Replay system, outdated and not used. TODO: delete
+ * Replay system: reads replay file from GameReplayRecorder
+ * <p>
+ * File can contain hundreds of states, so it keeps positions of the states only and loads each state on demand.
+ * Old replays ("gameId.game" files with the game and all states) are loaded as before.
  *
  * @author BetaSteward_at_googlemail.com
  */
@@ -25,13 +33,23 @@ public class GameReplay {
 
     private static final Logger logger = Logger.getLogger(GameReplay.class);
 
-    private final GameStates savedGame;
+    private final UUID gameId;
+    private final List<Long> statePositions = new ArrayList<>(); // state index -> data position in the file
+    private GameStates legacyStates = null; // old replays only
     private final Game game;
     private int stateIndex;
 
     public GameReplay(UUID gameId) {
-        this.game = loadGame(gameId);
-        this.savedGame = game.getGameStates();
+        this.gameId = gameId;
+        if (!Files.exists(GameReplayRecorder.getReplayFile(gameId)) && Files.exists(getLegacyReplayFile(gameId))) {
+            this.game = loadLegacyGame();
+        } else {
+            this.game = loadGame();
+        }
+    }
+
+    private static Path getLegacyReplayFile(UUID gameId) {
+        return Paths.get(GameReplayRecorder.REPLAYS_FOLDER, gameId.toString() + ".game");
     }
 
     public void start() {
@@ -39,31 +57,73 @@ public class GameReplay {
     }
 
     public GameState next() {
-        if (this.stateIndex < savedGame.getSize()) {
-            return savedGame.get(stateIndex++);
+        if (this.stateIndex < getStatesCount()) {
+            return loadState(stateIndex++);
         }
         return null;
     }
 
     public GameState previous() {
         if (this.stateIndex > 0) {
-            return savedGame.get(--stateIndex);
+            return loadState(--stateIndex);
         }
         return null;
     }
 
+    private int getStatesCount() {
+        return legacyStates != null ? legacyStates.getSize() : statePositions.size();
+    }
+
     public Game getGame() {
         return this.game;
     }
 
-    private Game loadGame(UUID gameId) {
-        try (InputStream file = Files.newInputStream(Paths.get("saved/" + gameId.toString() + ".game"));
+    /**
+     * Find all states in the file and load the game
+     */
+    private Game loadGame() {
+        try (RandomAccessFile file = new RandomAccessFile(GameReplayRecorder.getReplayFile(gameId).toFile(), "r")) {
+            long gamePosition = -1;
+            while (file.getFilePointer() < file.length()) {
+                byte type = file.readByte();
+                int size = file.readInt();
+                long dataPosition = file.getFilePointer();
+                switch (type) {
+                    case GameReplayRecorder.RECORD_STATE:
+                        statePositions.add(dataPosition);
+                        break;
+                    case GameReplayRecorder.RECORD_GAME:
+                        gamePosition = dataPosition;
+                        break;
+                    default:
+                        throw new IOException("unknown record type " + type);
+                }
+                file.seek(dataPosition + size);
+            }
+            if (gamePosition < 0) {
+                logger.fatal("Cannot load game:" + gameId + ", replay is not finished");
+                return null;
+            }
+            return (Game) readObject(file, gamePosition);
+        } catch (ClassNotFoundException e) {
+            logger.fatal("Cannot load game. Class not found.", e);
+        } catch (IOException e) {
+            logger.fatal("Cannot load game:" + gameId, e);
+        }
+        return null;
+    }
+
+    /**
+     * Old replays: whole game with states history in one file
+     */
+    private Game loadLegacyGame() {
+        try (InputStream file = Files.newInputStream(getLegacyReplayFile(gameId));
              InputStream buffer = new BufferedInputStream(file);
              InputStream gzip = new GZIPInputStream(buffer);
              ObjectInput input = new CopierObjectInputStream(Main.classLoader, gzip)) {
             Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
+            this.legacyStates = (GameStates) input.readObject();
+            loadGame.loadGameStates(this.legacyStates);
             return loadGame;
         } catch (ClassNotFoundException e) {
             logger.fatal("Cannot load game. Class not found.", e);
@@ -72,4 +132,27 @@ public class GameReplay {
         }
         return null;
     }
+
+    private GameState loadState(int index) {
+        if (legacyStates != null) {
+            return legacyStates.get(index);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(GameReplayRecorder.getReplayFile(gameId).toFile(), "r")) {
+            return (GameState) readObject(file, statePositions.get(index));
+        } catch (ClassNotFoundException e) {
+            logger.fatal("Cannot load game state. Class not found.", e);
+        } catch (IOException e) {
+            logger.fatal("Cannot load game state:" + gameId, e);
+        }
+        return null;
+    }
+
+    private Object readObject(RandomAccessFile file, long dataPosition) throws IOException, ClassNotFoundException {
+        file.seek(dataPosition - 4);
+        byte[] data = new byte[file.readInt()];
+        file.readFully(data);
+        try (ObjectInput input = new CopierObjectInputStream(Main.classLoader, new GZIPInputStream(new ByteArrayInputStream(data)))) {
+            return input.readObject();
+        }
+    }
 }
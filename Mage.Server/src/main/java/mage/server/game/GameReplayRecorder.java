@@ -0,0 +1,183 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.ReplayRecorder;
+import mage.util.Copier;
+import mage.util.StreamUtils;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replay system: append-only replay file, written step by step during the game
+ * <p>
+ * File contains compressed game states in the same order as game saves it and the game itself
+ * at the end, so game don't keep states history in memory and don't need big writes on game end.
+ * Replay can be used after game record only (see GameReplay).
+ * <p>
+ * Game thread serializes states only (state shares objects with the game, so it can't be read from
+ * another thread), compression and writes are done by single background writer. File will be created
+ * on first write. Recording will be disabled on any errors or too slow writes, so game can't be blocked by it.
+ * <p>
+ * Old replays from "gameId.game" files are still supported by GameReplay.
+ * <p>
+ * Record format: type (byte), data size (int), data (bytes)
+ */
+public class GameReplayRecorder implements ReplayRecorder {
+
+    private static final Logger logger = Logger.getLogger(GameReplayRecorder.class);
+
+    static final String REPLAYS_FOLDER = "saved";
+    static final String REPLAY_FILE_EXT = ".replay";
+
+    static final byte RECORD_STATE = 1;
+    static final byte RECORD_GAME = 2;
+
+    private static final int MAX_WAITING_STATES = 100; // protection from memory overflow on slow disk
+    private static final int MAX_FINISH_WAITING_SECS = 60;
+
+    private final UUID gameId;
+    private final ThreadPoolExecutor writer; // single thread, so states keep the order
+    private final Copier<GameState> copier = new Copier<>();
+    private DataOutputStream output = null; // null before first write, on errors or finished replay
+    private boolean finished = false;
+    private volatile boolean hasErrors = false;
+
+    public GameReplayRecorder(UUID gameId) {
+        this.gameId = gameId;
+        this.writer = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_WAITING_STATES),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME_REPLAY_WRITER, false),
+                (task, executor) -> {
+                    if (!executor.isShutdown()) {
+                        disable("too many waiting states, disk is too slow");
+                    }
+                }
+        );
+        this.writer.allowCoreThreadTimeOut(true); // no threads for inactive games
+    }
+
+    static Path getReplayFile(UUID gameId) {
+        return Paths.get(REPLAYS_FOLDER, gameId.toString() + REPLAY_FILE_EXT);
+    }
+
+    /**
+     * Game thread: state will be serialized here, compressed and written by background writer
+     */
+    @Override
+    public void saveState(GameState state) {
+        if (this.hasErrors || this.writer.isShutdown()) {
+            return;
+        }
+        byte[] data = copier.serialize(state);
+        if (data == null) {
+            disable("can't serialize state");
+            return;
+        }
+        try {
+            this.writer.execute(() -> writeState(data));
+        } catch (RejectedExecutionException e) {
+            // game must work without replay
+            disable("can't add state: " + e);
+        }
+    }
+
+    private void writeState(byte[] stateData) {
+        if (this.hasErrors) {
+            return;
+        }
+        byte[] data = Copier.compress(stateData);
+        if (data != null) {
+            writeRecord(RECORD_STATE, data);
+        }
+    }
+
+    /**
+     * Write the game, so replay can be used (waits all states, call it on game end only)
+     *
+     * @return false on any errors while recording
+     */
+    public boolean finish(Game game) {
+        this.writer.shutdown();
+        try {
+            if (!this.writer.awaitTermination(MAX_FINISH_WAITING_SECS, TimeUnit.SECONDS)) {
+                disable("too long states writing");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            disable("interrupted");
+        }
+
+        if (!this.hasErrors) {
+            byte[] data = new Copier<Game>().copyCompressed(game);
+            if (data == null) {
+                disable("can't compress game");
+            } else {
+                writeRecord(RECORD_GAME, data);
+            }
+        }
+        closeOutput();
+        if (!this.hasErrors) {
+            logger.debug("Saved game:" + gameId);
+        }
+        return !this.hasErrors;
+    }
+
+    /**
+     * Stop recording without game record, e.g. on game error
+     */
+    public void close() {
+        this.hasErrors = true; // no game record
+        this.writer.shutdownNow();
+        closeOutput();
+    }
+
+    private synchronized void closeOutput() {
+        StreamUtils.closeQuietly(this.output);
+        this.output = null;
+        this.finished = true;
+    }
+
+    private void disable(String reason) {
+        if (this.hasErrors) {
+            return;
+        }
+        // game must work without replay
+        this.hasErrors = true;
+        logger.error("Replay recording disabled for game " + gameId + ": " + reason);
+        this.writer.shutdownNow();
+        closeOutput();
+    }
+
+    private synchronized void writeRecord(byte type, byte[] data) {
+        if (this.finished) {
+            return;
+        }
+        try {
+            if (this.output == null) {
+                Path file = getReplayFile(gameId);
+                Files.createDirectories(file.getParent());
+                this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            }
+            this.output.writeByte(type);
+            this.output.writeInt(data.length);
+            this.output.write(data);
+        } catch (IOException e) {
+            logger.error("Can't write replay file for game " + gameId + ": " + e, e);
+            disable("write error");
+        }
+    }
+}
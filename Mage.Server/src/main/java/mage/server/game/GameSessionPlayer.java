@@ -9,6 +9,7 @@ import mage.game.Game;
 import mage.game.Table;
 import mage.interfaces.callback.ClientCallback;
 import mage.interfaces.callback.ClientCallbackMethod;
+import mage.players.PlayableObjectsList;
 import mage.players.Player;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
@@ -34,6 +35,12 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     private final ExecutorService callExecutor;
 
+    // game view can be prepared multiple times for same game state (e.g. game update and select dialog)
+    private final PlayableObjectsCache playableCache = new PlayableObjectsCache();
+
+    // last dialog without answer, it will be sent again with full game view on client's resync request
+    private volatile Runnable lastDialog = null;
+
     public GameSessionPlayer(ManagerFactory managerFactory, Game game, UUID userId, UUID playerId) {
         super(managerFactory.userManager(), userId, game, true);
         this.userManager = managerFactory.userManager();
@@ -47,28 +54,32 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     public void ask(final String question, final Map<String, Serializable> options) {
+        lastDialog = () -> ask(question, options);
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameView(), options, question)))
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getClientGameView(), options, question)))
             );
         }
     }
 
     public void target(final String question, final CardsView cardView, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) {
+        lastDialog = () -> target(question, cardView, targets, required, options);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameView(), options, question, cardView, targets, required)));
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getClientGameView(), options, question, cardView, targets, required)));
             });
 
         }
     }
 
     public void select(final String message, final Map<String, Serializable> options) {
+        lastDialog = () -> select(message, options);
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameView(), options, message))));
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getClientGameView(), options, message))));
         }
     }
 
     public void chooseAbility(final AbilityPickerView abilities) {
+        lastDialog = () -> chooseAbility(abilities);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
                     -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_ABILITY, game.getId(), abilities)));
@@ -77,49 +88,55 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     public void choosePile(final String message, final CardsView pile1, final CardsView pile2) {
+        lastDialog = () -> choosePile(message, pile1, pile2);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_PILE, game.getId(), new GameClientMessage(getGameView(), null, message, pile1, pile2))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_PILE, game.getId(), new GameClientMessage(getClientGameView(), null, message, pile1, pile2))));
         }
 
     }
 
     public void chooseChoice(final Choice choice) {
+        lastDialog = () -> chooseChoice(choice);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_CHOICE, game.getId(), new GameClientMessage(getGameView(), null, choice))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_CHOICE, game.getId(), new GameClientMessage(getClientGameView(), null, choice))));
         }
 
     }
 
     public void playMana(final String message, final Map<String, Serializable> options) {
+        lastDialog = () -> playMana(message, options);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameView(), options, message))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getClientGameView(), options, message))));
         }
     }
 
     public void playXMana(final String message) {
+        lastDialog = () -> playXMana(message);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameView(), null, message))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getClientGameView(), null, message))));
 
         }
     }
 
     public void getAmount(final String message, final int min, final int max) {
+        lastDialog = () -> getAmount(message, min, max);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_AMOUNT, game.getId(), new GameClientMessage(getGameView(), null, message, min, max)));
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_AMOUNT, game.getId(), new GameClientMessage(getClientGameView(), null, message, min, max)));
             });
         }
     }
 
     public void getMultiAmount(final List<MultiAmountMessage> messages, final int min, final int max,
             final Map<String, Serializable> options) {
+        lastDialog = () -> getMultiAmount(messages, min, max, options);
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_MULTI_AMOUNT, game.getId(), new GameClientMessage(getGameView(), options, messages, min, max))));
+                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_MULTI_AMOUNT, game.getId(), new GameClientMessage(getClientGameView(), options, messages, min, max))));
         }
     }
 
@@ -175,6 +192,34 @@ public class GameSessionPlayer extends GameSessionWatcher {
         }
     }
 
+    @Override
+    public void update() {
+        // new game state, so old dialog is outdated
+        lastDialog = null;
+        super.update();
+    }
+
+    /**
+     * Client can't restore game view from incremental updates, so send full view with last dialog (if it waits an answer)
+     */
+    @Override
+    public void resync() {
+        Runnable dialog = lastDialog;
+        if (dialog == null) {
+            super.resync();
+            return;
+        }
+        resetViewSync();
+        dialog.run();
+    }
+
+    /**
+     * User sent an answer or an action, so last dialog must not be sent again
+     */
+    public void dialogAnswered() {
+        lastDialog = null;
+    }
+
     public void sendPlayerUUID(UUID data) {
         game.getPlayer(playerId).setResponseUUID(data);
     }
@@ -197,7 +242,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     @Override
     public GameView getGameView() {
-        return prepareGameView(game, playerId, userId);
+        return prepareGameView(game, playerId, userId, playableCache, zoneViewsCache);
     }
 
     /**
@@ -209,17 +254,31 @@ public class GameSessionPlayer extends GameSessionWatcher {
      * @return
      */
     public static GameView prepareGameView(Game game, UUID playerId, UUID userId) {
+        return prepareGameView(game, playerId, userId, new ZoneViewsCache());
+    }
+
+    /**
+     * Same as above, but reuse cards views of unchanged zones from the previous calls
+     */
+    public static GameView prepareGameView(Game game, UUID playerId, UUID userId, ZoneViewsCache zoneViewsCache) {
+        return prepareGameView(game, playerId, userId, null, zoneViewsCache);
+    }
+
+    private static GameView prepareGameView(Game game, UUID playerId, UUID userId, PlayableObjectsCache playableCache, ZoneViewsCache zoneViewsCache) {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
+        sourceGame.setRulesCache(game.getRulesCache()); // views can use real game's texts
+        GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null, zoneViewsCache);
 
         // playable info (if opponent under control then show opponent's playable)
         Player player = sourceGame.getPlayer(playerId); // null for watcher
         Player priorityPlayer = sourceGame.getPlayer(sourceGame.getPriorityPlayerId());
         Player controllingPlayer = priorityPlayer == null ? null : sourceGame.getPlayer(priorityPlayer.getTurnControlledBy());
         if (controllingPlayer != null && player == controllingPlayer) {
-            gameView.setCanPlayObjects(priorityPlayer.getPlayableObjects(sourceGame, Zone.ALL));
+            gameView.setCanPlayObjects(playableCache == null
+                    ? priorityPlayer.getPlayableObjects(sourceGame, Zone.ALL)
+                    : playableCache.getPlayableObjects(sourceGame, priorityPlayer));
         }
 
         processControlledPlayers(sourceGame, player, gameView);
@@ -290,4 +349,23 @@ public class GameSessionPlayer extends GameSessionWatcher {
         }
     }
 
+    /**
+     * Playable objects calculation is the slowest part of the game view, so calc it once per game state
+     */
+    private static class PlayableObjectsCache {
+
+        private String key = null; // game state version, state hash and priority player
+        private PlayableObjectsList playableObjects = null;
+
+        synchronized PlayableObjectsList getPlayableObjects(Game game, Player priorityPlayer) {
+            String newKey = game.getState().getStateVersion()
+                    + " - " + game.getState().getStateHash(game, priorityPlayer.getId())
+                    + " - " + priorityPlayer.getId();
+            if (this.playableObjects == null || !newKey.equals(this.key)) {
+                this.playableObjects = priorityPlayer.getPlayableObjects(game, Zone.ALL);
+                this.key = newKey;
+            }
+            return this.playableObjects.copy();
+        }
+    }
 }
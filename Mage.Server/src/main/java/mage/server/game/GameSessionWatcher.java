@@ -10,7 +10,9 @@ import mage.server.managers.UserManager;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDiffs;
 import mage.view.SimpleCardsView;
+import mage.view.ZoneViewsCache;
 import org.apache.log4j.Logger;
 
 import java.util.HashMap;
@@ -30,21 +32,33 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final GameViewDiffs.Encoder viewEncoder = new GameViewDiffs.Encoder(); // send changed cards only
+    protected final ZoneViewsCache zoneViewsCache = new ZoneViewsCache(); // reuse graveyards and exile between updates
+    private final GameWatchersView watchersView; // shared view for all watchers, null for players
+    private boolean useWatchersView = false;
+    private boolean waitWatchersKeyFrame = true; // client can't restore shared view until next key frame
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
+        this(userManager, userId, game, isPlayer, null);
+    }
+
+    public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer, GameWatchersView watchersView) {
         this.userManager = userManager;
         this.userId = userId;
         this.game = game;
         this.isPlayer = isPlayer;
+        this.watchersView = watchersView;
     }
 
     public boolean init() {
         if (!killed) {
             Optional<User> user = userManager.getUser(userId);
             if (user.isPresent()) {
+                viewEncoder.reset();
+                this.useWatchersView = false;
                 // TODO: can be called outside of the game thread, e.g. user start watching already running game
                 //    possible fix: getGameView must use last cached value in non game thread call (split by sessions)
-                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
+                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getClientGameView()));
                 return true;
             }
         }
@@ -53,21 +67,37 @@ public class GameSessionWatcher {
 
     public void update() {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getClientData(ClientCallbackMethod.GAME_UPDATE, null))));
         }
 
     }
 
+    /**
+     * Client can't restore game view from incremental updates (e.g. lost messages), so send full view
+     */
+    public void resync() {
+        resetViewSync();
+        update();
+    }
+
+    protected void resetViewSync() {
+        if (this.useWatchersView) {
+            this.waitWatchersKeyFrame = true;
+        } else {
+            viewEncoder.reset();
+        }
+    }
+
     public void inform(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), getClientData(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, message))));
         }
 
     }
 
     public void informPersonal(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), getClientData(ClientCallbackMethod.GAME_INFORM_PERSONAL, message))));
         }
 
     }
@@ -76,7 +106,8 @@ public class GameSessionWatcher {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
                 user.removeGameWatchInfo(game.getId());
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_OVER, game.getId(), new GameClientMessage(getGameView(), null, message)));
+                resetViewSync(); // last message, so it must be restored by client anyway
+                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_OVER, game.getId(), getClientData(ClientCallbackMethod.GAME_OVER, message)));
             });
         }
     }
@@ -102,12 +133,63 @@ public class GameSessionWatcher {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
+        sourceGame.setRulesCache(game.getRulesCache()); // views can use real game's texts
 
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
+        GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId, zoneViewsCache);
         processWatchedHands(sourceGame, userId, gameView);
         return gameView;
     }
 
+    /**
+     * Game view for client's callbacks (contains changed data only, see GameViewDiffs)
+     */
+    protected GameView getClientGameView() {
+        return viewEncoder.encode(getGameView());
+    }
+
+    /**
+     * Data for client's game update callbacks: watchers without additional permissions get shared data
+     * (calculated and compressed once for all watchers), see GameWatchersView
+     *
+     * @param method  game update sends view only, all other methods send GameClientMessage
+     * @param message
+     */
+    private Object getClientData(ClientCallbackMethod method, String message) {
+        if (canUseWatchersView()) {
+            if (!this.waitWatchersKeyFrame) {
+                return watchersView.getClientData(method, message);
+            }
+            GameView sharedView = watchersView.getGameView();
+            if (!sharedView.isSyncDiff()) {
+                this.waitWatchersKeyFrame = false;
+                return watchersView.getClientData(method, message);
+            }
+            // client doesn't have shared key frame yet, so send full data until next update
+            GameView fullView = getGameView();
+            return method == ClientCallbackMethod.GAME_UPDATE ? fullView : new GameClientMessage(fullView, null, message);
+        }
+
+        GameView gameView = getClientGameView();
+        return method == ClientCallbackMethod.GAME_UPDATE ? gameView : new GameClientMessage(gameView, null, message);
+    }
+
+    private boolean canUseWatchersView() {
+        // watched hands are personal data
+        boolean canUse = watchersView != null
+                && game.getPlayers().values().stream().noneMatch(player -> player.hasUserPermissionToSeeHand(userId));
+        if (canUse != this.useWatchersView) {
+            // client's key frame from another encoder, so must wait for a new one
+            this.useWatchersView = canUse;
+            if (canUse) {
+                this.waitWatchersKeyFrame = true;
+                watchersView.reset();
+            } else {
+                viewEncoder.reset();
+            }
+        }
+        return canUse;
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
         for (Player player : game.getPlayers().values()) {
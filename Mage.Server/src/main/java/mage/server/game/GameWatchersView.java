@@ -0,0 +1,76 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.utils.CompressUtil;
+import mage.view.GameClientMessage;
+import mage.view.GameView;
+import mage.view.GameViewDiffs;
+import mage.view.ZoneViewsCache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Network: shared game view for all watchers of the game
+ * <p>
+ * Watchers without additional permissions see the same game data, so it must be calculated, encoded
+ * and compressed once per game update instead once per watcher (popular games can have dozens of watchers).
+ * Game controller must call invalidate on each game update.
+ */
+public class GameWatchersView {
+
+    private final Game game;
+    private final GameViewDiffs.Encoder viewEncoder = new GameViewDiffs.Encoder(); // same key frames for all watchers
+
+    private int version = 0; // game updates counter
+    private int cachedVersion = -1;
+    private GameView cachedView = null; // encoded view
+    private final Map<String, Object> cachedData = new HashMap<>(); // callback's data -> compressed data
+    private final ZoneViewsCache zoneViewsCache = new ZoneViewsCache(); // reuse graveyards and exile between updates
+
+    public GameWatchersView(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Game data changed, so next call must create new view
+     */
+    public synchronized void invalidate() {
+        this.version++;
+    }
+
+    /**
+     * Send full game view (key frame) on next update, e.g. for new watcher
+     */
+    public synchronized void reset() {
+        this.viewEncoder.reset();
+    }
+
+    public synchronized GameView getGameView() {
+        if (this.cachedView == null || this.cachedVersion != this.version) {
+            // game view calculation can take some time and can be called from non-game thread,
+            // so use copy for thread save (protection from ConcurrentModificationException)
+            Game sourceGame = game.copy();
+            sourceGame.setRulesCache(game.getRulesCache()); // views can use real game's texts
+            this.cachedView = viewEncoder.encode(new GameView(sourceGame.getState(), sourceGame, null, null, zoneViewsCache));
+            this.cachedVersion = this.version;
+            this.cachedData.clear();
+        }
+        return this.cachedView;
+    }
+
+    /**
+     * Compressed data for client's callback
+     *
+     * @param method  game update sends view only, all other methods send GameClientMessage
+     * @param message
+     */
+    public synchronized Object getClientData(ClientCallbackMethod method, String message) {
+        GameView gameView = getGameView();
+        String key = method + " - " + message;
+        return this.cachedData.computeIfAbsent(key, k -> CompressUtil.compress(
+                method == ClientCallbackMethod.GAME_UPDATE ? gameView : new GameClientMessage(gameView, null, message)
+        ));
+    }
+}
@@ -7,16 +7,17 @@ import mage.game.GameException;
 import mage.game.Table;
 import mage.game.match.MatchOptions;
 import mage.game.tournament.TournamentOptions;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.players.PlayerType;
+import mage.server.ChatSession;
 import mage.server.RoomImpl;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
-import mage.view.MatchView;
-import mage.view.RoomUsersView;
-import mage.view.TableView;
-import mage.view.UsersView;
+import mage.utils.CompressUtil;
+import mage.view.*;
 import org.apache.log4j.Logger;
 
 import java.io.Serializable;
@@ -25,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -35,6 +37,9 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
 
     private static final int MAX_FINISHED_TABLES = 25;
 
+    // users info like ping changes all the time, so send it with delay (new and left users will be sent immediately)
+    private static final long USERS_INFO_UPDATE_INTERVAL_MS = TimeUnit.SECONDS.toMillis(10);
+
     // server's lobby
     private static List<TableView> lobbyTables = new ArrayList<>();
     private static List<MatchView> lobbyMatches = new ArrayList<>();
@@ -46,6 +51,14 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private final ManagerFactory managerFactory;
     private final ConcurrentHashMap<UUID, Table> tables = new ConcurrentHashMap<>();
 
+    // lobby changes for push updates (lobby refresh thread only)
+    private int lobbyVersion = 0;
+    private Map<UUID, TableView> lobbyTableViews = new HashMap<>();
+    private List<MatchView> lobbyMatchesSent = new ArrayList<>();
+    private List<RoomUsersView> lobbyUsersSent = new ArrayList<>();
+    private Set<String> lobbyUserNames = new HashSet<>();
+    private long lobbyUsersSentTime = 0;
+
     public GamesRoomImpl(ManagerFactory managerFactory) {
         super(managerFactory.chatManager());
         this.managerFactory = managerFactory;
@@ -123,6 +136,68 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 managerFactory.configSettings().getMaxGameThreads()
         ));
         lobbyUsers = roomUserInfo;
+
+        sendLobbyChanges(tableList, matchList, roomUserInfo, users);
+    }
+
+    /**
+     * Send lobby changes to lobby's users (joined to the room's chat), so clients don't need to poll full lists
+     */
+    private void sendLobbyChanges(List<TableView> tableList, List<MatchView> matchList, List<RoomUsersView> roomUserInfo, List<UsersView> users) {
+        RoomUpdateView update = new RoomUpdateView(this.getRoomId(), this.lobbyVersion + 1);
+
+        // tables (views are compared field by field)
+        Map<UUID, TableView> tableViews = new HashMap<>();
+        for (TableView tableView : tableList) {
+            tableViews.put(tableView.getTableId(), tableView);
+            if (!tableView.equals(this.lobbyTableViews.get(tableView.getTableId()))) {
+                update.getChangedTables().add(tableView);
+            }
+        }
+        this.lobbyTableViews.keySet().stream()
+                .filter(tableId -> !tableViews.containsKey(tableId))
+                .forEach(update.getRemovedTables()::add);
+        this.lobbyTableViews = tableViews;
+
+        // matches
+        if (!matchList.equals(this.lobbyMatchesSent)) {
+            update.setFinishedMatches(matchList);
+            this.lobbyMatchesSent = matchList;
+        }
+
+        // users
+        long now = System.currentTimeMillis();
+        Set<String> userNames = users.stream().map(UsersView::getUserName).collect(Collectors.toSet());
+        if (!userNames.equals(this.lobbyUserNames)
+                || (!roomUserInfo.equals(this.lobbyUsersSent) && now - this.lobbyUsersSentTime >= USERS_INFO_UPDATE_INTERVAL_MS)) {
+            update.setRoomUsers(roomUserInfo);
+            this.lobbyUserNames = userNames;
+            this.lobbyUsersSent = roomUserInfo;
+            this.lobbyUsersSentTime = now;
+        }
+
+        if (update.isEmpty()) {
+            return;
+        }
+        this.lobbyVersion = update.getVersion();
+
+        // clients join to the room's chat on lobby open, so use it as subscription
+        ChatSession lobbyChat = managerFactory.chatManager().getChatSessions()
+                .stream()
+                .filter(chat -> chat.getChatId().equals(this.getChatId()))
+                .findFirst()
+                .orElse(null);
+        if (lobbyChat == null) {
+            return;
+        }
+
+        // same data for all users, so compress it once
+        Object data = CompressUtil.compress(update);
+        for (UUID userId : lobbyChat.getUsers().keySet()) {
+            managerFactory.userManager().getUser(userId)
+                    .filter(User::isOnlineUser)
+                    .ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.ROOM_UPDATE, this.getRoomId(), data)));
+        }
     }
 
     @Override
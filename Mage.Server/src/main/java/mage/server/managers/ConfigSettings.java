@@ -26,6 +26,8 @@ public interface ConfigSettings {
 
     int getMaxGameThreads();
 
+    Boolean isUseVirtualThreads();
+
     int getMaxSecondsIdle();
 
     int getMinUserNameLength();
@@ -55,6 +55,10 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getMaxGameThreads().intValue();
     }
 
+    public Boolean isUseVirtualThreads() {
+        return config.getServer().isUseVirtualThreads();
+    }
+
     public int getMaxSecondsIdle() {
         return config.getServer().getMaxSecondsIdle().intValue();
     }
@@ -6,7 +6,9 @@ import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
+import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,20 +40,35 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      */
 
     public ThreadExecutorImpl(ConfigSettings config) {
-        callExecutor = new CachedThreadPoolWithException();
-        ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
-
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        // virtual threads mode: game and user's waiting don't use OS threads, so max game threads setting
+        // can't limit it anymore (one thread per task without limits)
+        boolean useVirtualThreads = Boolean.TRUE.equals(config.isUseVirtualThreads());
+        if (useVirtualThreads && !XmageThreadFactory.isVirtualThreadsSupported()) {
+            logger.warn("Virtual threads mode requires java 21 or newer, so it will be disabled (current java: "
+                    + System.getProperty("java.version") + ")");
+            useVirtualThreads = false;
+        }
 
-        tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
-        ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        if (useVirtualThreads) {
+            callExecutor = new VirtualThreadPerTaskExecutorWithException(ThreadUtils.THREAD_PREFIX_CALL_REQUEST, "CALL");
+            gameExecutor = new VirtualThreadPerTaskExecutorWithException(ThreadUtils.THREAD_PREFIX_GAME, "GAME");
+            tourneyExecutor = new VirtualThreadPerTaskExecutorWithException(ThreadUtils.THREAD_PREFIX_TOURNEY, "GAME");
+        } else {
+            callExecutor = new CachedThreadPoolWithException();
+            ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
+
+            gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+            ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+
+            tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
+            ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) tourneyExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) tourneyExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_TOURNEY));
+        }
 
         timeoutExecutor = Executors.newScheduledThreadPool(4);
         ((ThreadPoolExecutor) timeoutExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -105,11 +122,86 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         }
     }
 
+    /**
+     * Virtual threads mode: new thread for each task without pooling and limits (java 21+ only)
+     */
+    static class VirtualThreadPerTaskExecutorWithException extends AbstractExecutorService {
+
+        private final ExecutorService executor;
+        private final String threadsInfo;
+        private final AtomicInteger activeCount = new AtomicInteger();
+
+        VirtualThreadPerTaskExecutorWithException(String prefix, String threadsInfo) {
+            this.executor = XmageThreadFactory.newVirtualThreadPerTaskExecutor(prefix);
+            if (this.executor == null) {
+                throw new IllegalStateException("Wrong code usage: virtual threads are not supported by current java");
+            }
+            this.threadsInfo = threadsInfo;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            executor.execute(() -> {
+                activeCount.incrementAndGet();
+                Throwable error = null;
+                try {
+                    command.run();
+                } catch (Throwable e) {
+                    error = e;
+                    throw e;
+                } finally {
+                    activeCount.decrementAndGet();
+                    afterExecute(command, error);
+                }
+            });
+        }
+
+        private void afterExecute(Runnable r, Throwable t) {
+            // same as thread pools: catch errors from client commands or game processing
+            t = ThreadUtils.findRunnableException(r, t);
+            if (t != null && !(t instanceof CancellationException)) {
+                logger.error("Catch unhandled error in " + threadsInfo + " thread: " + t.getMessage(), t);
+            }
+        }
+
+        public int getActiveCount() {
+            return activeCount.get();
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return executor.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return executor.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return executor.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return executor.awaitTermination(timeout, unit);
+        }
+    }
+
     @Override
     public int getActiveThreads(ExecutorService executerService) {
         if (executerService instanceof ThreadPoolExecutor) {
             return ((ThreadPoolExecutor) executerService).getActiveCount();
         }
+        if (executerService instanceof VirtualThreadPerTaskExecutorWithException) {
+            return ((VirtualThreadPerTaskExecutorWithException) executerService).getActiveCount();
+        }
         return -1;
     }
 
@@ -36,6 +36,7 @@ public class ConfigWrapperTest {
         public int backlogSize;
         public int maxGameThreads;
         public int maxSecondsIdle;
+        public boolean useVirtualThreads;
         public int minUsernameLength;
         public int maxUsernameLength;
         public String invalidUsernamePattern;
@@ -87,6 +88,7 @@ public class ConfigWrapperTest {
             server.setBacklogSize(bi(backlogSize));
             server.setMaxGameThreads(bi(maxGameThreads));
             server.setMaxSecondsIdle(bi(maxSecondsIdle));
+            server.setUseVirtualThreads(useVirtualThreads);
             server.setMinUserNameLength(bi(minUsernameLength));
             server.setMaxUserNameLength(bi(maxUsernameLength));
             server.setInvalidUserNamePattern(invalidUsernamePattern);
@@ -164,6 +166,7 @@ public class ConfigWrapperTest {
                 testInt("backlog size", c -> c.backlogSize = expectedPositiveInt, ConfigWrapper::getBacklogSize),
                 testInt("max game threads", c -> c.maxGameThreads = expectedPositiveInt, ConfigWrapper::getMaxGameThreads),
                 testInt("max seconds idle", c -> c.maxSecondsIdle = expectedPositiveInt, ConfigWrapper::getMaxSecondsIdle),
+                testTrue("use virtual threads", c -> c.useVirtualThreads = true, ConfigWrapper::isUseVirtualThreads),
                 testInt("min username length", c -> c.minUsernameLength = expectedPositiveInt, ConfigWrapper::getMinUserNameLength),
                 testInt("max username length", c -> c.maxUsernameLength = expectedPositiveInt, ConfigWrapper::getMaxUserNameLength),
                 testString("invalid username pattern", c -> c.invalidUsernamePattern = expectedString, ConfigWrapper::getInvalidUserNamePattern),
@@ -83,7 +83,7 @@ class AccursedWitchReturnTransformedEffect extends OneShotEffect {
             return false;
         }
 
-        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), Boolean.TRUE);
+        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), Boolean.TRUE);
         game.getState().setValue("attachTo:" + source.getSourceId(), attachTo.getId());
         if (controller.moveCards(card, Zone.BATTLEFIELD, source, game)) {
             attachTo.addAttachment(card.getId(), source, game);
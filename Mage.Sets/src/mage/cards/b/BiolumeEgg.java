@@ -83,7 +83,7 @@ class BiolumeEggEffect extends OneShotEffect {
         }
         Card card = game.getCard(getTargetPointer().getFirst(game, source));
         if (card != null) {
-            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId(), Boolean.TRUE);
+            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId()), Boolean.TRUE);
             controller.moveCards(card, Zone.BATTLEFIELD, source, game, false, false, true, null);
         }
         return true;
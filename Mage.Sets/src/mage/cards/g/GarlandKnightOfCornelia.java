@@ -84,7 +84,7 @@ class GarlandKnightOfCorneliaEffect extends OneShotEffect {
         if (player == null || card == null) {
             return false;
         }
-        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId(), Boolean.TRUE);
+        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId()), Boolean.TRUE);
         return player.moveCards(card, Zone.BATTLEFIELD, source, game);
     }
 }
@@ -141,7 +141,7 @@ class GoldenGuardianReturnTransformedEffect extends OneShotEffect {
         Player controller = game.getPlayer(source.getControllerId());
         if (controller != null) {
             if (game.getState().getZone(source.getSourceId()) == Zone.GRAVEYARD) {
-                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), Boolean.TRUE);
+                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), Boolean.TRUE);
                 Card card = game.getCard(source.getSourceId());
                 if (card != null) {
                     controller.moveCards(card, Zone.BATTLEFIELD, source, game);
@@ -69,7 +69,7 @@ class HarvestHandReturnTransformedEffect extends OneShotEffect {
         if (controller == null || card == null) {
             return false;
         }
-        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), Boolean.TRUE);
+        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), Boolean.TRUE);
         controller.moveCards(card, Zone.BATTLEFIELD, source, game);
         return true;
     }
@@ -87,7 +87,7 @@ class JourneyToEternityReturnTransformedSourceEffect extends OneShotEffect {
             if (zone == Zone.BATTLEFIELD || !zone.isPublicZone()) {
                 return true;
             }
-            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), Boolean.TRUE);
+            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), Boolean.TRUE);
             controller.moveCards(card, Zone.BATTLEFIELD, source, game, false, false, false, null);
         }
         return true;
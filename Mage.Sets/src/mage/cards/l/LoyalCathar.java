@@ -109,7 +109,7 @@ class ReturnLoyalCatharEffect extends OneShotEffect {
         }
         Card card = game.getCard(getTargetPointer().getFirst(game, source));
         if (card != null) {
-            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId(), Boolean.TRUE);
+            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId()), Boolean.TRUE);
             controller.moveCards(card, Zone.BATTLEFIELD, source, game);
         }
         return true;
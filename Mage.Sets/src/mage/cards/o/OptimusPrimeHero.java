@@ -74,7 +74,7 @@ class OptimusPrimeHeroEffect extends OneShotEffect {
         if (card == null || controller == null) {
             return false;
         }
-        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), Boolean.TRUE);
+        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), Boolean.TRUE);
         return controller.moveCards(card, Zone.BATTLEFIELD, source, game);
     }
 }
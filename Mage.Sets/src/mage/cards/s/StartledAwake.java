@@ -76,7 +76,7 @@ class StartledAwakeReturnTransformedEffect extends OneShotEffect {
         if (game.getState().getZone(source.getSourceId()) != Zone.GRAVEYARD) {
             return true;
         }
-        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + source.getSourceId(), true);
+        game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(source.getSourceId()), true);
         controller.moveCards(card, Zone.BATTLEFIELD, source, game);
         return true;
     }
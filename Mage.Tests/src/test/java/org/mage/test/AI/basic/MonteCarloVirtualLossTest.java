@@ -0,0 +1,66 @@
+package org.mage.test.AI.basic;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.player.ai.MCTSNode;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.player.TestComputerPlayerMonteCarlo;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithMonteCarloAIHelps;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Monte Carlo AI: parallel search threads use same tree, so virtual loss must send them to another nodes
+ */
+public class MonteCarloVirtualLossTest extends CardTestPlayerBaseWithMonteCarloAIHelps {
+
+    @Test
+    public void test_VirtualLossMustSelectAnotherNodes() {
+        // possible actions: play one of the lands or pass
+        addCard(Zone.HAND, playerA, "Forest");
+        addCard(Zone.HAND, playerA, "Island");
+        addCard(Zone.HAND, playerA, "Mountain");
+
+        runCode("search tree", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            UUID playerId = player.getId();
+            MCTSNode root = ((TestComputerPlayerMonteCarlo) playerA.getComputerPlayer()).createSearchTree(game);
+            root.expand();
+            int childrenCount = root.getNumChildren();
+            Assert.assertTrue("must have multiple actions, but found " + childrenCount, childrenCount > 1);
+
+            // each search thread marks selected node until result, so next thread must select another one
+            Set<MCTSNode> selected = new HashSet<>();
+            for (int i = 0; i < childrenCount; i++) {
+                root.addVirtualLoss();
+                MCTSNode child = root.select(playerId);
+                child.addVirtualLoss();
+                Assert.assertTrue("must select not visited node", selected.add(child));
+            }
+            Assert.assertEquals(childrenCount, root.getVirtualLosses());
+
+            // stopped simulations (without result) must remove virtual loss only
+            for (MCTSNode child : selected) {
+                child.backpropagate(0, true);
+                Assert.assertEquals(0, child.getVirtualLosses());
+                Assert.assertEquals(0, child.getVisits());
+            }
+            Assert.assertEquals(0, root.getVirtualLosses());
+            Assert.assertEquals(0, root.getVisits());
+
+            // real result must be added
+            MCTSNode child = root.select(playerId);
+            child.addVirtualLoss();
+            child.backpropagate(1, true);
+            Assert.assertEquals(0, child.getVirtualLosses());
+            Assert.assertEquals(1, child.getVisits());
+            Assert.assertEquals(1, root.getVisits());
+        });
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+    }
+}
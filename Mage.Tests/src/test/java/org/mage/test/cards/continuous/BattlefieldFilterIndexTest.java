@@ -0,0 +1,110 @@
+package org.mage.test.cards.continuous;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.FilterPermanent;
+import mage.filter.StaticFilters;
+import mage.game.permanent.Battlefield;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Battlefield's filter index by controller and card type must give same results as full scan
+ * (it's used while continuous effects apply P/T and later layers)
+ */
+public class BattlefieldFilterIndexTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_ForEachCreatureYouControl() {
+        // Crusader of Odric's power and toughness are each equal to the number of creatures you control.
+        addCard(Zone.BATTLEFIELD, playerA, "Crusader of Odric");
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+        // Each noncreature artifact is an artifact creature with power and toughness each equal to its mana value.
+        addCard(Zone.BATTLEFIELD, playerA, "March of the Machines");
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        // Gain control of target creature until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason"); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears");
+
+        // type changing layer: sol ring is a creature
+        checkPT("sol ring as creature", 1, PhaseStep.UPKEEP, playerA, "Sol Ring", 1, 1);
+        checkPT("crusader with artifact creature", 1, PhaseStep.UPKEEP, playerA, "Crusader of Odric", 3, 3);
+
+        // control changing layer: stolen bears
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Balduvian Bears");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        checkPermanentCount("stolen bears", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Balduvian Bears", 1);
+        checkPT("crusader with stolen creature", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Crusader of Odric", 4, 4);
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.UPKEEP);
+        execute();
+
+        assertPermanentCount(playerB, "Balduvian Bears", 1);
+        assertPowerToughness(playerA, "Crusader of Odric", 3, 3);
+    }
+
+    @Test
+    public void test_SameResultsAsFullScan() {
+        addCard(Zone.BATTLEFIELD, playerA, "Crusader of Odric");
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "March of the Machines");
+        addCard(Zone.BATTLEFIELD, playerA, "Sol Ring");
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 2);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<FilterPermanent> filters = Arrays.asList(
+                StaticFilters.FILTER_PERMANENT,
+                StaticFilters.FILTER_PERMANENT_CREATURE,
+                StaticFilters.FILTER_CONTROLLED_CREATURE,
+                StaticFilters.FILTER_OPPONENTS_PERMANENT_CREATURE,
+                StaticFilters.FILTER_PERMANENT_ARTIFACT,
+                StaticFilters.FILTER_PERMANENT_ARTIFACT_CREATURE,
+                StaticFilters.FILTER_CONTROLLED_PERMANENT_ARTIFACT,
+                StaticFilters.FILTER_LANDS,
+                StaticFilters.FILTER_CONTROLLED_PERMANENT_LAND
+        );
+        Battlefield battlefield = currentGame.getBattlefield();
+        for (FilterPermanent filter : filters) {
+            for (Player player : Arrays.asList(playerA, playerB)) {
+                String fullScan = getFilterResults(battlefield, filter, player);
+                battlefield.enableFilterIndex();
+                try {
+                    Assert.assertEquals("filter index for " + filter.getMessage() + " and " + player.getName(),
+                            fullScan, getFilterResults(battlefield, filter, player));
+                } finally {
+                    battlefield.disableFilterIndex();
+                }
+            }
+        }
+
+        // make sure the test checks real data
+        Assert.assertEquals(4, currentGame.getBattlefield().count(StaticFilters.FILTER_CONTROLLED_CREATURE, playerA.getId(), null, currentGame));
+        assertPowerToughness(playerA, "Crusader of Odric", 4, 4);
+    }
+
+    private String getFilterResults(Battlefield battlefield, FilterPermanent filter, Player player) {
+        String permanents = battlefield.getActivePermanents(filter, player.getId(), null, currentGame)
+                .stream()
+                .map(Permanent::getIdName)
+                .collect(Collectors.joining(", "));
+        return "count: " + battlefield.count(filter, player.getId(), null, currentGame)
+                + ", count all: " + battlefield.countAll(filter, player.getId(), currentGame)
+                + ", contains: " + battlefield.contains(filter, player.getId(), null, currentGame, 3)
+                + ", contains controlled: " + battlefield.containsControlled(filter, player.getId(), null, currentGame, 2)
+                + ", permanents: " + permanents;
+    }
+}
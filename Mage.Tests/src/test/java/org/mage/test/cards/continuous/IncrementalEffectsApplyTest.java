@@ -0,0 +1,105 @@
+package org.mage.test.cards.continuous;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.IslandwalkAbility;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Layered effects: incremental effects apply must give same permanents as full apply,
+ * so all tests here compare both modes on each applyEffects call (see GameOptions.verifyIncrementalApplyEffects)
+ */
+public class IncrementalEffectsApplyTest extends CardTestPlayerBase {
+
+    @Before
+    public void enableVerifyMode() {
+        // game option instead global debug flag, so it's safe for parallel tests
+        gameOptions.verifyIncrementalApplyEffects = true;
+    }
+
+    @Test
+    public void test_OpalescenceThenHumility() {
+        // Each other non-Aura enchantment is a creature in addition to its other types
+        // and has base power and base toughness each equal to its mana value.
+        addCard(Zone.HAND, playerA, "Opalescence"); // {2}{W}{W}
+        // All creatures lose all abilities and have base power and toughness 1/1.
+        addCard(Zone.HAND, playerA, "Humility"); // {2}{W}{W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 8);
+        // Creatures you control have flying.
+        addCard(Zone.BATTLEFIELD, playerA, "Levitation");
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Opalescence", true);
+        checkPT("levitation as creature", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Levitation", 4, 4);
+        checkAbility("levitation with flying", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Levitation", FlyingAbility.class, true);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Humility");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+        Assert.assertTrue("must verify incremental apply", currentGame.getOptions().verifyIncrementalApplyEffects);
+
+        // main check is same result for incremental and full apply on each step,
+        // so here are layer 4 results only (Humility's own ability loss is a dependency related case)
+        assertType("Humility", CardType.CREATURE, true);
+        assertType("Levitation", CardType.CREATURE, true);
+    }
+
+    @Test
+    public void test_HumilityThenOpalescence() {
+        addCard(Zone.HAND, playerA, "Opalescence"); // {2}{W}{W}
+        addCard(Zone.HAND, playerA, "Humility"); // {2}{W}{W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 8);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Humility", true);
+        checkPT("bears after humility", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Grizzly Bears", 1, 1);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Opalescence");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertType("Humility", CardType.CREATURE, true);
+        assertPowerToughness(playerA, "Humility", 4, 4);
+    }
+
+    @Test
+    public void test_LordsAndGainedAbilities() {
+        // Other Merfolk get +1/+1 and have islandwalk.
+        addCard(Zone.BATTLEFIELD, playerA, "Lord of Atlantis", 2); // 2/2
+        addCard(Zone.BATTLEFIELD, playerA, "Coral Merfolk"); // 2/1
+        // Creatures you control get +1/+1.
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem");
+        // Creatures you control have flying.
+        addCard(Zone.BATTLEFIELD, playerA, "Levitation");
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears"); // 2/2
+        // Destroy target nonblack creature.
+        addCard(Zone.HAND, playerB, "Doom Blade"); // {1}{B}
+        addCard(Zone.BATTLEFIELD, playerB, "Swamp", 2);
+
+        checkPT("merfolk with two lords", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Coral Merfolk", 2 + 2 + 1, 1 + 2 + 1);
+        checkAbility("merfolk with islandwalk", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Coral Merfolk", IslandwalkAbility.class, true);
+        checkAbility("merfolk with flying", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Coral Merfolk", FlyingAbility.class, true);
+
+        // kill one lord
+        castSpell(2, PhaseStep.PRECOMBAT_MAIN, playerB, "Doom Blade", "Lord of Atlantis");
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Lord of Atlantis", 1);
+        assertPowerToughness(playerA, "Lord of Atlantis", 2 + 1, 2 + 1);
+        assertPowerToughness(playerA, "Coral Merfolk", 2 + 1 + 1, 1 + 1 + 1);
+        assertAbility(playerA, "Coral Merfolk", new IslandwalkAbility(), true);
+        assertAbility(playerA, "Coral Merfolk", FlyingAbility.getInstance(), true);
+        assertPowerToughness(playerB, "Grizzly Bears", 2, 2);
+        assertAbility(playerB, "Grizzly Bears", FlyingAbility.getInstance(), false);
+    }
+}
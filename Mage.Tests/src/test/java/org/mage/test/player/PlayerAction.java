@@ -4,16 +4,18 @@ import mage.constants.PhaseStep;
 import mage.game.Game;
 import org.mage.test.serverside.base.CardTestCodePayload;
 
+import java.io.Serializable;
+
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class PlayerAction {
+public class PlayerAction implements Serializable {
 
     private final String actionName;
     private final int turnNum;
     private final PhaseStep step;
     private final String action;
-    private final CardTestCodePayload codePayload; // special code to execute (e.g. on dynamic check)
+    private final transient CardTestCodePayload codePayload; // special code to execute (e.g. on dynamic check), saved states and replays don't need it
 
     public PlayerAction(String actionName, int turnNum, PhaseStep step, String action) {
         this(actionName, turnNum, step, action, null);
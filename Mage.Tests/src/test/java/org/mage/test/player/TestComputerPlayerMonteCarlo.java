@@ -7,6 +7,8 @@ import mage.constants.Outcome;
 import mage.constants.RangeOfInfluence;
 import mage.game.Game;
 import mage.player.ai.ComputerPlayerMCTS;
+import mage.player.ai.MCTSNode;
+import mage.player.ai.MCTSPlayer;
 import mage.target.Target;
 import mage.target.TargetCard;
 
@@ -30,6 +32,15 @@ public final class TestComputerPlayerMonteCarlo extends ComputerPlayerMCTS {
         this.testPlayerLink = testPlayerLink;
     }
 
+    /**
+     * Search tree's root for current game without search (same as before priority's search)
+     */
+    public MCTSNode createSearchTree(Game game) {
+        Game sim = createMCTSGame(game);
+        ((MCTSPlayer) sim.getPlayer(playerId)).setNextAction(MCTSPlayer.NextAction.PRIORITY);
+        return new MCTSNode(playerId, sim);
+    }
+
     @Override
     public boolean choose(Outcome outcome, Target target, Ability source, Game game) {
         if (testPlayerLink.canChooseByComputer()) {
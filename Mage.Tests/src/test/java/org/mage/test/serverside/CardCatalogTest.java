@@ -0,0 +1,130 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestPlayerBase;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cards catalog must return same results as DB queries
+ */
+public class CardCatalogTest extends MageTestPlayerBase {
+
+    @BeforeClass
+    public static void scanCards() {
+        CardScanner.scan();
+    }
+
+    @AfterClass
+    public static void disableCatalog() {
+        CardRepository.instance.disableCatalog();
+    }
+
+    private final Map<String, Supplier<Object>> queries = new LinkedHashMap<>();
+
+    private void addCardsQuery(String info, Supplier<List<CardInfo>> query) {
+        queries.put(info, () -> query.get().stream()
+                .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                .collect(Collectors.toList()));
+    }
+
+    private void addUnorderedCardsQuery(String info, Supplier<List<CardInfo>> query) {
+        // db returns rows without sort in any order, so compare content only
+        queries.put(info, () -> query.get().stream()
+                .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                .sorted()
+                .collect(Collectors.toList()));
+    }
+
+    private void addCardQuery(String info, Supplier<CardInfo> query) {
+        addCardsQuery(info, () -> {
+            CardInfo card = query.get();
+            return card == null ? Collections.emptyList() : Collections.singletonList(card);
+        });
+    }
+
+    private void addNamesQuery(String info, Supplier<Set<String>> query) {
+        queries.put(info, () -> {
+            Set<String> names = query.get();
+            Assert.assertFalse(info, names.isEmpty());
+            return names;
+        });
+    }
+
+    @Test
+    public void test_MustHaveSameResultsAsDatabase() {
+        // names
+        addNamesQuery("all names", CardRepository.instance::getNames);
+        addNamesQuery("non land names", CardRepository.instance::getNonLandNames);
+        addNamesQuery("non basic land names", CardRepository.instance::getNonbasicLandNames);
+        addNamesQuery("not basic land names", CardRepository.instance::getNotBasicLandNames);
+        addNamesQuery("creature names", CardRepository.instance::getCreatureNames);
+        addNamesQuery("artifact names", CardRepository.instance::getArtifactNames);
+        addNamesQuery("non land and non creature names", CardRepository.instance::getNonLandAndNonCreatureNames);
+        addNamesQuery("non artifact and non land names", CardRepository.instance::getNonArtifactAndNonLandNames);
+
+        // find by name
+        addCardsQuery("normal", () -> CardRepository.instance.findCards("Lightning Bolt"));
+        addCardsQuery("normal with limit", () -> CardRepository.instance.findCards("Lightning Bolt", 2));
+        addCardsQuery("char case", () -> CardRepository.instance.findCards("lightning BOLT"));
+        addCardsQuery("split full", () -> CardRepository.instance.findCards("Fire // Ice"));
+        addCardsQuery("split half", () -> CardRepository.instance.findCards("Fire"));
+        addCardsQuery("split half as is", () -> CardRepository.instance.findCards("Fire", 0, true, true));
+        addCardsQuery("mdfc", () -> CardRepository.instance.findCards("Emeria's Call // Emeria, Shattered Skyclave"));
+        addCardsQuery("mdfc second side", () -> CardRepository.instance.findCards("Emeria, Shattered Skyclave"));
+        addCardsQuery("adventure", () -> CardRepository.instance.findCards("Bonecrusher Giant // Stomp"));
+        addCardsQuery("adventure spell", () -> CardRepository.instance.findCards("Stomp"));
+        addCardsQuery("transform second side", () -> CardRepository.instance.findCards("Insectile Aberration"));
+        addCardsQuery("unknown name", () -> CardRepository.instance.findCards("unknown card name"));
+        addCardsQuery("by class", () -> CardRepository.instance.findCardsByClass("mage.cards.l.LightningBolt"));
+
+        // find by set and number
+        addCardQuery("set and number", () -> CardRepository.instance.findCard("M10", "146"));
+        addCardQuery("set and number char case", () -> CardRepository.instance.findCard("m10", "146"));
+        addCardQuery("night card", () -> CardRepository.instance.findCard("VOW", "65", false));
+        addCardQuery("night card ignored", () -> CardRepository.instance.findCard("VOW", "65", true));
+        addCardQuery("unknown number", () -> CardRepository.instance.findCard("M10", "9999"));
+
+        // find by criteria
+        addUnorderedCardsQuery("set", () -> CardRepository.instance.findCards(new CardCriteria().setCodes("M10")));
+        addUnorderedCardsQuery("sets and rarity", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("M10", "zen").rarities(Rarity.RARE, Rarity.MYTHIC)));
+        addUnorderedCardsQuery("basic lands", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("M10").supertypes(SuperType.BASIC).types(CardType.LAND)));
+        addUnorderedCardsQuery("no basic lands", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("M10").notSupertypes(SuperType.BASIC).notTypes(CardType.LAND)));
+        addUnorderedCardsQuery("colors", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("M10").black(false).blue(false).green(false).colorless(false)));
+        addUnorderedCardsQuery("name and rules", () -> CardRepository.instance.findCards(new CardCriteria()
+                .nameContains("bear").rules("trample")));
+        addUnorderedCardsQuery("subtype and mana value", () -> CardRepository.instance.findCards(new CardCriteria()
+                .subtypes(SubType.ELF).manaValue(1).ignoreSetsWithSnowLands()));
+        addUnorderedCardsQuery("card numbers", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("ZEN").minCardNumber(10).maxCardNumber(20).nightCard(null)));
+        queries.put("page size", () -> CardRepository.instance.findCards(new CardCriteria()
+                .setCodes("ZEN").start(5L).count(10L)).size());
+
+        // db
+        CardRepository.instance.disableCatalog();
+        Map<String, Object> dbResults = new LinkedHashMap<>();
+        queries.forEach((info, query) -> dbResults.put(info, query.get()));
+
+        // catalog
+        CardRepository.instance.enableCatalog();
+        Assert.assertTrue(CardRepository.instance.isCatalogEnabled());
+        queries.forEach((info, query) -> Assert.assertEquals(info, dbResults.get(info), query.get()));
+    }
+}
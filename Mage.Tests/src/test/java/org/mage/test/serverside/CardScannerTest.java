@@ -0,0 +1,43 @@
+package org.mage.test.serverside;
+
+import mage.cards.ExpansionSet;
+import mage.cards.Sets;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cards scan creates new cards by all cores, so it must give same DB records as one by one creation
+ */
+public class CardScannerTest extends MageTestPlayerBase {
+
+    @Test
+    public void test_ParallelAndSerialCreateMustBeSame() {
+        // sets with all card types: split, adventure, double faced, modal double faced, flip, meld, etc
+        String[] setCodes = {"MH3", "CMM", "DGM", "ELD", "MID", "SOK", "EMN"};
+        for (String setCode : setCodes) {
+            ExpansionSet set = Sets.findSet(setCode);
+            Assert.assertNotNull("Can't find set " + setCode, set);
+
+            List<String> serialErrors = new ArrayList<>();
+            List<CardInfo> serialCards = CardScanner.makeCardInfos(set, false, serialErrors);
+            List<String> parallelErrors = new ArrayList<>();
+            List<CardInfo> parallelCards = CardScanner.makeCardInfos(set, true, parallelErrors);
+
+            Assert.assertTrue("Set " + setCode + " must have cards", serialCards.size() > 0);
+            Assert.assertEquals("Set " + setCode + " must create cards without errors", 0, serialErrors.size());
+            Assert.assertEquals(serialErrors, parallelErrors);
+            assertThat(parallelCards)
+                    .as("Set " + setCode + " must have same cards in same order")
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyElementsOf(serialCards);
+        }
+    }
+}
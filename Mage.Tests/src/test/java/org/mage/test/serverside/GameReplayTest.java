@@ -0,0 +1,92 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameState;
+import mage.server.game.GameReplay;
+import mage.server.game.GameReplayRecorder;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Replays: game states must be written during the game and restored from the replay file
+ */
+public class GameReplayTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_RecordAndReplay() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        currentGame.setSaveGame(true);
+        GameReplayRecorder recorder = new GameReplayRecorder(currentGame.getId());
+        currentGame.setReplayRecorder(recorder);
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+        assertLife(playerB, 20 - 3);
+
+        Assert.assertTrue(recorder.finish(currentGame));
+
+        try {
+            GameReplay replay = new GameReplay(currentGame.getId());
+            Assert.assertNotNull(replay.getGame());
+            Assert.assertEquals(currentGame.getId(), replay.getGame().getId());
+
+            // forward
+            replay.start();
+            int replayStates = 0;
+            boolean hasStartLife = false; // first states can be saved before players setup
+            GameState lastState = null;
+            GameState state;
+            while ((state = replay.next()) != null) {
+                hasStartLife |= state.getPlayer(playerB.getId()).getLife() == 20;
+                lastState = state;
+                replayStates++;
+            }
+            Assert.assertTrue("replay must have all game steps", replayStates > 10);
+            Assert.assertTrue("replay must have states before damage", hasStartLife);
+            Assert.assertEquals(20 - 3, lastState.getPlayer(playerB.getId()).getLife());
+            Assert.assertEquals(3, lastState.getTurnNum());
+
+            // backward
+            Assert.assertNotNull(replay.previous());
+        } finally {
+            Files.deleteIfExists(Paths.get("saved", currentGame.getId().toString() + ".replay"));
+        }
+    }
+
+    @Test
+    public void test_StoppedRecorderMustNotBreakGame() throws IOException {
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+
+        currentGame.setSaveGame(true);
+        GameReplayRecorder recorder = new GameReplayRecorder(currentGame.getId());
+        currentGame.setReplayRecorder(recorder);
+        recorder.close(); // e.g. on write errors
+
+        try {
+            setStrictChooseMode(true);
+            setStopAt(2, PhaseStep.END_TURN);
+            execute();
+            assertLife(playerB, 20 - 3);
+
+            Assert.assertFalse("stopped recorder can't save replay", recorder.finish(currentGame));
+            Assert.assertFalse("stopped recorder must not create empty files",
+                    Files.exists(Paths.get("saved", currentGame.getId().toString() + ".replay")));
+        } finally {
+            Files.deleteIfExists(Paths.get("saved", currentGame.getId().toString() + ".replay"));
+        }
+    }
+}
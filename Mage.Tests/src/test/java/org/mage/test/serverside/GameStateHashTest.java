@@ -0,0 +1,94 @@
+package org.mage.test.serverside;
+
+import mage.abilities.common.SimpleActivatedAbility;
+import mage.abilities.costs.mana.ManaCostsImpl;
+import mage.abilities.effects.common.GainLifeEffect;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.util.TranspositionTable;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * AI related: game state hash must find same positions without strings building
+ */
+public class GameStateHashTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SameAndChangedPositions() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        runCode("hash", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            long hash = game.getState().getStateHash(true, game);
+            Assert.assertEquals("same state must have same hash", hash, game.getState().getStateHash(true, game));
+            Assert.assertEquals("game copy must have same hash", hash, game.copy().getState().getStateHash(true, game));
+
+            List<Permanent> bears = game.getBattlefield().getAllPermanents()
+                    .stream()
+                    .filter(permanent -> permanent.getName().equals("Grizzly Bears"))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(2, bears.size());
+
+            // tap different bears
+            Game sim1 = game.copy();
+            sim1.getPermanent(bears.get(0).getId()).setTapped(true);
+            Game sim2 = game.copy();
+            sim2.getPermanent(bears.get(1).getId()).setTapped(true);
+            long hash1 = sim1.getState().getStateHash(true, sim1);
+            Assert.assertNotEquals("changed state must have another hash", hash, hash1);
+            Assert.assertEquals("same cards must be interchangeable", hash1, sim2.getState().getStateHash(true, sim2));
+
+            // hidden info
+            Game sim3 = game.copy();
+            sim3.getPlayer(playerA.getId()).getHand().clear();
+            sim3.getPlayer(playerA.getId()).getHand().add(sim3.getPlayer(playerA.getId()).getLibrary().getFromTop(sim3));
+            Assert.assertNotEquals(hash, sim3.getState().getStateHash(true, sim3));
+            Assert.assertEquals("opponent's hand must be hidden",
+                    game.getState().getStateHash(game, playerB.getId()), sim3.getState().getStateHash(sim3, playerB.getId()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_DifferentActivatedAbilitiesMustNotBePruned() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        runCode("positions", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            // same abilities and effects types, so same hash, but different positions
+            Game sim1 = gainAbilityOnCopy(game, 1);
+            Game sim2 = gainAbilityOnCopy(game, 2);
+            Assert.assertEquals(sim1.getState().getStateHash(true, sim1), sim2.getState().getStateHash(true, sim2));
+
+            TranspositionTable positions = new TranspositionTable();
+            Assert.assertTrue(positions.add(sim1));
+            Assert.assertTrue("different ability must be searched too", positions.add(sim2));
+            Assert.assertFalse("same ability must be pruned", positions.add(gainAbilityOnCopy(game, 1)));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private Game gainAbilityOnCopy(Game game, int lifeAmount) {
+        Game sim = game.copy();
+        Permanent bears = sim.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(permanent -> permanent.getName().equals("Grizzly Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bears);
+        bears.addAbility(new SimpleActivatedAbility(new GainLifeEffect(lifeAmount), new ManaCostsImpl<>("{1}")), bears.getId(), sim);
+        return sim;
+    }
+}
@@ -0,0 +1,102 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.view.GameView;
+import mage.view.GameViewDiffs;
+import mage.view.PermanentView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Network: incremental game view updates must send changed cards only and restore full data on client side
+ */
+public class GameViewDiffsTest extends CardTestPlayerBase {
+
+    private PermanentView findPermanentView(GameView gameView, String permanentName) {
+        return (PermanentView) gameView.getPlayers()
+                .stream()
+                .flatMap(player -> player.getBattlefield().values().stream())
+                .filter(view -> view != null && view.getName().equals(permanentName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private long countNullCards(GameView gameView) {
+        return gameView.getPlayers()
+                .stream()
+                .flatMap(player -> player.getBattlefield().values().stream())
+                .filter(view -> view == null)
+                .count();
+    }
+
+    @Test
+    public void test_ChangedCardsOnly() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDiffs.Encoder encoder = new GameViewDiffs.Encoder();
+        GameViewDiffs.Decoder decoder = new GameViewDiffs.Decoder();
+
+        // key frame
+        GameView view = encoder.encode(getGameView(playerA));
+        Assert.assertFalse(view.isSyncDiff());
+        Assert.assertNotNull(decoder.decode(currentGame.getId(), view));
+
+        // unchanged cards
+        view = encoder.encode(getGameView(playerA));
+        Assert.assertTrue(view.isSyncDiff());
+        Assert.assertEquals(2, countNullCards(view));
+        view = decoder.decode(currentGame.getId(), view);
+        Assert.assertNotNull(view);
+        Assert.assertFalse(findPermanentView(view, "Forest").isTapped());
+
+        // changed card must be sent
+        getPermanent("Forest", playerA).setTapped(true);
+        view = encoder.encode(getGameView(playerA));
+        Assert.assertEquals(1, countNullCards(view));
+        Assert.assertTrue(findPermanentView(view, "Forest").isTapped());
+        view = decoder.decode(currentGame.getId(), view);
+        Assert.assertNotNull(view);
+        Assert.assertTrue(findPermanentView(view, "Forest").isTapped());
+        Assert.assertNotNull(findPermanentView(view, "Grizzly Bears"));
+        Assert.assertFalse(decoder.takeResyncRequest(currentGame.getId()));
+    }
+
+    @Test
+    public void test_LostKeyFrameMustRequestResync() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDiffs.Encoder encoder = new GameViewDiffs.Encoder();
+        GameViewDiffs.Decoder decoder = new GameViewDiffs.Decoder();
+
+        // key frame lost
+        encoder.encode(getGameView(playerA));
+
+        // diffs can't be restored
+        GameView view = encoder.encode(getGameView(playerA));
+        Assert.assertNull("partial view must be ignored", decoder.decode(currentGame.getId(), view));
+        Assert.assertTrue(decoder.takeResyncRequest(currentGame.getId()));
+        view = encoder.encode(getGameView(playerA));
+        Assert.assertNull(decoder.decode(currentGame.getId(), view));
+        Assert.assertFalse("must request resync once per key frame", decoder.takeResyncRequest(currentGame.getId()));
+
+        // resync
+        encoder.reset();
+        view = encoder.encode(getGameView(playerA));
+        Assert.assertNotNull(decoder.decode(currentGame.getId(), view));
+        view = encoder.encode(getGameView(playerA));
+        view = decoder.decode(currentGame.getId(), view);
+        Assert.assertNotNull(view);
+        Assert.assertNotNull(findPermanentView(view, "Grizzly Bears"));
+    }
+}
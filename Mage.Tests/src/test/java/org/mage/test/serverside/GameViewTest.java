@@ -1,9 +1,15 @@
 package org.mage.test.serverside;
 
+import mage.cards.Card;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
+import mage.counters.CounterType;
 import mage.game.Game;
+import mage.server.game.GameSessionPlayer;
+import mage.view.CardsView;
 import mage.view.GameView;
+import mage.view.PlayerView;
+import mage.view.ZoneViewsCache;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
@@ -78,4 +84,56 @@ public class GameViewTest extends CardTestPlayerBase {
         gameView = getGameView(null, userWatcher);
         Assert.assertEquals(1, gameView.getWatchedHands().size());
     }
+
+    @Test
+    public void test_ZoneViewsCache() {
+        addCard(Zone.GRAVEYARD, playerA, "Grizzly Bears", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        ZoneViewsCache cache = new ZoneViewsCache();
+        CardsView graveyard1 = getGraveyardView(cache);
+        CardsView graveyard2 = getGraveyardView(cache);
+        Assert.assertEquals(2, graveyard1.size());
+        Assert.assertNotSame("game views must use own lists", graveyard1, graveyard2);
+        for (UUID cardId : graveyard1.keySet()) {
+            Assert.assertSame("unchanged zone must reuse cards views", graveyard1.get(cardId), graveyard2.get(cardId));
+        }
+
+        // network sync changes game view's lists, it must not break cache
+        graveyard2.replaceAll((cardId, cardView) -> null);
+        Assert.assertTrue(getGraveyardView(cache).values().stream().allMatch(graveyard1::containsValue));
+
+        // zone changes
+        Card bolt = playerA.getHand().getCards(currentGame).stream().findFirst().get();
+        playerA.moveCards(bolt, Zone.GRAVEYARD, null, currentGame);
+        CardsView graveyard3 = getGraveyardView(cache);
+        Assert.assertEquals(3, graveyard3.size());
+        Assert.assertTrue(graveyard3.containsKey(bolt.getId()));
+
+        // card's state changes
+        Card bears = currentGame.getCard(graveyard1.keySet().stream().findFirst().get());
+        bears.addCounters(CounterType.P1P1.createInstance(), playerA.getId(), null, currentGame);
+        CardsView graveyard4 = getGraveyardView(cache);
+        Assert.assertNotSame("changed card must get new view", graveyard3.get(bears.getId()), graveyard4.get(bears.getId()));
+
+        // players info changes (cards hints can use it)
+        playerB.setLife(10, currentGame, null);
+        CardsView graveyard5 = getGraveyardView(cache);
+        Assert.assertNotSame("life change must rebuild views", graveyard4.get(bears.getId()), graveyard5.get(bears.getId()));
+    }
+
+    private CardsView getGraveyardView(ZoneViewsCache cache) {
+        GameView gameView = GameSessionPlayer.prepareGameView(currentGame, playerA.getId(), null, cache);
+        PlayerView playerView = gameView.getPlayers()
+                .stream()
+                .filter(view -> view.getPlayerId().equals(playerA.getId()))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(playerView);
+        return playerView.getGraveyard();
+    }
 }
@@ -0,0 +1,153 @@
+package org.mage.test.serverside;
+
+import mage.constants.TableState;
+import mage.game.Table;
+import mage.game.TwoPlayerMatch;
+import mage.game.match.MatchOptions;
+import mage.players.PlayerType;
+import mage.view.RoomLobbyData;
+import mage.view.RoomUpdateView;
+import mage.view.TableView;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Network: lobby's full lists and push updates must be applied in right order
+ */
+public class RoomLobbyDataTest {
+
+    private final UUID roomId = UUID.randomUUID();
+
+    private Table createTable(String name) {
+        MatchOptions options = new MatchOptions(name, "Two Player Duel", false, 2);
+        return new Table(roomId, "Two Player Duel", name, "user", null,
+                Arrays.asList(PlayerType.HUMAN, PlayerType.HUMAN), null, new TwoPlayerMatch(options), Collections.emptySet(), false);
+    }
+
+    private RoomUpdateView createUpdate(int version, List<TableView> changedTables, List<UUID> removedTables) {
+        RoomUpdateView update = new RoomUpdateView(roomId, version);
+        update.getChangedTables().addAll(changedTables);
+        update.getRemovedTables().addAll(removedTables);
+        return update;
+    }
+
+    private void assertTables(RoomLobbyData lobbyData, Table... needTables) {
+        Map<UUID, TableState> need = Arrays.stream(needTables).collect(Collectors.toMap(Table::getId, Table::getState));
+        Map<UUID, TableState> current = lobbyData.getTables().stream().collect(Collectors.toMap(TableView::getTableId, TableView::getTableState));
+        Assert.assertEquals(need, current);
+    }
+
+    @Test
+    public void test_PollingMode() {
+        RoomLobbyData lobbyData = new RoomLobbyData(roomId);
+        Table table1 = createTable("table 1");
+        Table table2 = createTable("table 2");
+
+        // old servers without push updates
+        Assert.assertFalse(lobbyData.isPushUpdatesActive());
+        Assert.assertTrue(lobbyData.applyTables(Collections.singletonList(new TableView(table1)), lobbyData.getVersion()));
+        assertTables(lobbyData, table1);
+        Assert.assertTrue(lobbyData.applyTables(Arrays.asList(new TableView(table1), new TableView(table2)), lobbyData.getVersion()));
+        assertTables(lobbyData, table1, table2);
+        Assert.assertTrue(lobbyData.canApplyMatches(lobbyData.getVersion()));
+        Assert.assertTrue(lobbyData.canApplyRoomUsers(lobbyData.getVersion()));
+    }
+
+    @Test
+    public void test_FirstUpdateMustRequestFullLists() {
+        RoomLobbyData lobbyData = new RoomLobbyData(roomId);
+        Table table1 = createTable("table 1");
+        Table table2 = createTable("table 2");
+        Table table3 = createTable("table 3");
+
+        // old lists from polling
+        int oldRequestVersion = lobbyData.getVersion();
+        lobbyData.applyTables(Collections.singletonList(new TableView(table1)), oldRequestVersion);
+
+        // first update (table 2 added before it, so it's unknown for client)
+        Assert.assertTrue(lobbyData.applyUpdate(createUpdate(10, Collections.singletonList(new TableView(table3)), Collections.emptyList())));
+        Assert.assertTrue(lobbyData.isPushUpdatesActive());
+        Assert.assertTrue("first update must request full lists", lobbyData.takeFullListsRequest());
+        Assert.assertFalse("must request full lists once", lobbyData.takeFullListsRequest());
+        assertTables(lobbyData, table1, table3);
+
+        // outdated lists from polling must be ignored
+        Assert.assertFalse(lobbyData.applyTables(Collections.singletonList(new TableView(table1)), oldRequestVersion));
+        assertTables(lobbyData, table1, table3);
+
+        // new lists requested, but server sends it before next update
+        int requestVersion = lobbyData.getVersion();
+        table1.setState(TableState.DUELING);
+        Assert.assertTrue(lobbyData.applyUpdate(createUpdate(11, Collections.singletonList(new TableView(table1)), Collections.emptyList())));
+        Assert.assertFalse(lobbyData.takeFullListsRequest());
+        table1.setState(TableState.WAITING); // lists made before the update
+        Assert.assertTrue(lobbyData.applyTables(Arrays.asList(new TableView(table1), new TableView(table2), new TableView(table3)), requestVersion));
+        table1.setState(TableState.DUELING);
+        assertTables(lobbyData, table1, table2, table3);
+
+        // all next lists are outdated (push updates only)
+        Assert.assertFalse(lobbyData.applyTables(Collections.emptyList(), lobbyData.getVersion()));
+        assertTables(lobbyData, table1, table2, table3);
+    }
+
+    @Test
+    public void test_UpdatesOrder() {
+        RoomLobbyData lobbyData = new RoomLobbyData(roomId);
+        Table table1 = createTable("table 1");
+        Table table2 = createTable("table 2");
+
+        lobbyData.applyUpdate(createUpdate(1, Collections.emptyList(), Collections.emptyList()));
+        lobbyData.takeFullListsRequest();
+        lobbyData.applyTables(Collections.singletonList(new TableView(table1)), lobbyData.getVersion());
+
+        // normal order
+        Assert.assertTrue(lobbyData.applyUpdate(createUpdate(2, Collections.singletonList(new TableView(table2)), Collections.emptyList())));
+        Assert.assertTrue(lobbyData.applyUpdate(createUpdate(3, Collections.emptyList(), Collections.singletonList(table1.getId()))));
+        Assert.assertFalse(lobbyData.takeFullListsRequest());
+        assertTables(lobbyData, table2);
+
+        // outdated and another room's updates must be ignored
+        Assert.assertFalse(lobbyData.applyUpdate(createUpdate(2, Collections.singletonList(new TableView(table1)), Collections.emptyList())));
+        Assert.assertFalse(lobbyData.applyUpdate(new RoomUpdateView(UUID.randomUUID(), 4)));
+        assertTables(lobbyData, table2);
+        Assert.assertEquals(3, lobbyData.getVersion());
+
+        // lost updates must request full lists
+        Assert.assertTrue(lobbyData.applyUpdate(createUpdate(5, Collections.emptyList(), Collections.singletonList(table2.getId()))));
+        Assert.assertTrue(lobbyData.takeFullListsRequest());
+        assertTables(lobbyData);
+        Assert.assertTrue(lobbyData.applyTables(Collections.singletonList(new TableView(table1)), lobbyData.getVersion()));
+        assertTables(lobbyData, table1);
+    }
+
+    @Test
+    public void test_FullListsAfterPushedLists() {
+        RoomLobbyData lobbyData = new RoomLobbyData(roomId);
+        lobbyData.applyUpdate(createUpdate(1, Collections.emptyList(), Collections.emptyList()));
+
+        int requestVersion = lobbyData.getVersion();
+        RoomUpdateView update = createUpdate(2, Collections.emptyList(), Collections.emptyList());
+        update.setFinishedMatches(new ArrayList<>());
+        lobbyData.applyUpdate(update);
+
+        // pushed matches are newer than requested
+        Assert.assertFalse(lobbyData.canApplyMatches(requestVersion));
+        Assert.assertTrue(lobbyData.canApplyMatches(lobbyData.getVersion()));
+        Assert.assertTrue(lobbyData.canApplyRoomUsers(requestVersion));
+    }
+
+    @Test
+    public void test_ServerSendsChangedTablesOnly() {
+        // server compares table views field by field to find changed tables
+        Table table = createTable("table 1");
+        TableView oldView = new TableView(table);
+        Assert.assertEquals(oldView, new TableView(table));
+        Assert.assertEquals(oldView.hashCode(), new TableView(table).hashCode());
+
+        table.initGame();
+        Assert.assertNotEquals(oldView, new TableView(table));
+    }
+}
@@ -0,0 +1,85 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Ability;
+import mage.abilities.ActivatedAbility;
+import mage.abilities.mana.ManaAbility;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import mage.game.permanent.PermanentCard;
+import mage.view.GameView;
+import mage.view.PermanentView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Game views: cached abilities texts must be updated on game changes
+ */
+public class RulesCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_ChosenValue() {
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 2);
+        addCard(Zone.HAND, playerA, "Painter's Servant", 1);
+
+        // fill the cache before choice
+        runCode("views before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            getGameView(playerA);
+        });
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Painter's Servant");
+        setChoice(playerA, "Red");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        Assert.assertTrue("must show chosen color",
+                findPermanentView(getGameView(playerA), "Painter's Servant").getRules()
+                        .stream()
+                        .anyMatch(rule -> rule.contains("Chosen color: Red")));
+    }
+
+    @Test
+    public void test_TextChangedInGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Prodigal Pyromancer", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Assert.assertNotNull("real game must have cache", currentGame.getRulesCache());
+        Assert.assertNull("simulations must not use real game's cache", currentGame.copy().getRulesCache());
+
+        PermanentView view = findPermanentView(getGameView(playerA), "Prodigal Pyromancer");
+        Assert.assertTrue(view.getRules().stream().anyMatch(rule -> rule.contains("deals 1 damage to any target")));
+
+        // runtime text change (e.g. text changing effects)
+        Permanent permanent = getPermanent("Prodigal Pyromancer", playerA);
+        Ability ability = ((PermanentCard) permanent).getCard().getAbilities()
+                .stream()
+                .filter(a -> a instanceof ActivatedAbility && a.getZone() == Zone.BATTLEFIELD && !(a instanceof ManaAbility))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(ability);
+        ability.getEffects().get(0).setText("deals 5 damage to any target");
+        currentGame.applyEffects();
+
+        view = findPermanentView(getGameView(playerA), "Prodigal Pyromancer");
+        Assert.assertTrue("must show new text",
+                view.getRules().stream().anyMatch(rule -> rule.contains("5 damage to any target")));
+    }
+
+    private PermanentView findPermanentView(GameView gameView, String permanentName) {
+        PermanentView res = gameView.getPlayers()
+                .stream()
+                .map(PlayerView::getBattlefield)
+                .flatMap(battlefield -> battlefield.values().stream())
+                .filter(permanentView -> permanentView.getName().equals(permanentName))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull("can't find permanent view " + permanentName, res);
+        return res;
+    }
+}
@@ -38,7 +38,6 @@ import mage.target.common.TargetAnyTarget;
 import mage.target.common.TargetCardInExile;
 import mage.target.common.TargetCardInGraveyard;
 import mage.target.common.TargetCardInLibrary;
-import mage.util.Copier;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -111,7 +110,6 @@ public abstract class MageTestPlayerBase {
             for (GamePlugin plugin : config.getGameTypes()) {
                 GameFactory.instance.addGameType(plugin.getName(), loadGameType(plugin), loadPlugin(plugin));
             }
-            Copier.setLoader(classLoader);
         }
     }
 
@@ -0,0 +1,76 @@
+package org.mage.test.serverside.deck;
+
+import mage.cards.Card;
+import mage.cards.RateCard;
+import mage.cards.repository.CardRepository;
+import mage.constants.ColoredManaSymbol;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.MageTestPlayerBase;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public class RateCardTest extends MageTestPlayerBase {
+
+    private static final List<String> CARD_NAMES = Arrays.asList(
+            "Lightning Bolt", "Grizzly Bears", "Doom Blade", "Forest", "Bear's Companion", "Amplifire"
+    );
+
+    private Card createCard(String name) {
+        return CardRepository.instance.findCard(name).createCard();
+    }
+
+    @Test
+    public void test_CachedScoreMustBeSameAsCalculated() {
+        List<List<ColoredManaSymbol>> allColors = Arrays.asList(
+                Collections.emptyList(),
+                Collections.singletonList(ColoredManaSymbol.R),
+                Arrays.asList(ColoredManaSymbol.G, ColoredManaSymbol.U),
+                Arrays.asList(ColoredManaSymbol.B, ColoredManaSymbol.R)
+        );
+        for (String cardName : CARD_NAMES) {
+            Card card = createCard(cardName);
+            for (List<ColoredManaSymbol> colors : allColors) {
+                int calculated = RateCard.rateCard(card, colors, false);
+                // first call fills the cache, second call uses it
+                Assert.assertEquals(cardName + " " + colors, calculated, RateCard.rateCard(card, colors));
+                Assert.assertEquals(cardName + " " + colors, calculated, RateCard.rateCard(card, colors));
+            }
+        }
+    }
+
+    @Test
+    public void test_ConcurrentUsage() throws Exception {
+        Map<String, Integer> needScores = new HashMap<>();
+        List<Card> cards = new ArrayList<>();
+        for (String cardName : CARD_NAMES) {
+            Card card = createCard(cardName);
+            cards.add(card);
+            needScores.put(cardName, RateCard.rateCard(card, Collections.emptyList(), false));
+        }
+
+        // same as draft bots from different tournaments
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    for (int n = 0; n < 100; n++) {
+                        for (Card card : cards) {
+                            if (RateCard.rateCard(card, Collections.emptyList()) != needScores.get(card.getName())) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue("Must have same scores in all threads", result.get(1, TimeUnit.MINUTES));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
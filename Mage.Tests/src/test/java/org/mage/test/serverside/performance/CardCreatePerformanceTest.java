@@ -0,0 +1,67 @@
+package org.mage.test.serverside.performance;
+
+import mage.cards.Card;
+import mage.cards.CardImpl;
+import mage.cards.CardSetInfo;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cards creation speed: reflection vs cached card constructors (used for decks, boosters, AI deck building)
+ */
+public class CardCreatePerformanceTest {
+
+    private static final int CARDS_AMOUNT = 200000;
+
+    @Test
+    @Ignore // debug only, can be slow (10+ secs)
+    public void test_CreateCards() throws Exception {
+        CardScanner.scan();
+        List<CardInfo> cardsInfo = CardRepository.instance.findCards(new CardCriteria().setCodes("M10", "ZEN", "WAR"));
+        Assert.assertFalse(cardsInfo.isEmpty());
+
+        // warm up, class loading and static data must not be part of the measure
+        createByReflection(cardsInfo, cardsInfo.size());
+        createByCardImpl(cardsInfo, cardsInfo.size());
+
+        long reflectionTime = createByReflection(cardsInfo, CARDS_AMOUNT);
+        long cachedTime = createByCardImpl(cardsInfo, CARDS_AMOUNT);
+        System.out.println(String.format("reflection: %d cards per second", CARDS_AMOUNT * 1000L / Math.max(1, reflectionTime)));
+        System.out.println(String.format("cached constructors: %d cards per second", CARDS_AMOUNT * 1000L / Math.max(1, cachedTime)));
+    }
+
+    private long createByReflection(List<CardInfo> cardsInfo, int amount) throws Exception {
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < amount; i++) {
+            CardInfo cardInfo = cardsInfo.get(i % cardsInfo.size());
+            Class<?> clazz = Class.forName(cardInfo.getClassName());
+            Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
+            Card card = (Card) con.newInstance(null, makeSetInfo(cardInfo));
+            Assert.assertNotNull(card);
+        }
+        return System.currentTimeMillis() - startTime;
+    }
+
+    private long createByCardImpl(List<CardInfo> cardsInfo, int amount) {
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < amount; i++) {
+            CardInfo cardInfo = cardsInfo.get(i % cardsInfo.size());
+            Card card = CardImpl.createCard(cardInfo.getClassName(), makeSetInfo(cardInfo));
+            Assert.assertNotNull(card);
+        }
+        return System.currentTimeMillis() - startTime;
+    }
+
+    private CardSetInfo makeSetInfo(CardInfo cardInfo) {
+        return new CardSetInfo(cardInfo.getName(), cardInfo.getSetCode(), cardInfo.getCardNumber(), cardInfo.getRarity());
+    }
+}
@@ -0,0 +1,68 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.util.DebugUtil;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestMultiPlayerBase;
+
+/**
+ * Benchmark for continuous effects on a big 4 players board: game.applyEffects calls/sec
+ */
+public class ContinuousEffectsPerformanceTest extends CardTestMultiPlayerBase {
+
+    private static final int CARDS_PER_TYPE = 5; // x 5 types x 4 players
+    private static final int WARMUP_CALLS = 500;
+    private static final int BENCHMARK_CALLS = 5_000;
+
+    @Test
+    @Ignore // enable for performance tests only
+    public void test_ApplyEffectsPerSecond() {
+        for (TestPlayer player : new TestPlayer[]{playerA, playerB, playerC, playerD}) {
+            addCard(Zone.BATTLEFIELD, player, "Grizzly Bears", CARDS_PER_TYPE);
+            // Creatures you control get +1/+1.
+            addCard(Zone.BATTLEFIELD, player, "Glorious Anthem", CARDS_PER_TYPE);
+            // Creatures you control have flying.
+            addCard(Zone.BATTLEFIELD, player, "Levitation", CARDS_PER_TYPE);
+            // White creatures get +1/+1.
+            addCard(Zone.BATTLEFIELD, player, "Crusade", CARDS_PER_TYPE);
+            // Creatures you control have first strike. Creatures your opponents control lose first strike and can't have or gain first strike.
+            addCard(Zone.BATTLEFIELD, player, "Archetype of Courage", CARDS_PER_TYPE);
+        }
+
+        runCode("benchmark", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            boolean oldMode = DebugUtil.GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY;
+            try {
+                DebugUtil.GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY = true;
+                runApplyEffects(game, WARMUP_CALLS);
+                long before = runApplyEffects(game, BENCHMARK_CALLS);
+
+                DebugUtil.GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY = false;
+                runApplyEffects(game, WARMUP_CALLS);
+                long after = runApplyEffects(game, BENCHMARK_CALLS);
+
+                System.out.println("Layered effects: " + game.getState().getContinuousEffects().getLayeredEffects(game).size());
+                System.out.println(String.format("Apply effects/sec without incremental apply (before): %d", before));
+                System.out.println(String.format("Apply effects/sec with incremental apply (after): %d", after));
+            } finally {
+                DebugUtil.GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY = oldMode;
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private long runApplyEffects(Game game, int amount) {
+        long start = System.nanoTime();
+        for (int i = 0; i < amount; i++) {
+            game.applyEffects();
+        }
+        long spentNanos = Math.max(1, System.nanoTime() - start);
+        return amount * 1_000_000_000L / spentNanos;
+    }
+}
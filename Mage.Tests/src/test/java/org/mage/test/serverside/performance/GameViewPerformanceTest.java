@@ -0,0 +1,65 @@
+package org.mage.test.serverside.performance;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.server.game.GameSessionPlayer;
+import mage.view.ZoneViewsCache;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestMultiPlayerBase;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark for game views on a big 4 players game with full graveyards: GameView builds/sec
+ * (same game state, so it's like GAME_UPDATE and GAME_SELECT calls for one client's session)
+ */
+public class GameViewPerformanceTest extends CardTestMultiPlayerBase {
+
+    private static final List<String> CARD_NAMES = Arrays.asList(
+            "Lightning Bolt", "Llanowar Elves", "Serra Angel", "Shivan Dragon", "Counterspell",
+            "Wrath of God", "Prodigal Pyromancer", "Birds of Paradise", "Mind Rot", "Glorious Anthem"
+    );
+    private static final int GRAVEYARD_CARDS_PER_NAME = 5; // x 10 names = 50 cards per player
+    private static final int WARMUP_CALLS = 200;
+    private static final int BENCHMARK_CALLS = 2_000;
+
+    @Test
+    @Ignore // enable for performance tests only
+    public void test_GameViewsPerSecond() {
+        for (TestPlayer player : new TestPlayer[]{playerA, playerB, playerC, playerD}) {
+            addCard(Zone.BATTLEFIELD, player, "Grizzly Bears", 5);
+            addCard(Zone.BATTLEFIELD, player, "Prodigal Pyromancer", 2);
+            addCard(Zone.BATTLEFIELD, player, "Glorious Anthem", 1);
+            addCard(Zone.HAND, player, "Serra Angel", 3);
+            addCard(Zone.HAND, player, "Wrath of God", 2);
+            for (String cardName : CARD_NAMES) {
+                addCard(Zone.GRAVEYARD, player, cardName, GRAVEYARD_CARDS_PER_NAME);
+            }
+        }
+
+        runCode("benchmark", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            ZoneViewsCache zoneViewsCache = new ZoneViewsCache();
+            runGameViews(game, WARMUP_CALLS, zoneViewsCache);
+            long viewsPerSecond = runGameViews(game, BENCHMARK_CALLS, zoneViewsCache);
+            System.out.println(String.format("Game views/sec: %d (zones cache: %d hits, %d misses)",
+                    viewsPerSecond, zoneViewsCache.getHits(), zoneViewsCache.getMisses()));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private long runGameViews(Game game, int amount, ZoneViewsCache zoneViewsCache) {
+        long start = System.nanoTime();
+        for (int i = 0; i < amount; i++) {
+            GameSessionPlayer.prepareGameView(game, playerA.getId(), playerA.getId(), zoneViewsCache);
+        }
+        long spentNanos = Math.max(1, System.nanoTime() - start);
+        return amount * 1_000_000_000L / spentNanos;
+    }
+}
@@ -15,6 +15,8 @@ import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
+import mage.remote.traffic.CompactObjectInputStream;
+import mage.remote.traffic.CompactObjectOutputStream;
 import mage.remote.traffic.ZippedObjectImpl;
 import mage.util.CardUtil;
 import mage.utils.CompressUtil;
@@ -175,6 +177,43 @@ public class SerializationTest extends CardTestPlayerBase {
         Assert.assertEquals("Must be same", 1, uncompressed.getPlayers().get(0).getBattlefield().size());
     }
 
+    @Test
+    public void test_Game_CompactFormat() {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 5);
+        addCard(Zone.BATTLEFIELD, playerB, "Forest", 5);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+
+        // compressed data must keep format
+        ZippedObjectImpl<GameView> compressed = new ZippedObjectImpl<>(gameView, true);
+        Assert.assertTrue("Must be compact", compressed.isCompact());
+        GameView uncompressed = compressed.unzip();
+        Assert.assertNotNull(uncompressed);
+        Assert.assertEquals("Must be same", 1, uncompressed.getMyHand().size());
+        Assert.assertEquals("Must be same", "Grizzly Bears", uncompressed.getMyHand().values().stream().findFirst().get().getName());
+        Assert.assertEquals("Must be same", 5, uncompressed.getPlayers().get(1).getBattlefield().size());
+
+        // compact data must be smaller
+        assertSerializationClass("compact", gameView, CompactObjectOutputStream.class, CompactObjectInputStream.class);
+        int defaultSize = getSerializedSize(gameView, false);
+        int compactSize = getSerializedSize(gameView, true);
+        Assert.assertTrue("Compact data must be smaller: " + compactSize + " vs " + defaultSize, compactSize < defaultSize);
+    }
+
+    private int getSerializedSize(Object object, boolean compact) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = compact ? new CompactObjectOutputStream(bos) : new ObjectOutputStream(bos)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            throw new IllegalStateException("Can't serialize: " + e.getMessage(), e);
+        }
+        return bos.size();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void test_Choices_MustHaveProtectionFromKeySetUsage() {
         Map<String, Ability> abilityMap = new HashMap<>();
@@ -0,0 +1,97 @@
+package org.mage.test.serverside.performance;
+
+import mage.abilities.TriggeredAbilities;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import mage.util.DebugUtil;
+import org.apache.log4j.Logger;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.player.TestPlayer;
+import org.mage.test.serverside.base.CardTestMultiPlayerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Benchmark for triggers dispatch on a big 4 players board: events/sec with and without event type index
+ */
+public class TriggersEventTypeIndexPerformanceTest extends CardTestMultiPlayerBase {
+
+    private static final Logger logger = Logger.getLogger(TriggersEventTypeIndexPerformanceTest.class);
+
+    private static final int CARDS_PER_TYPE = 10; // x 4 types x 4 players
+    private static final int WARMUP_EVENTS = 20_000;
+    private static final int BENCHMARK_EVENTS = 200_000;
+
+    private static final GameEvent.EventType[] EVENT_TYPES = {
+            GameEvent.EventType.TAPPED,
+            GameEvent.EventType.UNTAPPED,
+            GameEvent.EventType.GAINED_CONTROL,
+            GameEvent.EventType.DECLARED_ATTACKERS
+    };
+
+    @Test
+    @Ignore // enable for performance tests only
+    public void test_EventsPerSecond() {
+        for (TestPlayer player : new TestPlayer[]{playerA, playerB, playerC, playerD}) {
+            // Whenever another creature enters the battlefield, you gain 1 life.
+            addCard(Zone.BATTLEFIELD, player, "Soul Warden", CARDS_PER_TYPE);
+            // At the beginning of your upkeep, you draw a card and you lose 1 life.
+            addCard(Zone.BATTLEFIELD, player, "Phyrexian Arena", CARDS_PER_TYPE);
+            // Whenever you cast an instant or sorcery spell, Guttersnipe deals 2 damage to each opponent.
+            addCard(Zone.BATTLEFIELD, player, "Guttersnipe", CARDS_PER_TYPE);
+            // Whenever Blood Artist or another creature dies, target player loses 1 life and you gain 1 life.
+            addCard(Zone.BATTLEFIELD, player, "Blood Artist", CARDS_PER_TYPE); // without declared event types
+        }
+
+        runCode("benchmark", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Assert.assertTrue(game.getState().getTriggers().size() >= 4 * 4 * CARDS_PER_TYPE);
+            List<GameEvent> events = prepareEvents(player.getId());
+
+            boolean oldMode = DebugUtil.GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX;
+            try {
+                DebugUtil.GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX = true;
+                runEvents(game, events, WARMUP_EVENTS);
+                long before = runEvents(game, events, BENCHMARK_EVENTS);
+
+                DebugUtil.GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX = false;
+                runEvents(game, events, WARMUP_EVENTS);
+                long after = runEvents(game, events, BENCHMARK_EVENTS);
+
+                logger.info("Triggers: " + game.getState().getTriggers().size());
+                logger.info(String.format("Events/sec without index (before): %d", before));
+                logger.info(String.format("Events/sec with index (after): %d", after));
+            } finally {
+                DebugUtil.GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX = oldMode;
+            }
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private List<GameEvent> prepareEvents(UUID playerId) {
+        // fake events without real targets (must not trigger anything)
+        List<GameEvent> events = new ArrayList<>();
+        for (GameEvent.EventType type : EVENT_TYPES) {
+            events.add(GameEvent.getEvent(type, UUID.randomUUID(), null, playerId));
+        }
+        return events;
+    }
+
+    private long runEvents(Game game, List<GameEvent> events, int amount) {
+        TriggeredAbilities triggers = game.getState().getTriggers();
+        long start = System.nanoTime();
+        for (int i = 0; i < amount; i++) {
+            triggers.checkTriggers(events.get(i % events.size()), game);
+        }
+        long spentNanos = Math.max(1, System.nanoTime() - start);
+        return amount * 1_000_000_000L / spentNanos;
+    }
+}
@@ -0,0 +1,165 @@
+package org.mage.test.serverside.tournament;
+
+import mage.constants.RangeOfInfluence;
+import mage.game.tournament.Round;
+import mage.game.tournament.TournamentPairing;
+import mage.game.tournament.TournamentPlayer;
+import mage.game.tournament.pairing.RoundPairings;
+import mage.game.tournament.pairing.SwissPairingScoreGroups;
+import mage.game.tournament.pairing.SwissPairingSimple;
+import mage.players.StubPlayer;
+import mage.util.RandomUtil;
+import org.junit.Assert;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.mage.test.stub.TournamentStub;
+
+import java.util.*;
+
+/**
+ * Swiss pairings for big tournaments
+ */
+public class SwissPairingScoreGroupsTest {
+
+    private List<TournamentPlayer> createPlayers(int playersCount) {
+        List<TournamentPlayer> players = new ArrayList<>();
+        for (int i = 0; i < playersCount; i++) {
+            players.add(new TournamentPlayer(new StubPlayer("Tourney player " + (i + 1), RangeOfInfluence.ALL), null));
+        }
+        return players;
+    }
+
+    private int getRoundsCount(int playersCount) {
+        // usual swiss rounds amount
+        return (int) Math.ceil(Math.log(playersCount) / Math.log(2));
+    }
+
+    private String getPairKey(TournamentPairing pairing) {
+        int hash1 = System.identityHashCode(pairing.getPlayer1());
+        int hash2 = System.identityHashCode(pairing.getPlayer2());
+        return Math.min(hash1, hash2) + " - " + Math.max(hash1, hash2);
+    }
+
+    private void playRound(List<Round> rounds, RoundPairings roundPairings) {
+        Round round = new Round(rounds.size() + 1, new TournamentStub());
+        rounds.add(round);
+        for (TournamentPairing pairing : roundPairings.getPairings()) {
+            round.addPairing(pairing);
+            if (RandomUtil.nextBoolean()) {
+                pairing.getPlayer1().setPoints(pairing.getPlayer1().getPoints() + 3);
+            } else {
+                pairing.getPlayer2().setPoints(pairing.getPlayer2().getPoints() + 3);
+            }
+        }
+        for (TournamentPlayer playerBye : roundPairings.getPlayerByes()) {
+            round.getPlayerByes().add(playerBye);
+            playerBye.setPoints(playerBye.getPoints() + 3);
+        }
+    }
+
+    private void simulateTournament(int playersCount, int roundsCount) {
+        List<TournamentPlayer> players = createPlayers(playersCount);
+        Set<String> playedPairs = new HashSet<>();
+        Set<TournamentPlayer> playersByes = new HashSet<>();
+
+        List<Round> rounds = new ArrayList<>();
+        for (int i = 0; i < roundsCount; i++) {
+            RoundPairings roundPairings = new SwissPairingScoreGroups(players, rounds, i + 1 == roundsCount).getRoundPairings();
+
+            Assert.assertEquals(playersCount / 2, roundPairings.getPairings().size());
+            Assert.assertEquals(playersCount % 2, roundPairings.getPlayerByes().size());
+
+            Set<TournamentPlayer> roundPlayers = new HashSet<>(roundPairings.getPlayerByes());
+            for (TournamentPairing pairing : roundPairings.getPairings()) {
+                Assert.assertTrue("Player must be paired once per round", roundPlayers.add(pairing.getPlayer1()));
+                Assert.assertTrue("Player must be paired once per round", roundPlayers.add(pairing.getPlayer2()));
+                Assert.assertTrue("Match between players has been played already", playedPairs.add(getPairKey(pairing)));
+            }
+            Assert.assertEquals(playersCount, roundPlayers.size());
+            for (TournamentPlayer playerBye : roundPairings.getPlayerByes()) {
+                Assert.assertTrue("Player already had bye", playersByes.add(playerBye));
+            }
+
+            playRound(rounds, roundPairings);
+        }
+    }
+
+    @Test
+    public void test_FirstRound_PairTopHalfVsBottomHalf() {
+        List<TournamentPlayer> players = createPlayers(8);
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setPoints(i < 4 ? 3 : 0);
+        }
+
+        RoundPairings roundPairings = new SwissPairingScoreGroups(players, new ArrayList<>(), false).getRoundPairings();
+        Assert.assertEquals(4, roundPairings.getPairings().size());
+        Assert.assertEquals(0, roundPairings.getPlayerByes().size());
+        for (TournamentPairing pairing : roundPairings.getPairings()) {
+            Assert.assertEquals("Players must be paired inside score groups",
+                    pairing.getPlayer1().getPoints(), pairing.getPlayer2().getPoints());
+        }
+    }
+
+    @Test
+    public void test_Bye_LowestPlayerWithoutBye() {
+        List<TournamentPlayer> players = createPlayers(5);
+        players.get(0).setPoints(6);
+        players.get(1).setPoints(3);
+        players.get(2).setPoints(3);
+        players.get(3).setPoints(3);
+        players.get(4).setPoints(3);
+
+        // lowest player already had bye
+        List<Round> rounds = new ArrayList<>();
+        Round round = new Round(1, new TournamentStub());
+        round.addPairing(new TournamentPairing(players.get(0), players.get(1)));
+        round.addPairing(new TournamentPairing(players.get(2), players.get(3)));
+        round.getPlayerByes().add(players.get(4));
+        rounds.add(round);
+
+        RoundPairings roundPairings = new SwissPairingScoreGroups(players, rounds, false).getRoundPairings();
+        Assert.assertEquals(2, roundPairings.getPairings().size());
+        Assert.assertEquals(1, roundPairings.getPlayerByes().size());
+        Assert.assertNotEquals(players.get(4), roundPairings.getPlayerByes().get(0));
+        Assert.assertNotEquals(players.get(0), roundPairings.getPlayerByes().get(0));
+    }
+
+    @Test
+    public void test_SimulateDifferentTournaments() {
+        for (int playersCount = 2; playersCount <= 70; playersCount++) {
+            simulateTournament(playersCount, Math.min(getRoundsCount(playersCount), playersCount % 2 == 0 ? playersCount - 1 : playersCount));
+        }
+        simulateTournament(128, getRoundsCount(128));
+    }
+
+    @Test
+    @Ignore // debug only, can be slow (10+ secs)
+    public void test_Performance() {
+        for (int playersCount : Arrays.asList(64, 256, 1024)) {
+            int roundsCount = getRoundsCount(playersCount);
+
+            long scoreGroupsTime = 0;
+            List<TournamentPlayer> players = createPlayers(playersCount);
+            List<Round> rounds = new ArrayList<>();
+            for (int i = 0; i < roundsCount; i++) {
+                long startTime = System.nanoTime();
+                RoundPairings roundPairings = new SwissPairingScoreGroups(players, rounds, i + 1 == roundsCount).getRoundPairings();
+                scoreGroupsTime += System.nanoTime() - startTime;
+                playRound(rounds, roundPairings);
+            }
+
+            long simpleTime = 0;
+            players = createPlayers(playersCount);
+            rounds = new ArrayList<>();
+            for (int i = 0; i < roundsCount; i++) {
+                long startTime = System.nanoTime();
+                RoundPairings roundPairings = new SwissPairingSimple(new ArrayList<>(players), rounds).getRoundPairings();
+                simpleTime += System.nanoTime() - startTime;
+                playRound(rounds, roundPairings);
+            }
+
+            System.out.println(String.format("%d players, %d rounds: score groups %d ms, simple %d ms",
+                    playersCount, roundsCount, scoreGroupsTime / 1000000, simpleTime / 1000000));
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package org.mage.test.utils;
 
+import mage.Mana;
+import mage.abilities.Ability;
+import mage.abilities.mana.BlackManaAbility;
 import mage.abilities.mana.ManaOptions;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
@@ -626,4 +629,74 @@ public class ManaOptionsTest extends CardTestPlayerBase {
 
         ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
     }
+
+    @Test
+    public void testRemoveDominatedVariations() {
+        ManaOptions manaOptions = new ManaOptions();
+        manaOptions.add(Mana.WhiteMana(1));
+        manaOptions.add(Mana.WhiteMana(2));
+        manaOptions.add(Mana.GreenMana(1));
+        manaOptions.add(Mana.GenericMana(1));
+        manaOptions.add(Mana.GenericMana(2));
+        manaOptions.add(Mana.AnyMana(1));
+        manaOptions.removeDominatedVariations();
+
+        Assert.assertEquals("mana variations don't fit", 4, manaOptions.size());
+        Assert.assertTrue("must keep bigger option", manaOptions.contains(Mana.WhiteMana(2)));
+        Assert.assertTrue("must keep colored option with less total mana", manaOptions.contains(Mana.GreenMana(1)));
+        Assert.assertTrue("must keep bigger option", manaOptions.contains(Mana.GenericMana(2)));
+        Assert.assertTrue("must keep any mana option", manaOptions.contains(Mana.AnyMana(1)));
+        Assert.assertFalse("must remove dominated option", manaOptions.contains(Mana.WhiteMana(1)));
+        Assert.assertFalse("must remove dominated option", manaOptions.contains(Mana.GenericMana(1)));
+    }
+
+    @Test
+    public void testCache_LandTapped() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertManaOptions("{G}{G}", playerA.getAvailableManaTest(currentGame));
+
+        // tap without game events
+        getPermanent("Forest", playerA).setTapped(true);
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{G}", manaOptions);
+    }
+
+    @Test
+    public void testCache_ManaPoolEmptied() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Ability source = getPermanent("Forest", playerA).getAbilities().getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+        playerA.getManaPool().addMana(Mana.RedMana(1), currentGame, source);
+        assertManaOptions("{R}{G}", playerA.getAvailableManaTest(currentGame));
+
+        playerA.getManaPool().emptyPool(currentGame);
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{G}", manaOptions);
+    }
+
+    @Test
+    public void testCache_ManaAbilityGained() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertManaOptions("{G}", playerA.getAvailableManaTest(currentGame));
+
+        // gain without game events
+        getPermanent("Grizzly Bears", playerA).addAbility(new BlackManaAbility(), null, currentGame);
+        ManaOptions manaOptions = playerA.getAvailableManaTest(currentGame);
+        Assert.assertEquals("mana variations don't fit", 1, manaOptions.size());
+        assertManaOptions("{B}{G}", manaOptions);
+    }
 }
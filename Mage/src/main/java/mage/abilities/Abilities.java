@@ -36,6 +36,13 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
      */
     List<String> getRules(boolean capitalize);
 
+    /**
+     * Same as getRules, but with abilities texts from game's rules cache. Use it for user's data like GameView
+     *
+     * @param game on null will generate all texts
+     */
+    List<String> getRules(boolean capitalize, Game game);
+
     /**
      * Return full rules with card hints. Use it for user's data like GameView
      *
@@ -265,6 +272,13 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
 
     String getValue();
 
+    /**
+     * Structural modifications counter (add/remove), so changed list can be found without full compare
+     *
+     * @return
+     */
+    int getModificationsCount();
+
     @Deprecated
         // use permanent.removeAbility instead
     boolean remove(Object o);
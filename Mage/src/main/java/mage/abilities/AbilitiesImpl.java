@@ -8,6 +8,7 @@ import mage.abilities.mana.ActivatedManaAbilityImpl;
 import mage.abilities.mana.ManaAbility;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.game.RulesCache;
 import mage.util.CardUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
@@ -52,6 +53,12 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public List<String> getRules(boolean capitalize) {
+        return getRules(capitalize, null);
+    }
+
+    @Override
+    public List<String> getRules(boolean capitalize, Game game) {
+        RulesCache rulesCache = game == null ? null : game.getRulesCache();
         List<String> rules = new ArrayList<>();
 
         for (T ability : this) {
@@ -59,7 +66,7 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
                 continue;
             }
             if (!(ability instanceof SpellAbility || ability instanceof PlayLandAbility)) {
-                String rule = ability.getRule();
+                String rule = rulesCache == null ? ability.getRule() : rulesCache.getRule(ability, game);
                 if (rule != null && rule.length() > 3) {
                     if (capitalize) {
                         rule = Character.toUpperCase(rule.charAt(0)) + rule.substring(1);
@@ -89,7 +96,7 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
                     }
                     rules.add(sbRule.toString());
                 }
-                String rule = ability.getRule();
+                String rule = rulesCache == null ? ability.getRule() : rulesCache.getRule(ability, game);
                 if (rule != null) {
                     if (!rule.isEmpty()) {
                         rules.add(Character.toUpperCase(rule.charAt(0)) + rule.substring(1));
@@ -315,4 +322,9 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
         }
         return sb.toString();
     }
+
+    @Override
+    public int getModificationsCount() {
+        return modCount;
+    }
 }
@@ -9,9 +9,11 @@ import mage.game.permanent.Permanent;
 import mage.game.stack.Spell;
 import mage.util.CardUtil;
 import mage.util.Copyable;
+import mage.util.DebugUtil;
 import org.apache.log4j.Logger;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -21,8 +23,34 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private static final Logger logger = Logger.getLogger(TriggeredAbilities.class);
 
+    // cache: trigger class -> can use its getTriggerEventTypes declaration
+    private static final Map<Class<?>, Boolean> eventTypesDeclarationSupport = new ConcurrentHashMap<>();
+
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // event type index to check only candidate triggers instead all (big boards can have hundreds of triggers);
+    // it's updated on each trigger add/remove, so applyEffects (removes and adds gained triggers again) costs
+    // changed triggers only; runtime cache only, so it will be rebuilt on first usage after copy/load
+    private transient Map<String, IndexedTrigger> indexedTriggers = null; // null - must be rebuilt
+    private transient Map<GameEvent.EventType, Map<String, IndexedTrigger>> eventTypeTriggers = null; // declared types
+    private transient Map<String, IndexedTrigger> anyEventTypeTriggers = null; // without declared types
+    // merged candidates in the main map's order, lists are never modified in place
+    // (old lists can be used as snapshots by currently processing events)
+    private transient Map<GameEvent.EventType, List<TriggeredAbility>> eventTypeCandidates = null;
+    private transient long indexedTriggersOrder = 0;
+
+    private static final class IndexedTrigger {
+        private final long order; // same order as the main map
+        private final Set<GameEvent.EventType> eventTypes; // null - any event type
+        private TriggeredAbility ability;
+
+        private IndexedTrigger(long order, Set<GameEvent.EventType> eventTypes, TriggeredAbility ability) {
+            this.order = order;
+            this.eventTypes = eventTypes;
+            this.ability = ability;
+        }
+    }
+
     // data integrity check for triggers
     // reason: game engine can generate additional events and triggers while checking another one,
     // it can generate multiple bugs, freeze, etc, see https://github.com/magefree/mage/issues/8426
@@ -78,7 +106,7 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     public void checkStateTriggers(Game game) {
         makeSureNotProcessing(null);
 
-        processingStart(null);
+        processingStart(null, this.values());
         boolean needErrorChecksOnEnd = true;
         try {
             for (Iterator<TriggeredAbility> it = this.values().iterator(); it.hasNext(); ) {
@@ -98,10 +126,12 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void checkTriggers(GameEvent event, Game game) {
-        processingStart(event);
-        boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        List<TriggeredAbility> currentTriggers = DebugUtil.GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX
+                ? new ArrayList<>(this.values())
+                : getTriggersForEventType(event.getType());
+        processingStart(event, currentTriggers);
+        boolean needErrorChecksOnEnd = true;
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -130,13 +160,13 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
-    private void processingStart(GameEvent newEvent) {
+    private void processingStart(GameEvent newEvent, Collection<TriggeredAbility> needTriggers) {
         makeSureNotProcessing(newEvent);
 
         this.processingStarted = true;
         this.processingStartedEvent = newEvent == null ? null : newEvent.getType();
         this.processingNeed.clear();
-        this.processingNeed.addAll(this.values());
+        this.processingNeed.addAll(needTriggers);
         this.processingDone.clear();
     }
 
@@ -151,40 +181,21 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
                 throw new IllegalArgumentException("Triggers integrity failed: can't finish event before start");
             }
 
-            // must use ability's id to check equal (rules can be diff due usage of dynamic values - alternative to card hints)
-            List<UUID> needIds = new ArrayList<>();
-            String needInfo = this.processingNeed.stream()
-                    .peek(a -> needIds.add(a.getId()))
-                    .map(t -> "- " + t)
-                    .sorted()
-                    .collect(Collectors.joining("\n"));
-            List<UUID> doneIds = new ArrayList<>();
-            String doneInfo = this.processingDone.stream()
-                    .peek(a -> doneIds.add(a.getId()))
-                    .map(t -> "- " + t)
-                    .sorted()
-                    .collect(Collectors.joining("\n"));
-            String errorInfo = ""
-                    + "\n" + "Need: "
-                    + "\n" + (needInfo.isEmpty() ? "-" : needInfo)
-                    + "\n" + "Done: "
-                    + "\n" + (doneInfo.isEmpty() ? "-" : doneInfo);
-
             if (this.enableIntegrityCheck4_EventMustProcessAllOldTriggers
                     && this.processingDone.size() < this.processingNeed.size()) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing miss some triggers" + errorInfo);
+                throw new IllegalArgumentException("Triggers integrity failed: event processing miss some triggers" + getProcessingErrorInfo());
             }
 
             if (this.enableIntegrityCheck5_EventMustProcessInSameOrder
                     && this.processingDone.size() > 0
                     && this.processingDone.size() == this.processingNeed.size()
-                    && !needIds.toString().equals(doneIds.toString())) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing used wrong order" + errorInfo);
+                    && !isSameTriggersOrder(this.processingNeed, this.processingDone)) {
+                throw new IllegalArgumentException("Triggers integrity failed: event processing used wrong order" + getProcessingErrorInfo());
             }
 
             if (this.enableIntegrityCheck6_EventMustNotProcessNewTriggers
                     && this.processingDone.size() > this.processingNeed.size()) {
-                throw new IllegalArgumentException("Triggers integrity failed: event processing must not process new triggers" + errorInfo);
+                throw new IllegalArgumentException("Triggers integrity failed: event processing must not process new triggers" + getProcessingErrorInfo());
             }
         }
 
@@ -194,6 +205,159 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         this.processingDone.clear();
     }
 
+    private static boolean isSameTriggersOrder(List<TriggeredAbility> need, List<TriggeredAbility> done) {
+        // must use ability's id to check equal (rules can be diff due usage of dynamic values - alternative to card hints)
+        for (int i = 0; i < need.size(); i++) {
+            if (!Objects.equals(need.get(i).getId(), done.get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String getProcessingErrorInfo() {
+        // error info only (it's too slow to generate it for each event)
+        String needInfo = this.processingNeed.stream()
+                .map(t -> "- " + t)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        String doneInfo = this.processingDone.stream()
+                .map(t -> "- " + t)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return ""
+                + "\n" + "Need: "
+                + "\n" + (needInfo.isEmpty() ? "-" : needInfo)
+                + "\n" + "Done: "
+                + "\n" + (doneInfo.isEmpty() ? "-" : doneInfo);
+    }
+
+    /**
+     * Find all triggers that can be triggered by the event type (same order as the main map)
+     */
+    private List<TriggeredAbility> getTriggersForEventType(GameEvent.EventType eventType) {
+        if (this.indexedTriggers == null) {
+            rebuildEventTypeIndex();
+        }
+        List<TriggeredAbility> res = this.eventTypeCandidates.get(eventType);
+        if (res == null) {
+            res = mergeByOrder(this.eventTypeTriggers.getOrDefault(eventType, Collections.emptyMap()).values(),
+                    this.anyEventTypeTriggers.values());
+            this.eventTypeCandidates.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static List<TriggeredAbility> mergeByOrder(Collection<IndexedTrigger> first, Collection<IndexedTrigger> second) {
+        List<TriggeredAbility> res = new ArrayList<>(first.size() + second.size());
+        Iterator<IndexedTrigger> firstIt = first.iterator();
+        Iterator<IndexedTrigger> secondIt = second.iterator();
+        IndexedTrigger firstNext = firstIt.hasNext() ? firstIt.next() : null;
+        IndexedTrigger secondNext = secondIt.hasNext() ? secondIt.next() : null;
+        while (firstNext != null || secondNext != null) {
+            if (secondNext == null || (firstNext != null && firstNext.order < secondNext.order)) {
+                res.add(firstNext.ability);
+                firstNext = firstIt.hasNext() ? firstIt.next() : null;
+            } else {
+                res.add(secondNext.ability);
+                secondNext = secondIt.hasNext() ? secondIt.next() : null;
+            }
+        }
+        return res;
+    }
+
+    private void rebuildEventTypeIndex() {
+        this.indexedTriggers = new HashMap<>();
+        this.eventTypeTriggers = new EnumMap<>(GameEvent.EventType.class);
+        this.anyEventTypeTriggers = new LinkedHashMap<>();
+        this.eventTypeCandidates = new EnumMap<>(GameEvent.EventType.class);
+        for (Map.Entry<String, TriggeredAbility> entry : this.entrySet()) {
+            addToEventTypeIndex(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void addToEventTypeIndex(String key, TriggeredAbility ability) {
+        if (this.indexedTriggers == null) {
+            return;
+        }
+        Set<GameEvent.EventType> eventTypes = findTriggerEventTypes(ability);
+        IndexedTrigger indexed = this.indexedTriggers.get(key);
+        if (indexed != null) {
+            // same key keeps its position in the main map
+            if (!Objects.equals(indexed.eventTypes, eventTypes)) {
+                this.indexedTriggers = null;
+                return;
+            }
+            indexed.ability = ability;
+        } else {
+            indexed = new IndexedTrigger(this.indexedTriggersOrder++, eventTypes, ability);
+            this.indexedTriggers.put(key, indexed);
+            if (eventTypes == null) {
+                this.anyEventTypeTriggers.put(key, indexed);
+            } else {
+                for (GameEvent.EventType eventType : eventTypes) {
+                    this.eventTypeTriggers.computeIfAbsent(eventType, k -> new LinkedHashMap<>()).put(key, indexed);
+                }
+            }
+        }
+        resetEventTypeCandidates(eventTypes);
+    }
+
+    private void removeFromEventTypeIndex(String key) {
+        if (this.indexedTriggers == null) {
+            return;
+        }
+        IndexedTrigger indexed = this.indexedTriggers.remove(key);
+        if (indexed == null) {
+            return;
+        }
+        if (indexed.eventTypes == null) {
+            this.anyEventTypeTriggers.remove(key);
+        } else {
+            for (GameEvent.EventType eventType : indexed.eventTypes) {
+                Map<String, IndexedTrigger> triggers = this.eventTypeTriggers.get(eventType);
+                if (triggers != null) {
+                    triggers.remove(key);
+                }
+            }
+        }
+        resetEventTypeCandidates(indexed.eventTypes);
+    }
+
+    private void resetEventTypeCandidates(Set<GameEvent.EventType> eventTypes) {
+        if (eventTypes == null) {
+            this.eventTypeCandidates.clear();
+        } else {
+            for (GameEvent.EventType eventType : eventTypes) {
+                this.eventTypeCandidates.remove(eventType);
+            }
+        }
+    }
+
+    /**
+     * Find declared event types of the trigger (see TriggeredAbility.getTriggerEventTypes)
+     *
+     * @return null if trigger must be checked for any event type
+     */
+    public static Set<GameEvent.EventType> findTriggerEventTypes(TriggeredAbility ability) {
+        if (!eventTypesDeclarationSupport.computeIfAbsent(ability.getClass(), TriggeredAbilities::isEventTypesDeclarationSupported)) {
+            return null;
+        }
+        return ability.getTriggerEventTypes();
+    }
+
+    private static boolean isEventTypesDeclarationSupported(Class<?> triggerClass) {
+        // declaration must be in the same or child class of checkEventType's implementation,
+        // e.g. card's trigger can extend a common trigger and override checkEventType only
+        try {
+            Class<?> checkClass = triggerClass.getMethod("checkEventType", GameEvent.class, Game.class).getDeclaringClass();
+            Class<?> declarationClass = triggerClass.getMethod("getTriggerEventTypes").getDeclaringClass();
+            return !declarationClass.isInterface() && checkClass.isAssignableFrom(declarationClass);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
     private void checkTrigger(TriggeredAbility ability, GameEvent event, Game game) {
         // for effects like when leaves battlefield or destroyed use ShortLKI to check if permanent was in the correct zone before (e.g. Oblivion Ring or Karmic Justice)
         if (this.enableIntegrityLogs) {
@@ -295,11 +459,19 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        keySet().removeIf(key -> {
+            if (key.endsWith(sourceId.toString())) {
+                removeFromEventTypeIndex(key);
+                return true;
+            }
+            return false;
+        });
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        for (String key : sources.keySet()) {
+            this.remove(key);
+        }
         sources.clear();
     }
 
@@ -309,9 +481,37 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
-                && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+        entrySet().removeIf(entry -> {
+            if (game.getObject(entry.getValue().getSourceId()) == null
+                    && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
+                    && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId()))) {
+                removeFromEventTypeIndex(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        TriggeredAbility res = super.put(key, value);
+        addToEventTypeIndex(key, value);
+        return res;
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        TriggeredAbility res = super.remove(key);
+        if (res != null) {
+            removeFromEventTypeIndex((String) key);
+        }
+        return res;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.indexedTriggers = null;
     }
 
     @Override
@@ -4,6 +4,7 @@ import mage.abilities.condition.Condition;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -20,6 +21,20 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Optional declaration of all event types that can pass checkEventType,
+     * used by TriggeredAbilities to check only candidate triggers for the event.
+     * <p>
+     * Must be declared in the same class as checkEventType (if a subclass overrides
+     * checkEventType only then the declaration will be ignored). Must return the same
+     * constant set on each call, e.g. static final field (it's called on each trigger add).
+     *
+     * @return null if event types can't be declared up front (trigger will be checked for each event)
+     */
+    default Set<GameEvent.EventType> getTriggerEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -8,6 +8,9 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -15,6 +18,8 @@ import java.util.UUID;
  */
 public class AttacksTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> TRIGGER_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.DECLARED_ATTACKERS));
+
     protected final String text;
     protected final SetTargetPointer setTargetPointer;
 
@@ -49,6 +54,11 @@ public class AttacksTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.DECLARED_ATTACKERS;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TRIGGER_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         if (!game.getCombat().getAttackers().contains(this.getSourceId())) {
@@ -12,11 +12,17 @@ import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
 import mage.target.targetpointer.FixedTarget;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author North
  */
 public class DiesCreatureTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> TRIGGER_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ZONE_CHANGE));
+
     protected FilterPermanent filter;
     private boolean setTargetPointer;
 
@@ -68,6 +74,11 @@ public class DiesCreatureTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ZONE_CHANGE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TRIGGER_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ZoneChangeEvent zEvent = (ZoneChangeEvent) event;
@@ -11,11 +11,17 @@ import mage.game.permanent.Permanent;
 import mage.target.targetpointer.FixedTarget;
 import mage.util.CardUtil;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author LevelX2
  */
 public class EntersBattlefieldAllTriggeredAbility extends TriggeredAbilityImpl {
 
+    private static final Set<GameEvent.EventType> TRIGGER_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD));
+
     protected FilterPermanent filter;
     protected SetTargetPointer setTargetPointer;
 
@@ -48,6 +54,11 @@ public class EntersBattlefieldAllTriggeredAbility extends TriggeredAbilityImpl {
         return event.getType() == GameEvent.EventType.ENTERS_THE_BATTLEFIELD;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TRIGGER_EVENT_TYPES;
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         Permanent permanent = game.getPermanent(event.getTargetId());
@@ -64,7 +64,7 @@ public class SpellTransformedAbility extends SpellAbility {
     @Override
     public boolean activate(Game game, Set<MageIdentifier> allowedIdentifiers, boolean noMana) {
         if (super.activate(game, allowedIdentifiers, noMana)) {
-            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + getSourceId(), Boolean.TRUE);
+            game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(getSourceId()), Boolean.TRUE);
             // TODO: must be removed after transform cards (one side) migrated to MDF engine (multiple sides)
             TransformedEffect effect = new TransformedEffect();
             game.addEffect(effect, this);
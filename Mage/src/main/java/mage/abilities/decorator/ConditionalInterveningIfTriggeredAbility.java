@@ -2,6 +2,7 @@ package mage.abilities.decorator;
 
 import mage.MageObject;
 import mage.abilities.Modes;
+import mage.abilities.TriggeredAbilities;
 import mage.abilities.TriggeredAbility;
 import mage.abilities.TriggeredAbilityImpl;
 import mage.abilities.condition.Condition;
@@ -17,6 +18,7 @@ import mage.watchers.Watcher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Adds condition to {@link mage.abilities.effects.ContinuousEffect}. Acts as
@@ -71,6 +73,11 @@ public class ConditionalInterveningIfTriggeredAbility extends TriggeredAbilityIm
         return ability.checkEventType(event, game);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TriggeredAbilities.findTriggerEventTypes(ability);
+    }
+
     @Override
     public boolean checkTrigger(GameEvent event, Game game) {
         ability.setSourceId(this.getSourceId());
@@ -2,6 +2,7 @@ package mage.abilities.effects;
 
 import mage.ApprovingObject;
 import mage.MageObject;
+import mage.abilities.Abilities;
 import mage.abilities.Ability;
 import mage.abilities.MageSingleton;
 import mage.abilities.StaticAbility;
@@ -13,6 +14,7 @@ import mage.filter.FilterCard;
 import mage.filter.predicate.Predicate;
 import mage.filter.predicate.Predicates;
 import mage.filter.predicate.mageobject.CardIdPredicate;
+import mage.game.CardState;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.game.events.ZoneChangeEvent;
@@ -185,29 +187,14 @@ public class ContinuousEffects implements Serializable {
     public synchronized List<ContinuousEffect> getLayeredEffects(Game game, String timestampGroupName) {
         List<ContinuousEffect> layerEffects = new ArrayList<>();
         for (ContinuousEffect effect : layeredEffects) {
-            switch (effect.getDuration()) {
-                case WhileOnBattlefield:
-                case WhileControlled:
-                case WhileOnStack:
-                case WhileInGraveyard:
-                    Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
-                    if (!abilities.isEmpty()) {
-                        for (Ability ability : abilities) {
-                            // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
-                            if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, null)) {
-                                layerEffects.add(effect);
-                                break;
-                            }
-                        }
-                    } else {
-                        logger.error("No abilities for continuous effect: " + effect);
-                    }
-                    break;
-                default:
-                    layerEffects.add(effect);
+            if (isLayeredEffectActive(effect, game)) {
+                layerEffects.add(effect);
             }
         }
+        return sortLayeredEffects(timestampGroupName, layerEffects);
+    }
 
+    private List<ContinuousEffect> sortLayeredEffects(String timestampGroupName, List<ContinuousEffect> layerEffects) {
         updateTimestamps(timestampGroupName, layerEffects);
         layerEffects.sort(Comparator.comparingLong(ContinuousEffect::getOrder));
         /* debug effects apply order:
@@ -219,6 +206,36 @@ public class ContinuousEffects implements Serializable {
         return layerEffects;
     }
 
+    private boolean isLayeredEffectActive(ContinuousEffect effect, Game game) {
+        if (!isLayeredEffectCanBeDisabled(effect)) {
+            return true;
+        }
+        Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
+        if (abilities.isEmpty()) {
+            logger.error("No abilities for continuous effect: " + effect);
+            return false;
+        }
+        for (Ability ability : abilities) {
+            // If e.g. triggerd abilities (non static) created the effect, the ability must not be in usable zone (e.g. Unearth giving Haste effect)
+            if (!(ability instanceof StaticAbility) || ability.isInUseableZone(game, null, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLayeredEffectCanBeDisabled(ContinuousEffect effect) {
+        switch (effect.getDuration()) {
+            case WhileOnBattlefield:
+            case WhileControlled:
+            case WhileOnStack:
+            case WhileInGraveyard:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Initially effect timestamp is set when game starts in game.loadCard
      * method. After that timestamp should be updated whenever effect becomes
@@ -237,9 +254,10 @@ public class ContinuousEffects implements Serializable {
             lastEffectsListOnLayer.put(timestampGroupName, new ContinuousEffectsList<>());
         }
         ContinuousEffectsList<ContinuousEffect> prevs = lastEffectsListOnLayer.get(timestampGroupName);
+        Set<ContinuousEffect> prevsSet = new HashSet<>(prevs); // fast search on big boards
         for (ContinuousEffect continuousEffect : layerEffects) {
             // check if it's new, then set order
-            if (!prevs.contains(continuousEffect)) {
+            if (!prevsSet.contains(continuousEffect)) {
                 setOrder(continuousEffect);
             }
         }
@@ -963,10 +981,15 @@ public class ContinuousEffects implements Serializable {
         return caught;
     }
 
+    /**
+     * @param incremental re-check active effects for changed source permanents only (see ActiveEffectsTracker),
+     *                    false - full check after each applied effect
+     */
     //20091005 - 613
-    public synchronized void apply(Game game) {
+    public synchronized void apply(Game game, boolean incremental) {
         removeInactiveEffects(game);
-        List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game); // main call
+        ActiveEffectsTracker activeEffects = new ActiveEffectsTracker(incremental);
+        List<ContinuousEffect> activeLayerEffects = activeEffects.getLayeredEffects(game, "main"); // main call
 
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
@@ -983,7 +1006,7 @@ public class ContinuousEffects implements Serializable {
         }
         //Reload layerEffect if copy effects were applied
         if (!layer.isEmpty()) {
-            activeLayerEffects = getLayeredEffects(game, "layer_1");
+            activeLayerEffects = activeEffects.getLayeredEffects(game, "layer_1");
         }
 
         layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
@@ -1005,19 +1028,19 @@ public class ContinuousEffects implements Serializable {
             game.getBattlefield().resetPermanentsControl();
         }
 
-        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
-        activeLayerEffects = getLayeredEffects(game, "layer_3");
-        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
-        activeLayerEffects = getLayeredEffects(game, "layer_4");
-        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
-        activeLayerEffects = getLayeredEffects(game, "layer_5");
+        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3", activeEffects);
+        activeLayerEffects = activeEffects.getLayeredEffects(game, "layer_3");
+        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4", activeEffects);
+        activeLayerEffects = activeEffects.getLayeredEffects(game, "layer_4");
+        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5", activeEffects);
+        activeLayerEffects = activeEffects.getLayeredEffects(game, "layer_5");
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
         Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
         Set<UUID> appliedEffects = new HashSet<>();
         applyStatus.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, null, game);
-        activeLayerEffects = getLayeredEffects(game, "layer_6");
+        activeLayerEffects = activeEffects.getLayeredEffects(game, "layer_6");
 
         while (!done) { // loop needed if a added effect adds again an effect (e.g. Level 5- of Joraga Treespeaker)
             done = true;
@@ -1072,7 +1095,7 @@ public class ContinuousEffects implements Serializable {
                     effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                     done = false;
                     // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                    activeLayerEffects = getLayeredEffects(game, "apply");
+                    activeLayerEffects = activeEffects.getLayeredEffects(game, "apply");
                 }
                 appliedEffects.add(effect.getId());
 
@@ -1099,7 +1122,7 @@ public class ContinuousEffects implements Serializable {
                         entry.getKey().apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                         done = false;
                         // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                        activeLayerEffects = getLayeredEffects(game, "apply");
+                        activeLayerEffects = activeEffects.getLayeredEffects(game, "apply");
                     }
                     appliedEffects.add(entry.getKey().getId());
                     iterator.remove();
@@ -1107,7 +1130,18 @@ public class ContinuousEffects implements Serializable {
             }
         }
 
-        layer = filterLayeredEffects(activeLayerEffects, Layer.PTChangingEffects_7);
+        // P/T and later layers can't change controllers, types or phasing, so battlefield's filters
+        // can use index (e.g. for "gets +1/+1 for each creature you control" effects)
+        game.getBattlefield().enableFilterIndex();
+        try {
+            applyPTAndLaterLayers(activeLayerEffects, game);
+        } finally {
+            game.getBattlefield().disableFilterIndex();
+        }
+    }
+
+    private void applyPTAndLaterLayers(List<ContinuousEffect> activeLayerEffects, Game game) {
+        List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.PTChangingEffects_7);
         for (ContinuousEffect effect : layer) {
             Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
             for (Ability ability : abilities) {
@@ -1158,7 +1192,7 @@ public class ContinuousEffects implements Serializable {
         return object != null && object.hasAbility(ability, game);
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
+    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName, ActiveEffectsTracker activeEffects) {
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
         // layer is a list of all effects at the current layer
         if (!layer.isEmpty()) {
@@ -1181,7 +1215,7 @@ public class ContinuousEffects implements Serializable {
                 applyContinuousEffect(effect, currentLayer, game);
                 // add it to the applied effects list
                 appliedEffects.add(effect.getId());
-                layer = getLayeredEffects(game, timestampGroupName);
+                layer = activeEffects.getLayeredEffects(game, timestampGroupName);
 
                 // check waiting effects to see if it has anything to check
                 if (!waitingEffects.isEmpty()) {
@@ -1192,7 +1226,7 @@ public class ContinuousEffects implements Serializable {
                             applyContinuousEffect(entry.getKey(), currentLayer, game);
                             // add it to the applied effects list
                             appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
+                            layer = activeEffects.getLayeredEffects(game, timestampGroupName);
                         }
                     }
                 }
@@ -1203,7 +1237,7 @@ public class ContinuousEffects implements Serializable {
                             applyContinuousEffect(entry.getKey(), currentLayer, game);
                             // add it to the applied effects list
                             appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
+                            layer = activeEffects.getLayeredEffects(game, timestampGroupName);
                         }
                     }
                 }
@@ -1420,4 +1454,123 @@ public class ContinuousEffects implements Serializable {
     public String toString() {
         return "Effects: " + getTotalEffectsCount();
     }
+
+    /**
+     * Active effects search for one effects apply. Effect can be turned on or off by source object's abilities only
+     * (zones, phasing and entering permanents can't be changed while effects apply), so incremental search re-checks
+     * new effects and effects with changed source permanents only (e.g. if "Turn to Frog" removes abilities).
+     * Returns same effects and timestamps as full search (see getLayeredEffects)
+     */
+    private final class ActiveEffectsTracker {
+
+        private final boolean incremental;
+        private final Map<ContinuousEffect, ActiveEffectInfo> effectsInfo = new HashMap<>();
+
+        ActiveEffectsTracker(boolean incremental) {
+            this.incremental = incremental;
+        }
+
+        List<ContinuousEffect> getLayeredEffects(Game game, String timestampGroupName) {
+            if (!incremental) {
+                return ContinuousEffects.this.getLayeredEffects(game, timestampGroupName);
+            }
+            List<ContinuousEffect> layerEffects = new ArrayList<>();
+            for (ContinuousEffect effect : layeredEffects) {
+                ActiveEffectInfo info = effectsInfo.get(effect);
+                if (info == null || info.isChanged()) {
+                    info = new ActiveEffectInfo(effect, game);
+                    effectsInfo.put(effect, info);
+                }
+                if (info.active) {
+                    layerEffects.add(effect);
+                }
+            }
+            return sortLayeredEffects(timestampGroupName, layerEffects);
+        }
+    }
+
+    private final class ActiveEffectInfo {
+
+        private final ContinuousEffect effect;
+        private final boolean active;
+        private final int abilitiesCount;
+        private final List<SourceAbilitiesState> sources; // null - non permanent sources, must be checked all the time
+
+        ActiveEffectInfo(ContinuousEffect effect, Game game) {
+            this.effect = effect;
+            this.active = isLayeredEffectActive(effect, game);
+            if (!isLayeredEffectCanBeDisabled(effect)) {
+                this.abilitiesCount = 0;
+                this.sources = null;
+                return;
+            }
+
+            Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
+            List<SourceAbilitiesState> abilitiesSources = new ArrayList<>(abilities.size());
+            for (Ability ability : abilities) {
+                // same source object as in ability.isInUseableZone
+                MageObject object = game.getPermanentEntering(ability.getSourceId());
+                if (object == null) {
+                    object = game.getObject(ability.getSourceId());
+                }
+                if (!(object instanceof Permanent)) {
+                    abilitiesSources = null;
+                    break;
+                }
+                abilitiesSources.add(new SourceAbilitiesState((Permanent) object, game));
+            }
+            this.abilitiesCount = abilities.size();
+            this.sources = abilitiesSources;
+        }
+
+        boolean isChanged() {
+            if (!isLayeredEffectCanBeDisabled(effect)) {
+                return false;
+            }
+            if (sources == null) {
+                return true;
+            }
+            if (layeredEffects.getAbility(effect.getId()).size() != abilitiesCount) {
+                return true;
+            }
+            for (SourceAbilitiesState source : sources) {
+                if (source.isChanged()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Permanent's abilities snapshot (base and dynamic lists, see CardImpl.getAbilities(game))
+     */
+    private static final class SourceAbilitiesState {
+
+        private final Permanent permanent;
+        private final Abilities<Ability> abilities;
+        private final int abilitiesModifications;
+        private final CardState cardState;
+        private final Abilities<Ability> otherAbilities;
+        private final int otherAbilitiesModifications;
+        private final boolean lostAllAbilities;
+
+        SourceAbilitiesState(Permanent permanent, Game game) {
+            this.permanent = permanent;
+            this.abilities = permanent.getAbilities();
+            this.abilitiesModifications = this.abilities.getModificationsCount();
+            this.cardState = game.getState().getCardState(permanent.getId());
+            this.otherAbilities = this.cardState.getAbilities();
+            this.otherAbilitiesModifications = this.otherAbilities.getModificationsCount();
+            this.lostAllAbilities = this.cardState.hasLostAllAbilities();
+        }
+
+        boolean isChanged() {
+            return permanent.getAbilities() != abilities
+                    || abilities.getModificationsCount() != abilitiesModifications
+                    || cardState.getAbilities() != otherAbilities
+                    || otherAbilities.getModificationsCount() != otherAbilitiesModifications
+                    || cardState.hasLostAllAbilities() != lostAllAbilities;
+        }
+    }
 }
@@ -60,7 +60,7 @@ public class ChooseModeEffect extends OneShotEffect {
             return false;
         }
         game.informPlayers(sourcePermanent.getLogName() + ": " + controller.getLogName() + " has chosen " + choice.getChoice());
-        game.getState().setValue(source.getSourceId() + "_modeChoice", choice.getChoice());
+        game.getState().setValue(ModeChoice.VALUE_KEY_MODE_CHOICE.key(source.getSourceId()), choice.getChoice());
         sourcePermanent.addInfo("_modeChoice", "<font color = 'blue'>Chosen mode: " + choice.getChoice() + "</font>", game);
         return true;
     }
@@ -9,6 +9,7 @@ import mage.cards.Card;
 import mage.constants.*;
 import mage.game.Game;
 import mage.game.MageObjectAttribute;
+import mage.game.ValueKey;
 import mage.game.permanent.Permanent;
 import mage.game.permanent.PermanentToken;
 import mage.game.stack.Spell;
@@ -20,7 +21,7 @@ import mage.util.CardUtil;
 public class TransformAbility extends SimpleStaticAbility {
 
     // this state value controls if a permanent enters the battlefield already transformed
-    public static final String VALUE_KEY_ENTER_TRANSFORMED = "EnterTransformed";
+    public static final ValueKey.Namespace<Boolean> VALUE_KEY_ENTER_TRANSFORMED = new ValueKey.Namespace<>("EnterTransformed");
 
     public TransformAbility() {
         super(Zone.BATTLEFIELD, new TransformEffect());
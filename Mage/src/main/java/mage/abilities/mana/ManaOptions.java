@@ -72,6 +72,10 @@ public class ManaOptions extends LinkedHashSet<Mana> {
                             Mana newMana = new Mana();
                             newMana.add(mana);
                             newMana.add(triggeredManaVariation);
+                            if (this.contains(newMana)) {
+                                // fast check for same mana before full search
+                                continue;
+                            }
                             for (Mana existingMana : this) {
                                 if (existingMana.equalManaValue(newMana)) {
                                     continue SkipAddMana;
@@ -570,6 +574,48 @@ public class ManaOptions extends LinkedHashSet<Mana> {
         this.addAll(that);
     }
 
+    /**
+     * Remove dominated variations, so mana calculations on big boards can't freeze the game thread.
+     * Option will be removed only if another option has same or more mana of each type (colors, colorless,
+     * generic and any), e.g. {W} will be removed by {W}{W}, but {G} and {W}{W} will be kept both.
+     * <p>
+     * Conditional mana is not supported and will be kept as is.
+     */
+    public void removeDominatedVariations() {
+        if (this.size() < 2) {
+            return;
+        }
+
+        // dominating option can't have less mana, so it will be checked first
+        List<Mana> sorted = new ArrayList<>(this);
+        sorted.sort(Comparator.comparingInt((Mana mana) -> mana.count()).reversed());
+        List<Mana> kept = new ArrayList<>();
+        Set<Mana> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Mana mana : sorted) {
+            if (!(mana instanceof ConditionalMana)
+                    && kept.stream().anyMatch(keptMana -> !(keptMana instanceof ConditionalMana) && isDominating(keptMana, mana))) {
+                removed.add(mana);
+            } else {
+                kept.add(mana);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            this.removeIf(removed::contains);
+        }
+    }
+
+    private static boolean isDominating(Mana mana, Mana otherMana) {
+        return mana.getWhite() >= otherMana.getWhite()
+                && mana.getBlue() >= otherMana.getBlue()
+                && mana.getBlack() >= otherMana.getBlack()
+                && mana.getRed() >= otherMana.getRed()
+                && mana.getGreen() >= otherMana.getGreen()
+                && mana.getColorless() >= otherMana.getColorless()
+                && mana.getGeneric() >= otherMana.getGeneric()
+                && mana.getAny() >= otherMana.getAny();
+    }
+
     /**
      * Checks if the given mana (cost) is already included in one available mana
      * option
@@ -6,11 +6,17 @@ import mage.constants.Zone;
 import mage.game.Game;
 import mage.game.events.GameEvent;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * @author Loki
  */
 public class BeginningOfUpkeepTriggeredAbility extends AtStepTriggeredAbility {
 
+    private static final Set<GameEvent.EventType> TRIGGER_EVENT_TYPES = Collections.unmodifiableSet(EnumSet.of(GameEvent.EventType.UPKEEP_STEP_PRE));
+
     /**
      * At the beginning of your upkeep (optional = false)
      */
@@ -48,6 +54,11 @@ public class BeginningOfUpkeepTriggeredAbility extends AtStepTriggeredAbility {
         return event.getType() == GameEvent.EventType.UPKEEP_STEP_PRE;
     }
 
+    @Override
+    public Set<GameEvent.EventType> getTriggerEventTypes() {
+        return TRIGGER_EVENT_TYPES;
+    }
+
     @Override
     protected String generateTriggerPhrase() {
         switch (targetController) {
@@ -31,6 +31,9 @@ import mage.util.ManaUtil;
 import mage.watchers.Watcher;
 import org.apache.log4j.Logger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
@@ -41,6 +44,19 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     private static final Logger logger = Logger.getLogger(CardImpl.class);
 
+    private static final ClassValue<CardConstructor> cardConstructors = new ClassValue<CardConstructor>() {
+        @Override
+        protected CardConstructor computeValue(Class<?> type) {
+            return new CardConstructor(type, false);
+        }
+    };
+    private static final ClassValue<CardConstructor> cardSetConstructors = new ClassValue<CardConstructor>() {
+        @Override
+        protected CardConstructor computeValue(Class<?> type) {
+            return new CardConstructor(type, true);
+        }
+    };
+
     protected UUID ownerId;
     protected Rarity rarity;
     protected Class<? extends Card> secondSideCardClazz;
@@ -184,12 +200,10 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         try {
             Card card;
             if (setInfo == null) {
-                Constructor<?> con = clazz.getConstructor(UUID.class);
-                card = (Card) con.newInstance(new Object[]{null});
+                card = cardConstructors.get(clazz).create(null);
             } else {
                 setCode = setInfo.getExpansionSetCode();
-                Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
-                card = (Card) con.newInstance(null, setInfo);
+                card = cardSetConstructors.get(clazz).create(setInfo);
             }
             return card;
         } catch (Exception e) {
@@ -208,6 +222,51 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         }
     }
 
+    /**
+     * Card's constructor, prepared once per card class
+     * <p>
+     * Reflection's constructor search and access checks on each call are too slow for mass cards creation
+     * (e.g. sealed tournaments with many players or AI deck building), so it uses cached method handles.
+     */
+    private static final class CardConstructor {
+
+        private final MethodHandle handle; // (UUID) -> Card or (UUID, CardSetInfo) -> Card
+        private final ReflectiveOperationException error;
+        private final boolean withSetInfo;
+
+        private CardConstructor(Class<?> clazz, boolean withSetInfo) {
+            this.withSetInfo = withSetInfo;
+            Class<?>[] params = withSetInfo ? new Class<?>[]{UUID.class, CardSetInfo.class} : new Class<?>[]{UUID.class};
+            MethodHandle foundHandle = null;
+            ReflectiveOperationException foundError = null;
+            try {
+                Constructor<?> con = clazz.getConstructor(params);
+                foundHandle = MethodHandles.lookup().unreflectConstructor(con)
+                        .asType(MethodType.methodType(Card.class, params));
+            } catch (ReflectiveOperationException e) {
+                foundError = e;
+            }
+            this.handle = foundHandle;
+            this.error = foundError;
+        }
+
+        private Card create(CardSetInfo setInfo) throws ReflectiveOperationException {
+            if (this.error != null) {
+                throw this.error;
+            }
+            try {
+                if (this.withSetInfo) {
+                    return (Card) this.handle.invokeExact((UUID) null, setInfo);
+                } else {
+                    return (Card) this.handle.invokeExact((UUID) null);
+                }
+            } catch (Throwable e) {
+                // same as reflection's newInstance
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+
     @Override
     public UUID getOwnerId() {
         return ownerId;
@@ -0,0 +1,100 @@
+package mage.cards;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cards list with version of the content, used by rarely changed zones like graveyards and exile
+ * <p>
+ * Each change gets new unique version for all games, so copies and rollbacks keep the same version
+ * for the same content. Game views use it to reuse cards views until zone changes (see ZoneViewsCache).
+ */
+public class VersionedCards extends CardsImpl {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private long version = VERSIONS.incrementAndGet();
+
+    public VersionedCards() {
+        super();
+    }
+
+    public VersionedCards(Collection<UUID> cardIds) {
+        super(cardIds);
+    }
+
+    protected VersionedCards(final VersionedCards cards) {
+        super(cards);
+        this.version = cards.version;
+    }
+
+    @Override
+    public VersionedCards copy() {
+        return new VersionedCards(this);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    private void changed() {
+        this.version = VERSIONS.incrementAndGet();
+    }
+
+    @Override
+    public boolean add(UUID cardId) {
+        boolean res = super.add(cardId);
+        if (res) {
+            changed();
+        }
+        return res;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean res = super.remove(o);
+        if (res) {
+            changed();
+        }
+        return res;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        changed();
+    }
+
+    @Override
+    public Iterator<UUID> iterator() {
+        // removeIf, retainAll and other bulk operations use iterator's remove
+        Iterator<UUID> it = super.iterator();
+        return new Iterator<UUID>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public UUID next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                changed();
+            }
+        };
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // versions are unique for current server only (saved games and replays)
+        changed();
+    }
+}
@@ -0,0 +1,179 @@
+package mage.cards.repository;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Cards DB: read only in-memory copy of the cards table with indexes for most used queries
+ * <p>
+ * Cards table is static after cards scan, so catalog can be built once on app start and used instead
+ * DB queries (e.g. choose card name dialogs, deck import, boosters generation). It keeps all cards
+ * in memory, so it's optional and must be enabled by app (see CardRepository.enableCatalog).
+ * <p>
+ * Results must be same as DB queries, so all text keys are case insensitive (DB uses IGNORECASE mode)
+ * and search results keep DB's rows order.
+ */
+final class CardCatalog {
+
+    private final CardInfo[] cards;
+
+    // indexes: key -> row numbers in ascending order
+    private final Map<String, int[]> byName;
+    private final Map<String, int[]> byOtherName; // second side, flip, spell option and mdfc names
+    private final Map<String, int[]> bySetAndNumber;
+    private final Map<String, int[]> bySetCode;
+    private final Map<String, int[]> byClassName;
+
+    CardCatalog(List<CardInfo> allCards) {
+        this.cards = allCards.toArray(new CardInfo[0]);
+
+        Map<String, List<Integer>> names = new HashMap<>();
+        Map<String, List<Integer>> otherNames = new HashMap<>();
+        Map<String, List<Integer>> setAndNumbers = new HashMap<>();
+        Map<String, List<Integer>> setCodes = new HashMap<>();
+        Map<String, List<Integer>> classNames = new HashMap<>();
+        for (int row = 0; row < cards.length; row++) {
+            CardInfo card = cards[row];
+            addToIndex(names, card.getName(), row);
+            addToIndex(otherNames, card.getFlipCardName(), row);
+            addToIndex(otherNames, card.getSecondSideName(), row);
+            addToIndex(otherNames, card.getSpellOptionCardName(), row);
+            addToIndex(otherNames, card.getModalDoubleFacedSecondSideName(), row);
+            addToIndex(setAndNumbers, makeSetAndNumberKey(card.getSetCode(), card.getCardNumber()), row);
+            addToIndex(setCodes, card.getSetCode(), row);
+            addToIndex(classNames, card.getClassName(), row);
+        }
+        this.byName = prepareIndex(names);
+        this.byOtherName = prepareIndex(otherNames);
+        this.bySetAndNumber = prepareIndex(setAndNumbers);
+        this.bySetCode = prepareIndex(setCodes);
+        this.byClassName = prepareIndex(classNames);
+    }
+
+    private static String makeKey(String text) {
+        return text.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Card's key by set code and card number (also used by cards scan)
+     */
+    static String makeSetAndNumberKey(String setCode, String cardNumber) {
+        return setCode + " - " + cardNumber;
+    }
+
+    private static void addToIndex(Map<String, List<Integer>> index, String key, int row) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        index.computeIfAbsent(makeKey(key), k -> new ArrayList<>()).add(row);
+    }
+
+    private static Map<String, int[]> prepareIndex(Map<String, List<Integer>> index) {
+        Map<String, int[]> res = new HashMap<>(index.size() * 4 / 3 + 1);
+        index.forEach((key, rows) -> res.put(key, rows.stream().mapToInt(Integer::intValue).toArray()));
+        return res;
+    }
+
+    private List<CardInfo> getRows(Map<String, int[]> index, String key, long limitByMaxAmount) {
+        if (key == null) {
+            return new ArrayList<>();
+        }
+        int[] rows = index.get(makeKey(key));
+        if (rows == null) {
+            return new ArrayList<>();
+        }
+        int amount = limitByMaxAmount > 0 ? (int) Math.min(rows.length, limitByMaxAmount) : rows.length;
+        List<CardInfo> res = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            res.add(cards[rows[i]]);
+        }
+        return res;
+    }
+
+    int size() {
+        return cards.length;
+    }
+
+    List<CardInfo> findByName(String name, long limitByMaxAmount) {
+        return getRows(byName, name, limitByMaxAmount);
+    }
+
+    List<CardInfo> findByOtherName(String name, long limitByMaxAmount) {
+        return getRows(byOtherName, name, limitByMaxAmount);
+    }
+
+    List<CardInfo> findBySetAndNumber(String setCode, String cardNumber) {
+        return getRows(bySetAndNumber, makeSetAndNumberKey(setCode, cardNumber), 0);
+    }
+
+    List<CardInfo> findByClassName(String className) {
+        return getRows(byClassName, className, 0);
+    }
+
+    List<CardInfo> findAll(Predicate<CardInfo> filter) {
+        List<CardInfo> res = new ArrayList<>();
+        for (CardInfo card : cards) {
+            if (filter.test(card)) {
+                res.add(card);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Same as DB query from criteria, but without sorting support
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        criteria.optimize();
+
+        // rows to check
+        int[] rows;
+        if (criteria.getSetCodes().isEmpty()) {
+            rows = null; // all
+        } else {
+            rows = criteria.getSetCodes().stream()
+                    .map(setCode -> bySetCode.get(makeKey(setCode)))
+                    .filter(Objects::nonNull)
+                    .flatMapToInt(Arrays::stream)
+                    .distinct()
+                    .sorted()
+                    .toArray();
+        }
+
+        long skip = criteria.getStart() == null ? 0 : criteria.getStart();
+        long limit = criteria.getCount() == null ? Long.MAX_VALUE : criteria.getCount();
+        List<CardInfo> res = new ArrayList<>();
+        int rowsCount = rows == null ? cards.length : rows.length;
+        for (int i = 0; i < rowsCount && res.size() < limit; i++) {
+            CardInfo card = cards[rows == null ? i : rows[i]];
+            if (criteria.matches(card)) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    res.add(card);
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Case insensitive version of DB's LIKE '%part%'
+     */
+    static boolean containsIgnoreCase(String text, String part) {
+        if (text == null || part == null) {
+            return false;
+        }
+        int maxStart = text.length() - part.length();
+        for (int start = 0; start <= maxStart; start++) {
+            if (text.regionMatches(true, start, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean equalsIgnoreCase(String text, String other) {
+        return text != null && text.equalsIgnoreCase(other);
+    }
+}
@@ -370,7 +370,83 @@ public class CardCriteria {
         }
     }
 
-    private CardCriteria optimize() {
+    /**
+     * In-memory version of the query for cards catalog, must be same as buildQuery (call optimize before)
+     */
+    boolean matches(CardInfo card) {
+        if (nightCard != null && card.isNightCard() != nightCard) {
+            return false;
+        }
+        if (card.isSplitCardHalf()) {
+            return false;
+        }
+        if (nameContains != null && !CardCatalog.containsIgnoreCase(card.name, nameContains)) {
+            return false;
+        }
+        if (name != null && !CardCatalog.equalsIgnoreCase(card.name, name)) {
+            return false;
+        }
+        if (rules != null && !CardCatalog.containsIgnoreCase(card.rules, rules)) {
+            return false;
+        }
+
+        if (variousArt != null && card.variousArt != variousArt) {
+            return false;
+        }
+        if (doubleFaced != null && card.isDoubleFaced() != doubleFaced) {
+            return false;
+        }
+        if (modalDoubleFaced != null && card.isModalDoubleFacedCard() != modalDoubleFaced) {
+            return false;
+        }
+
+        if (!rarities.isEmpty() && !rarities.contains(card.getRarity())) {
+            return false;
+        }
+        if (!setCodes.isEmpty() && setCodes.stream().noneMatch(setCode -> CardCatalog.equalsIgnoreCase(card.setCode, setCode))) {
+            return false;
+        }
+        if (ignoreSetCodes.stream().anyMatch(setCode -> CardCatalog.equalsIgnoreCase(card.setCode, setCode))) {
+            return false;
+        }
+
+        if (types.size() != 7 && !types.isEmpty()
+                && types.stream().noneMatch(type -> CardCatalog.containsIgnoreCase(card.types, type.name()))) {
+            return false;
+        }
+        if (notTypes.stream().anyMatch(type -> CardCatalog.containsIgnoreCase(card.types, type.name()))) {
+            return false;
+        }
+        if (!supertypes.stream().allMatch(superType -> CardCatalog.containsIgnoreCase(card.supertypes, superType.name()))) {
+            return false;
+        }
+        if (notSupertypes.stream().anyMatch(superType -> CardCatalog.containsIgnoreCase(card.supertypes, superType.name()))) {
+            return false;
+        }
+        if (!subtypes.stream().allMatch(subType -> CardCatalog.containsIgnoreCase(card.subtypes, subType.toString()))) {
+            return false;
+        }
+
+        if (manaValue != null && card.manaValue != manaValue) {
+            return false;
+        }
+
+        if (black || blue || green || red || white || colorless) {
+            boolean isColorless = !card.black && !card.blue && !card.green && !card.red && !card.white;
+            if (!((black && card.black)
+                    || (blue && card.blue)
+                    || (green && card.green)
+                    || (red && card.red)
+                    || (white && card.white)
+                    || (colorless && isColorless))) {
+                return false;
+            }
+        }
+
+        return card.cardNumberAsInt >= minCardNumber && card.cardNumberAsInt <= maxCardNumber;
+    }
+
+    CardCriteria optimize() {
         // remove rarity
         if (rarities.size() > 0) {
             List<Rarity> unusedRarities = new ArrayList<>(Arrays.asList(Rarity.values()));
@@ -20,6 +20,7 @@ import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +43,7 @@ public enum CardRepository {
     private static final long CARD_CONTENT_VERSION = 241; // raise this if new cards were added to the server
 
     private Dao<CardInfo, Object> cardsDao;
+    private volatile CardCatalog catalog = null; // optional in-memory copy of the cards table
 
     // sets with exclusively snow basics
     public static final Set<String> snowLandSetCodes = new HashSet<>(Arrays.asList(
@@ -69,6 +71,7 @@ public enum CardRepository {
             TableUtils.createTableIfNotExists(connectionSource, CardInfo.class);
             cardsDao = DaoManager.createDao(connectionSource, CardInfo.class);
         } catch (SQLException e) {
+            // enum constructor can't use static logger field
             Logger.getLogger(CardRepository.class).error("Error creating card repository - " + e, e);
             processMemoryErrors(e);
         }
@@ -110,7 +113,7 @@ public enum CardRepository {
                         cardsDao.create(card);
                     }
                 } catch (SQLException e) {
-                    Logger.getLogger(CardRepository.class).error("Error adding cards to DB - " + e, e);
+                    logger.error("Error adding cards to DB - " + e, e);
                     processMemoryErrors(e);
                 }
                 return null;
@@ -120,6 +123,50 @@ public enum CardRepository {
         } catch (Exception ex) {
             //
         }
+
+        if (this.catalog != null) {
+            enableCatalog();
+        }
+    }
+
+    /**
+     * Use in-memory copy of the cards table instead DB queries (most used queries only). It needs additional
+     * memory, so use it for server side only. Must be called after cards scan.
+     */
+    public void enableCatalog() {
+        try {
+            this.catalog = new CardCatalog(cardsDao.queryForAll());
+            logger.info("Cards catalog: loaded " + this.catalog.size() + " cards");
+        } catch (SQLException e) {
+            this.catalog = null;
+            logger.error("Error loading cards catalog from DB, possible low memory: " + e, e);
+            processMemoryErrors(e);
+        }
+    }
+
+    public void disableCatalog() {
+        this.catalog = null;
+    }
+
+    public boolean isCatalogEnabled() {
+        return this.catalog != null;
+    }
+
+    private Set<String> getNamesFromCatalog(CardCatalog catalog, Predicate<CardInfo> filter) {
+        Set<String> names = new TreeSet<>();
+        for (CardInfo card : catalog.findAll(filter)) {
+            addNewNames(card, names);
+        }
+        return names;
+    }
+
+    private static boolean hasType(CardInfo card, CardType cardType) {
+        // same as DB's like search
+        return CardCatalog.containsIgnoreCase(card.types, cardType.name());
+    }
+
+    private static boolean hasSuperType(CardInfo card, SuperType superType) {
+        return CardCatalog.containsIgnoreCase(card.supertypes, superType.name());
     }
 
     private void addNewNames(CardInfo card, Set<String> namesList) {
@@ -157,6 +204,11 @@ public enum CardRepository {
     }
 
     public Set<String> getNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> true);
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -166,13 +218,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting names from DB, possible low memory: " + e, e);
+            logger.error("Error getting names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getNonLandNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> !hasType(card, CardType.LAND));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -183,13 +240,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
+            logger.error("Error getting non-land names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getNonbasicLandNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> !hasSuperType(card, SuperType.BASIC) && hasType(card, CardType.LAND));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -204,13 +266,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
+            logger.error("Error getting non-land names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getNotBasicLandNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> !hasSuperType(card, SuperType.BASIC));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -221,13 +288,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land names from DB, possible low memory: " + e, e);
+            logger.error("Error getting non-land names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getCreatureNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> hasType(card, CardType.CREATURE));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -238,13 +310,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting creature names from DB, possible low memory: " + e, e);
+            logger.error("Error getting creature names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getArtifactNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> hasType(card, CardType.ARTIFACT));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -255,13 +332,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting artifact names from DB, possible low memory: " + e, e);
+            logger.error("Error getting artifact names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getNonLandAndNonCreatureNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> !hasType(card, CardType.CREATURE) && !hasType(card, CardType.LAND));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -276,13 +358,18 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
+            logger.error("Error getting non-land and non-creature names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
     }
 
     public Set<String> getNonArtifactAndNonLandNames() {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return getNamesFromCatalog(catalog, card -> !hasType(card, CardType.ARTIFACT) && !hasType(card, CardType.LAND));
+        }
+
         Set<String> names = new TreeSet<>();
         try {
             QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
@@ -297,7 +384,7 @@ public enum CardRepository {
                 addNewNames(card, names);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
+            logger.error("Error getting non-artifact non-land names from DB, possible low memory: " + e, e);
             processMemoryErrors(e);
         }
         return names;
@@ -308,6 +395,17 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            // some double faced cards can use second side card with same number as main side
+            // (example: vow - 65 - Jacob Hauken, Inspector), so make priority for main side first
+            List<CardInfo> cards = catalog.findBySetAndNumber(setCode, cardNumber);
+            return cards.stream()
+                    .filter(card -> !card.isNightCard())
+                    .findFirst()
+                    .orElse(ignoreNightCards || cards.isEmpty() ? null : cards.get(0));
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             if (ignoreNightCards) {
@@ -329,12 +427,32 @@ public enum CardRepository {
                 return result.get(0);
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error finding card from DB: " + e, e);
+            logger.error("Error finding card from DB: " + e, e);
             processMemoryErrors(e);
         }
         return null;
     }
 
+    /**
+     * All cards in DB as set code and card number pairs (fast check for new cards on scan)
+     *
+     * @return keys like "set - number"
+     */
+    public Set<String> getSetAndNumberKeys() {
+        Set<String> keys = new HashSet<>();
+        try {
+            QueryBuilder<CardInfo, Object> qb = cardsDao.queryBuilder();
+            qb.distinct().selectColumns("setCode", "cardNumber");
+            for (CardInfo card : cardsDao.query(qb.prepare())) {
+                keys.add(CardCatalog.makeSetAndNumberKey(card.getSetCode(), card.getCardNumber()));
+            }
+        } catch (SQLException e) {
+            logger.error("Error getting card numbers from DB: " + e, e);
+            processMemoryErrors(e);
+        }
+        return keys;
+    }
+
     public List<String> getClassNames() {
         List<String> names = new ArrayList<>();
         try {
@@ -343,7 +461,7 @@ public enum CardRepository {
                 names.add(card.getClassName());
             }
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting classnames from DB, possible low memory:" + e, e);
+            logger.error("Error getting classnames from DB, possible low memory:" + e, e);
             processMemoryErrors(e);
         }
         return names;
@@ -356,7 +474,7 @@ public enum CardRepository {
 
             return cardsDao.query(queryBuilder.prepare());
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting missing cards from DB: " + e, e);
+            logger.error("Error getting missing cards from DB: " + e, e);
             processMemoryErrors(e);
         }
 
@@ -481,6 +599,11 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return findCardsInCatalog(catalog, name, limitByMaxAmount, returnSplitCardHalf);
+        }
+
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
         if (limitByMaxAmount > 0) {
@@ -543,7 +666,7 @@ public enum CardRepository {
             }
             return results;
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement: " + e, e);
+            logger.error("Error during execution of raw sql statement: " + e, e);
             if (canCheckDatabaseHealth) {
                 processMemoryErrors(e);
             }
@@ -552,17 +675,55 @@ public enum CardRepository {
         return Collections.emptyList();
     }
 
+    /**
+     * Same as DB version of findCards
+     */
+    private List<CardInfo> findCardsInCatalog(CardCatalog catalog, String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        if (name.contains(" // ")) {
+            List<CardInfo> results = catalog.findByName(name, limitByMaxAmount);
+            if (results.isEmpty()) {
+                results = catalog.findByName(name.split(" // ", 2)[0], limitByMaxAmount);
+            }
+            return results;
+        }
+
+        List<CardInfo> results = catalog.findByName(name, limitByMaxAmount);
+        if (results.isEmpty()) {
+            return catalog.findByOtherName(name, limitByMaxAmount);
+        }
+
+        CardInfo firstCardInfo = results.get(0);
+        if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+            String fullSplitCardName = catalog.findBySetAndNumber(firstCardInfo.setCode, firstCardInfo.cardNumber)
+                    .stream()
+                    .filter(CardInfo::isSplitCard)
+                    .map(CardInfo::getName)
+                    .findFirst()
+                    .orElse(null);
+            if (fullSplitCardName == null) {
+                return Collections.emptyList();
+            }
+            results = catalog.findByName(fullSplitCardName, limitByMaxAmount);
+        }
+        return results;
+    }
+
     public List<CardInfo> findCards(String name, long limitByMaxAmount) {
         return findCards(name, limitByMaxAmount, false, true);
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null) {
+            return catalog.findByClassName(canonicalClassName);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
             return cardsDao.query(queryBuilder.prepare());
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of raw sql statement" + e, e);
+            logger.error("Error during execution of raw sql statement" + e, e);
             processMemoryErrors(e);
         }
         return Collections.emptyList();
@@ -578,13 +739,18 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        CardCatalog catalog = this.catalog;
+        if (catalog != null && criteria.getSortBy() == null) {
+            return catalog.findCards(criteria);
+        }
+
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
 
             return cardsDao.query(queryBuilder.prepare());
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error during execution of card repository query statement: " + e, e);
+            logger.error("Error during execution of card repository query statement: " + e, e);
             processMemoryErrors(e);
         }
         return Collections.emptyList();
@@ -626,7 +792,7 @@ public enum CardRepository {
             ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, false));
             return RepositoryUtil.getDatabaseVersion(connectionSource, VERSION_ENTITY_NAME + "Content");
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error getting content version from DB - " + e, e);
+            logger.error("Error getting content version from DB - " + e, e);
             processMemoryErrors(e);
         }
         return 0;
@@ -637,7 +803,7 @@ public enum CardRepository {
             ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, false));
             RepositoryUtil.updateVersion(connectionSource, VERSION_ENTITY_NAME + "Content", version);
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error setting content version - " + e, e);
+            logger.error("Error setting content version - " + e, e);
             processMemoryErrors(e);
         }
     }
@@ -673,7 +839,7 @@ public enum CardRepository {
             ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, true));
             cardsDao = DaoManager.createDao(connectionSource, CardInfo.class);
         } catch (SQLException e) {
-            Logger.getLogger(CardRepository.class).error("Error opening card repository - " + e, e);
+            logger.error("Error opening card repository - " + e, e);
         }
     }
 
@@ -749,7 +915,7 @@ public enum CardRepository {
             return true;
         }
 
-        Logger.getLogger(CardRepository.class).error("Database: checking broken status... BAD");
+        logger.error("Database: checking broken status... BAD");
 
         if (databaseFixes.incrementAndGet() > MAX_DATABASE_FIXES) {
             logger.error("Critical error: no more db memory fixes allows, server must be restarted");
@@ -3,10 +3,8 @@ package mage.cards.repository;
 import mage.cards.*;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author North
@@ -15,6 +13,8 @@ public final class CardScanner {
 
     public static boolean scanned = false;
 
+    private static final int SAVE_CHUNK_SIZE = 5000; // new cards to create and save at once
+
     private static final Logger logger = Logger.getLogger(CardScanner.class);
 
     public static void scan() {
@@ -27,7 +27,6 @@ public final class CardScanner {
         }
         scanned = true;
 
-        List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
 
@@ -51,35 +50,103 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
+        long checkStartTime = System.currentTimeMillis();
+        Set<String> existingCards = CardRepository.instance.getSetAndNumberKeys();
+        List<NewCard> newCards = new ArrayList<>();
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!existingCards.contains(CardCatalog.makeSetAndNumberKey(set.getCode(), setInfo.getCardNumber()))) {
                     // found new card
-                    Card card = CardImpl.createCard(
-                            setInfo.getCardClass(),
-                            new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo()),
-                            errorsList);
-                    if (card != null) {
-                        // Adds only main card, except night cards.
-
-                        // TODO: remove night cards from sets and db someday
-                        // Possible reasons for night cards in sets:
-                        // - direct put night card to battlefield by name in tests;
-                        // - images download;
-                        // - in old days xmage client was able to works without card classes, e.g.
-                        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
-
-                        cardsToAdd.add(new CardInfo(card));
-                        if (card instanceof SplitCard) {
-                            SplitCard splitCard = (SplitCard) card;
-                            cardsToAdd.add(new CardInfo(splitCard.getLeftHalfCard()));
-                            cardsToAdd.add(new CardInfo(splitCard.getRightHalfCard()));
-                        }
-                    }
+                    newCards.add(new NewCard(set, setInfo));
                 }
             }
         }
-        CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+        long checkTime = System.currentTimeMillis() - checkStartTime;
+        if (newCards.isEmpty()) {
+            logger.info("Cards scan: no new cards, check time " + checkTime + " ms");
+            return;
+        }
+
+        // create cards by all cores, but save by chunks in the same order as sets
+        // (first DB start must save ~100k cards, so it's a bottleneck for server and client updates)
+        List<String> errors = new ArrayList<>();
+        long createTime = 0;
+        long saveTime = 0;
+        int savedRecords = 0;
+        for (int i = 0; i < newCards.size(); i += SAVE_CHUNK_SIZE) {
+            long chunkStartTime = System.currentTimeMillis();
+            List<CardInfo> cardsToAdd = makeCardInfos(newCards.subList(i, Math.min(i + SAVE_CHUNK_SIZE, newCards.size())), true, errors);
+            long chunkCreatedTime = System.currentTimeMillis();
+            CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+            savedRecords += cardsToAdd.size();
+            createTime += chunkCreatedTime - chunkStartTime;
+            saveTime += System.currentTimeMillis() - chunkCreatedTime;
+        }
+        if (errorsList != null) {
+            errorsList.addAll(errors);
+        }
+        logger.info(String.format("Cards scan: added %d new cards (%d DB records), check time %d ms, create time %d ms, save time %d ms",
+                newCards.size(), savedRecords, checkTime, createTime, saveTime));
+    }
+
+    /**
+     * Create DB records for all cards of the set (same as scan does for new cards)
+     *
+     * @param parallel create cards by all cores, must give same records as serial mode
+     */
+    public static List<CardInfo> makeCardInfos(ExpansionSet set, boolean parallel, List<String> errorsList) {
+        List<NewCard> newCards = set.getSetCardInfo()
+                .stream()
+                .map(setInfo -> new NewCard(set, setInfo))
+                .collect(Collectors.toList());
+        return makeCardInfos(newCards, parallel, errorsList);
+    }
+
+    private static List<CardInfo> makeCardInfos(List<NewCard> newCards, boolean parallel, List<String> errorsList) {
+        // ordered collect keeps sets order
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        List<CardInfo> res = (parallel ? newCards.parallelStream() : newCards.stream())
+                .map(newCard -> makeCardInfos(newCard, errors))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        errorsList.addAll(errors);
+        return res;
+    }
+
+    private static List<CardInfo> makeCardInfos(NewCard newCard, List<String> errorsList) {
+        Card card = CardImpl.createCard(newCard.cardClass, newCard.setInfo, errorsList);
+        if (card == null) {
+            return Collections.emptyList();
+        }
+
+        // Adds only main card, except night cards.
+
+        // TODO: remove night cards from sets and db someday
+        // Possible reasons for night cards in sets:
+        // - direct put night card to battlefield by name in tests;
+        // - images download;
+        // - in old days xmage client was able to works without card classes, e.g.
+        //   downloads unknown cards from the server as texts (images, hints and all other works fine with it)
+
+        List<CardInfo> res = new ArrayList<>();
+        res.add(new CardInfo(card));
+        if (card instanceof SplitCard) {
+            SplitCard splitCard = (SplitCard) card;
+            res.add(new CardInfo(splitCard.getLeftHalfCard()));
+            res.add(new CardInfo(splitCard.getRightHalfCard()));
+        }
+        return res;
+    }
+
+    private static final class NewCard {
+
+        private final Class<?> cardClass;
+        private final CardSetInfo setInfo;
+
+        private NewCard(ExpansionSet set, ExpansionSet.SetCardInfo setInfo) {
+            this.cardClass = setInfo.getCardClass();
+            this.setInfo = new CardSetInfo(setInfo.getName(), set.getCode(), setInfo.getCardNumber(), setInfo.getRarity(), setInfo.getGraphicInfo());
+        }
     }
 
     public static List<Card> getAllCards() {
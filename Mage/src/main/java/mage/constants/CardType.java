@@ -99,6 +99,10 @@ public enum CardType {
             return input.getCardType(game).contains(cardType);
         }
 
+        public CardType getCardType() {
+            return cardType;
+        }
+
         @Override
         public String toString() {
             return "CardType(" + cardType.toString() + ')';
@@ -3,6 +3,7 @@ package mage.constants;
 import mage.abilities.Ability;
 import mage.abilities.condition.Condition;
 import mage.game.Game;
+import mage.game.ValueKey;
 
 import java.util.Objects;
 
@@ -38,6 +39,9 @@ public enum ModeChoice {
     LEFT("left"),
     RIGHT("right");
 
+    // chosen mode's name by source id
+    public static final ValueKey.Namespace<String> VALUE_KEY_MODE_CHOICE = new ValueKey.Namespace<>("modeChoice");
+
     private static class ModeChoiceCondition implements Condition {
 
         private final ModeChoice modeChoice;
@@ -70,6 +74,6 @@ public enum ModeChoice {
     }
 
     public boolean checkMode(Game game, Ability source) {
-        return Objects.equals(game.getState().getValue(source.getSourceId() + "_modeChoice"), name);
+        return Objects.equals(game.getState().getValue(VALUE_KEY_MODE_CHOICE.key(source.getSourceId())), name);
     }
 }
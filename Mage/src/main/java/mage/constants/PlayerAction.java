@@ -64,5 +64,6 @@ public enum PlayerAction {
     UNHOLD_PRIORITY,
     VIEW_LIMITED_DECK,
     VIEW_SIDEBOARD,
-    TOGGLE_RECORD_MACRO
+    TOGGLE_RECORD_MACRO,
+    RESYNC_GAME_VIEW // network: client can't restore game view from incremental updates
 }
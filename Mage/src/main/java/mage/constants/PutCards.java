@@ -78,7 +78,7 @@ public enum PutCards {
             case SHUFFLE:
                 return player.shuffleCardsToLibrary(card, game, source);
             case BATTLEFIELD_TRANSFORMED:
-                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId(), Boolean.TRUE);
+                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId()), Boolean.TRUE);
             case BATTLEFIELD:
             case EXILED:
             case HAND:
@@ -104,7 +104,7 @@ public enum PutCards {
             case SHUFFLE:
                 return player.shuffleCardsToLibrary(cards, game, source);
             case BATTLEFIELD_TRANSFORMED:
-                cards.stream().forEach(uuid -> game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + uuid, Boolean.TRUE));
+                cards.stream().forEach(uuid -> game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(uuid), Boolean.TRUE));
             case BATTLEFIELD:
             case EXILED:
             case HAND:
@@ -1,13 +1,13 @@
 package mage.game;
 
-import mage.cards.CardsImpl;
+import mage.cards.VersionedCards;
 
 import java.util.UUID;
 
 /**
  * @author BetaSteward_at_googlemail.com
  */
-public class ExileZone extends CardsImpl {
+public class ExileZone extends VersionedCards {
 
     private final UUID id;
     private final String name;
@@ -596,6 +596,23 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
 
     void setSaveGame(boolean saveGame);
 
+    /**
+     * Replays support: record all saved states of the game (works with enabled save game only)
+     */
+    void setReplayRecorder(ReplayRecorder replayRecorder);
+
+    /**
+     * Views support: cached abilities texts for all views of the game
+     *
+     * @return cache of the real game, null for game copies (AI simulations, playable calcs)
+     */
+    RulesCache getRulesCache();
+
+    /**
+     * Views support: game views are built from the game's copy, so it must use the real game's cache
+     */
+    void setRulesCache(RulesCache rulesCache);
+
     // game options
     void setGameOptions(GameOptions options);
 
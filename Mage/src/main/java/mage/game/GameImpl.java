@@ -151,6 +151,8 @@ public abstract class GameImpl implements Game {
 
     private boolean scopeRelevant = false; // replacement effects: used to indicate that currently applied replacement effects have to check for scope relevance (614.12 13/01/18)
     private boolean saveGame = false; // replay code, not done
+    private transient ReplayRecorder replayRecorder = null; // real game only, so copies don't record states
+    private transient RulesCache rulesCache = null; // views data, real game only (simulations must not fill it)
     private int priorityTime; // Match time limit (per player). Set at the start of the match and only goes down.
     private int bufferTime; // Buffer time before priority time starts going down. Buffer time is refreshed every time the timer starts.
     private final int startingLife;
@@ -177,6 +179,7 @@ public abstract class GameImpl implements Game {
         this.startingHandSize = startingHandSize;
         this.executingRollback = false;
         this.minimumDeckSize = minimumDeckSize;
+        this.rulesCache = new RulesCache();
 
         initGameDefaultWatchers();
     }
@@ -255,6 +258,9 @@ public abstract class GameImpl implements Game {
     @Override
     public Game createSimulationForAI() {
         Game res = this.copy();
+        if (DebugUtil.GAME_COPY_VERIFY_WITH_SERIALIZATION) {
+            new Copier<Game>().verifyCopy(this, res);
+        }
         ((GameImpl) res).simulation = true;
         ((GameImpl) res).aiGame = true;
         return res;
@@ -772,7 +778,7 @@ public abstract class GameImpl implements Game {
         // copied cards removes, but delayed triggered possible from it, see https://github.com/magefree/mage/issues/5437
         // TODO: remove that workround after LKI rework, see GameState.copyCard
         if (card == null) {
-            card = (Card) state.getValue(GameState.COPIED_CARD_KEY + cardId);
+            card = state.getValue(GameState.COPIED_CARD_KEY.key(cardId));
         }
         return card;
     }
@@ -804,9 +810,13 @@ public abstract class GameImpl implements Game {
     @Override
     public void saveState(boolean bookmark) {
         if (!simulation && gameStates != null) {
-            if (bookmark || saveGame) {
+            if (bookmark) {
                 gameStates.save(state);
             }
+            if (saveGame && replayRecorder != null) {
+                // replays keep all states, so it's written outside of undo/rollback history
+                replayRecorder.saveState(state);
+            }
         }
     }
 
@@ -1939,9 +1949,53 @@ public abstract class GameImpl implements Game {
 
     @Override
     public synchronized void applyEffects() {
+        if (gameOptions != null // game can be copied after start only
+                && (DebugUtil.GAME_EFFECTS_VERIFY_INCREMENTAL_APPLY || gameOptions.verifyIncrementalApplyEffects)) {
+            verifyIncrementalApplyEffects();
+        }
         state.applyEffects(this);
     }
 
+    /**
+     * Devs only: incremental effects apply must give same permanents as full apply,
+     * see DebugUtil.GAME_EFFECTS_VERIFY_INCREMENTAL_APPLY and GameOptions.verifyIncrementalApplyEffects
+     * <p>
+     * Both modes run on game's copies, so effects get same timestamps
+     */
+    private void verifyIncrementalApplyEffects() {
+        GameImpl incrementalGame = (GameImpl) this.copy();
+        incrementalGame.state.applyEffects(incrementalGame, true);
+        GameImpl fullGame = (GameImpl) this.copy();
+        fullGame.state.applyEffects(fullGame, false);
+
+        int errorsCount = 0;
+        for (Permanent permanent : fullGame.getBattlefield().getAllPermanents()) {
+            String fullInfo = getEffectsApplyInfo(permanent, fullGame);
+            String incrementalInfo = getEffectsApplyInfo(incrementalGame.getPermanent(permanent.getId()), incrementalGame);
+            if (!fullInfo.equals(incrementalInfo)) {
+                logger.error("Wrong incremental effects apply on turn " + getTurnNum() + " - " + getTurnStepType() + ": "
+                        + incrementalInfo + " instead " + fullInfo);
+                errorsCount++;
+            }
+        }
+        if (errorsCount > 0) {
+            throw new IllegalStateException("Wrong code usage: incremental effects apply gives different permanents ("
+                    + errorsCount + "), see logs for details");
+        }
+    }
+
+    private static String getEffectsApplyInfo(Permanent permanent, Game game) {
+        if (permanent == null) {
+            return "null";
+        }
+        return permanent.getIdName()
+                + ", controller " + permanent.getControllerId()
+                + ", " + permanent.getPower().getValue() + "/" + permanent.getToughness().getValue()
+                + ", " + permanent.getCardType(game) + " " + permanent.getSubtype(game)
+                + ", " + permanent.getColor(game)
+                + ", " + permanent.getAbilities(game).stream().map(Ability::getRule).sorted().collect(Collectors.toList());
+    }
+
     @Override
     public void processAction() {
         state.handleSimultaneousEvent(this);
@@ -2431,10 +2485,9 @@ public abstract class GameImpl implements Game {
         // Copied cards list contains all parts of split/adventure/mdfc
         Set<Card> allCopiedCards = new HashSet<>();
         allCopiedCards.addAll(this.getState().getCopiedCards());
-        Map<String, Object> stateSavedCopiedCards = this.getState().getValues(GameState.COPIED_CARD_KEY);
+        Map<UUID, Card> stateSavedCopiedCards = this.getState().getValues(GameState.COPIED_CARD_KEY);
         allCopiedCards.addAll(stateSavedCopiedCards.values()
                 .stream()
-                .map(object -> (Card) object)
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList())
         );
@@ -2514,10 +2567,10 @@ public abstract class GameImpl implements Game {
         // real remove
         copiedCardsToRemove.forEach(card -> {
             card.setZone(Zone.OUTSIDE, this);
-            this.getState().getCopiedCards().remove(card);
+            this.getState().removeCopiedCard(card);
             // must keep card in game state as LKI alternative until LKI rework, so don't remove from it
             // TODO: change after LKI rework
-            //this.getState().removeValue(GameState.COPIED_CARD_KEY + copiedCard.getId().toString());
+            //this.getState().removeValue(GameState.COPIED_CARD_KEY.key(copiedCard.getId()));
         });
 
         List<Permanent> legendary = new ArrayList<>();
@@ -3885,6 +3938,21 @@ public abstract class GameImpl implements Game {
         this.saveGame = saveGame;
     }
 
+    @Override
+    public void setReplayRecorder(ReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+
+    @Override
+    public RulesCache getRulesCache() {
+        return rulesCache;
+    }
+
+    @Override
+    public void setRulesCache(RulesCache rulesCache) {
+        this.rulesCache = rulesCache;
+    }
+
     public void setStartMessage(String startMessage) {
         this.startMessage = startMessage;
     }
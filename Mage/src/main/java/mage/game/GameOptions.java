@@ -64,6 +64,12 @@ public class GameOptions implements Serializable, Copyable<GameOptions> {
      */
     public Collection<DeckCardInfo> globalEmblemCards = new HashSet<>();
 
+    /**
+     * Devs only: compare each incremental effects apply with full apply on game's copies (very slow),
+     * same as DebugUtil.GAME_EFFECTS_VERIFY_INCREMENTAL_APPLY but for that game only (e.g. for unit tests)
+     */
+    public boolean verifyIncrementalApplyEffects = false;
+
 
     // PLANECHASE game mode
     public boolean planeChase = false;
@@ -87,6 +93,7 @@ public class GameOptions implements Serializable, Copyable<GameOptions> {
         this.planeChase = options.planeChase;
         this.perPlayerEmblemCards = new HashSet<>(options.perPlayerEmblemCards);
         this.globalEmblemCards = new HashSet<>(options.globalEmblemCards);
+        this.verifyIncrementalApplyEffects = options.verifyIncrementalApplyEffects;
     }
 
     @Override
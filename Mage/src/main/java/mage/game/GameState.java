@@ -34,7 +34,10 @@ import mage.players.PlayerList;
 import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
+import mage.util.CopyOnWriteMap;
 import mage.util.Copyable;
+import mage.util.DebugUtil;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -42,6 +45,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -59,8 +63,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(1024);
 
     // save copied cards between game cycles (lki workaround)
-    // warning, do not use another keys with same starting text cause copy code search and clean all related values
-    public static final String COPIED_CARD_KEY = "CopiedCard";
+    public static final ValueKey.Namespace<Card> COPIED_CARD_KEY = new ValueKey.Namespace<>("CopiedCard");
 
     private final Players players; // full players by ID (static list, table added order)
     private final PlayerList playerList; // full players (static list, turn order e.g. apnap)
@@ -98,14 +101,14 @@ public class GameState implements Serializable, Copyable<GameState> {
     private DelayedTriggeredAbilities delayed; // all delayed triggers
     private List<TriggeredAbility> triggered = new ArrayList<>(); // raised triggers, waiting to resolve (can contains both normal and delayed)
     private Combat combat;
-    private Map<String, Object> values = new HashMap<>();
-    private Map<UUID, Zone> zones = new HashMap<>();
+    private GameStateValues values = new GameStateValues();
+    private CopyOnWriteMap<UUID, Zone> zones = new CopyOnWriteMap<>(); // shared between state copies until change
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
     private Map<MageObjectReference, Map<String, Object>> permanentCostsTags = new HashMap<>(); // Permanent reference -> map of (tag -> values) describing how the permanent's spell was cast
     private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
-    private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
-    private Map<UUID, Card> copiedCards = new HashMap<>();
+    private CopyOnWriteMap<UUID, Integer> zoneChangeCounter = new CopyOnWriteMap<>(); // shared between state copies until change
+    private CopyOnWriteMap<UUID, Card> copiedCards = new CopyOnWriteMap<>(); // shared between state copies until change
     private int permanentOrderNumber;
     private final Map<UUID, FilterCreaturePermanent> usePowerInsteadOfToughnessForDamageLethalityFilters = new HashMap<>();
     private Set<MageObjectReference> commandersToStay = new HashSet<>(); // commanders that do not go back to command zone
@@ -116,6 +119,10 @@ public class GameState implements Serializable, Copyable<GameState> {
 
     private int applyEffectsCounter; // Upcounting number of each applyEffects execution
 
+    // unique version of the state's data, changes on each event, effects apply and state's values or abilities change (can be used for caches)
+    private static final AtomicLong STATE_VERSIONS = new AtomicLong();
+    private long stateVersion;
+
     public GameState() {
         players = new Players();
         playerList = new PlayerList();
@@ -172,16 +179,17 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.combat = state.combat.copy();
         this.turnMods = state.turnMods.copy();
         this.watchers = state.watchers.copy();
-        this.values = CardUtil.deepCopyObject(state.values);
-        this.zones.putAll(state.zones);
+        this.values = state.values.copy();
+        this.zones = state.zones.copy();
         this.simultaneousEvents.addAll(state.simultaneousEvents);
         this.cardState = CardUtil.deepCopyObject(state.cardState);
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
-        this.zoneChangeCounter.putAll(state.zoneChangeCounter);
-        this.copiedCards.putAll(state.copiedCards);
+        this.zoneChangeCounter = state.zoneChangeCounter.copy();
+        this.copiedCards = state.copiedCards.copy();
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = state.stateVersion;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay.addAll(state.commandersToStay);
@@ -276,6 +284,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.copiedCards = state.copiedCards;
         this.permanentOrderNumber = state.permanentOrderNumber;
         this.applyEffectsCounter = state.applyEffectsCounter;
+        this.stateVersion = state.stateVersion;
         state.usePowerInsteadOfToughnessForDamageLethalityFilters.forEach((uuid, filter)
                 -> this.usePowerInsteadOfToughnessForDamageLethalityFilters.put(uuid, filter.copy()));
         this.commandersToStay = state.commandersToStay;
@@ -447,6 +456,108 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: 64-bit hash of the same data as getValue(useHidden), but without strings building
+     */
+    public long getStateHash(boolean useHidden) {
+        return calcStateHash(null, useHidden, null);
+    }
+
+    /**
+     * AI related: 64-bit hash of the same data as getValue(useHidden, game), but without strings building
+     */
+    public long getStateHash(boolean useHidden, Game game) {
+        return calcStateHash(game, useHidden, null);
+    }
+
+    /**
+     * AI related: 64-bit hash of the same data as getValue(game, playerId), but without strings building
+     */
+    public long getStateHash(Game game, UUID playerId) {
+        return calcStateHash(game, false, playerId);
+    }
+
+    /**
+     * @param game         null to compare cards by ids, otherwise by names (with players' passed status, mana pools and spells targets)
+     * @param allHands     use cards in all hands
+     * @param handPlayerId use cards in that player's hand
+     */
+    private long calcStateHash(Game game, boolean allHands, UUID handPlayerId) {
+        long hash = StateHashUtil.combine(turnNum, turn.getPhase().getType());
+        hash = StateHashUtil.combine(hash, turn.getPhase().getStep().getType());
+        hash = StateHashUtil.combine(hash, activePlayerId);
+        hash = StateHashUtil.combine(hash, priorityPlayerId);
+        hash = StateHashUtil.combine(hash, playerByOrderId);
+
+        for (Player player : players.values()) {
+            if (game != null) {
+                hash = StateHashUtil.combine(hash, player.isPassed());
+                hash = StateHashUtil.combine(hash, player.getManaPool().getMana());
+            }
+            hash = StateHashUtil.combine(hash, player.getLife());
+            if (allHands || Objects.equals(handPlayerId, player.getId())) {
+                hash = StateHashUtil.combine(hash, calcCardsHash(player.getHand(), game));
+            } else {
+                hash = StateHashUtil.combine(hash, player.getHand().size());
+            }
+            hash = StateHashUtil.combine(hash, player.getLibrary().size());
+            hash = StateHashUtil.combine(hash, calcCardsHash(player.getGraveyard(), game));
+        }
+
+        long permanentsHash = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanentsHash += StateHashUtil.mix(permanent.getStateHash(this));
+        }
+        hash = StateHashUtil.combine(hash, permanentsHash);
+
+        for (StackObject spell : stack) {
+            hash = StateHashUtil.combine(hash, spell.getControllerId());
+            hash = StateHashUtil.combine(hash, spell.getName());
+            if (game != null) {
+                Ability stackAbility = spell.getStackAbility();
+                hash = StateHashUtil.combine(hash, stackAbility.getClass().getName());
+                for (UUID modeId : stackAbility.getModes().getSelectedModes()) {
+                    hash = StateHashUtil.combine(hash, modeId);
+                    for (Target target : stackAbility.getModes().get(modeId).getTargets()) {
+                        for (UUID targetId : target.getTargets()) {
+                            // divided amounts are important too (damage, counters)
+                            hash = StateHashUtil.combine(hash, targetId);
+                            hash = StateHashUtil.combine(hash, target.getTargetAmount(targetId));
+                        }
+                    }
+                }
+            }
+        }
+
+        long exileHash = 0;
+        for (ExileZone zone : exile.getExileZones()) {
+            exileHash += StateHashUtil.combine(StateHashUtil.item(zone.getName()), calcCardsHash(zone, game));
+        }
+        hash = StateHashUtil.combine(hash, exileHash);
+
+        for (CombatGroup group : combat.getGroups()) {
+            hash = StateHashUtil.combine(hash, group.getDefenderId());
+            hash = StateHashUtil.combine(hash, group.getAttackers());
+            hash = StateHashUtil.combine(hash, group.getBlockers());
+        }
+        return hash;
+    }
+
+    private static long calcCardsHash(Cards cards, Game game) {
+        long hash = cards.size();
+        for (UUID cardId : cards) {
+            if (game == null) {
+                hash += StateHashUtil.hash(cardId);
+            } else {
+                Card card = game.getCard(cardId);
+                if (card != null) {
+                    hash += StateHashUtil.item(card.getName());
+                }
+            }
+        }
+        return hash;
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -666,14 +777,19 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     void applyEffects(Game game) {
+        applyEffects(game, !DebugUtil.GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY);
+    }
+
+    void applyEffects(Game game, boolean incremental) {
         applyEffectsCounter++;
+        updateStateVersion();
         for (Player player : players.values()) {
             player.reset();
         }
         battlefield.reset(game);
         combat.reset(game);
         this.reset();
-        effects.apply(game);
+        effects.apply(game, incremental);
         combat.checkForRemoveFromCombat(game);
     }
 
@@ -1037,6 +1153,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public void handleEvent(GameEvent event, Game game) {
+        updateStateVersion();
         watchers.watch(event, game);
         delayed.checkTriggers(event, game);
         triggers.checkTriggers(event, game);
@@ -1337,6 +1454,10 @@ public class GameState implements Serializable, Copyable<GameState> {
         return values.computeIfAbsent(valueId, mappingFunction);
     }
 
+    public <T> T getValue(ValueKey<T> valueKey) {
+        return (T) values.get(valueKey);
+    }
+
     /**
      * Return values list starting with searching key.
      * <p>
@@ -1350,13 +1471,17 @@ public class GameState implements Serializable, Copyable<GameState> {
         if (startWithValue == null || startWithValue.isEmpty()) {
             throw new IllegalArgumentException("Can't use empty search value");
         }
-        Map<String, Object> res = new HashMap<>();
-        for (Map.Entry<String, Object> entry : this.values.entrySet()) {
-            if (entry.getKey().startsWith(startWithValue)) {
-                res.put(entry.getKey(), entry.getValue());
-            }
-        }
-        return res;
+        return values.getValues(startWithValue);
+    }
+
+    /**
+     * Return all values from the namespace (object id -> value)
+     *
+     * @param namespace
+     * @return
+     */
+    public <T> Map<UUID, T> getValues(ValueKey.Namespace<T> namespace) {
+        return values.getValues(namespace);
     }
 
     /**
@@ -1371,6 +1496,18 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public void setValue(String valueId, Object value) {
         values.put(valueId, value);
+        updateStateVersion();
+    }
+
+    /**
+     * Typed version of setValue, prefer it for new code
+     *
+     * @param valueKey
+     * @param value
+     */
+    public <T> void setValue(ValueKey<T> valueKey, T value) {
+        values.put(valueKey, value);
+        updateStateVersion();
     }
 
     /**
@@ -1380,6 +1517,12 @@ public class GameState implements Serializable, Copyable<GameState> {
      */
     public void removeValue(String valueId) {
         values.remove(valueId);
+        updateStateVersion();
+    }
+
+    public void removeValue(ValueKey<?> valueKey) {
+        values.remove(valueKey);
+        updateStateVersion();
     }
 
     /**
@@ -1454,6 +1597,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         cardState.get(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
+        updateStateVersion();
     }
 
     private void checkWrongDynamicAbilityUsage(Card attachedTo, Ability ability) {
@@ -1512,8 +1656,7 @@ public class GameState implements Serializable, Copyable<GameState> {
     }
 
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
-        return cardState.get(cardId);
+        return cardState.computeIfAbsent(cardId, k -> new CardState());
     }
 
     public MageObjectAttribute getMageObjectAttribute(UUID cardId) {
@@ -1582,10 +1725,17 @@ public class GameState implements Serializable, Copyable<GameState> {
         return copiedCards.get(cardId);
     }
 
+    /**
+     * Read only list, use removeCopiedCard to change it
+     */
     public Collection<Card> getCopiedCards() {
         return copiedCards.values();
     }
 
+    public void removeCopiedCard(Card card) {
+        copiedCards.removeValue(card);
+    }
+
     /**
      * Make full copy of the card and all of the card's parts and put to the
      * game.
@@ -1667,7 +1817,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         // copied cards removes from game after battlefield/stack leaves, so remember it here as workaround to fix freeze, see https://github.com/magefree/mage/issues/5437
         // TODO: remove that workaround after LKI will be rewritten to support cross-steps/turns data transition and support copied cards
         copiedParts.forEach(card -> {
-            this.setValue(COPIED_CARD_KEY + card.getId(), card.copy());
+            this.setValue(COPIED_CARD_KEY.key(card.getId()), card.copy());
         });
 
         return copiedCard;
@@ -1687,6 +1837,21 @@ public class GameState implements Serializable, Copyable<GameState> {
         return applyEffectsCounter;
     }
 
+    /**
+     * Unique version of the state's data, same for the state's copies.
+     * Warning, it's not a full state hash, so use it for GUI related caches only (e.g. playable objects)
+     */
+    public long getStateVersion() {
+        return stateVersion;
+    }
+
+    /**
+     * Call it on state's changes without game events, so caches by state version can find it
+     */
+    public void updateStateVersion() {
+        stateVersion = STATE_VERSIONS.incrementAndGet();
+    }
+
     public void addPowerInsteadOfToughnessForDamageLethalityFilter(UUID source, FilterCreaturePermanent filter) {
         usePowerInsteadOfToughnessForDamageLethalityFilters.put(source, filter);
     }
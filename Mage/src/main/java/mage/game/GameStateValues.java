@@ -0,0 +1,122 @@
+package mage.game;
+
+import mage.util.CardUtil;
+import mage.util.Copyable;
+import mage.util.CopyOnWriteMap;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Game state's values storage (see GameState.setValue)
+ * <p>
+ * Keys can be strings (old style) or typed keys (see ValueKey). Most values are immutable (ids, numbers, flags),
+ * so it keeps them in structural shared map and game state copy is cheap. Mutable values (sets, maps, cards, etc)
+ * are stored separately and get deep copy on each game state copy as before.
+ */
+class GameStateValues implements Serializable, Copyable<GameStateValues> {
+
+    private final CopyOnWriteMap<Object, Object> immutableValues; // shared between state copies until change
+    private final Map<Object, Object> mutableValues;
+
+    GameStateValues() {
+        this.immutableValues = new CopyOnWriteMap<>();
+        this.mutableValues = new HashMap<>();
+    }
+
+    private GameStateValues(final GameStateValues values) {
+        this.immutableValues = values.immutableValues.copy();
+        this.mutableValues = new HashMap<>(values.mutableValues.size());
+        for (Map.Entry<Object, Object> entry : values.mutableValues.entrySet()) {
+            this.mutableValues.put(entry.getKey(), CardUtil.deepCopyObject(entry.getValue()));
+        }
+    }
+
+    @Override
+    public GameStateValues copy() {
+        return new GameStateValues(this);
+    }
+
+    Object get(Object key) {
+        Object value = immutableValues.get(key);
+        if (value == null) {
+            value = mutableValues.get(key);
+        }
+        return value;
+    }
+
+    void put(Object key, Object value) {
+        if (CardUtil.isImmutableObject(value)) {
+            mutableValues.remove(key);
+            immutableValues.put(key, value);
+        } else {
+            immutableValues.remove(key);
+            mutableValues.put(key, value);
+        }
+    }
+
+    Object computeIfAbsent(String key, Function<String, ?> mappingFunction) {
+        Object value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    void remove(Object key) {
+        immutableValues.remove(key);
+        mutableValues.remove(key);
+    }
+
+    void clear() {
+        immutableValues.clear();
+        mutableValues.clear();
+    }
+
+    /**
+     * Find all values with string keys starting with searching text
+     */
+    Map<String, Object> getValues(String startWithValue) {
+        Map<String, Object> res = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : immutableValues.entrySet()) {
+            if (entry.getKey() instanceof String && ((String) entry.getKey()).startsWith(startWithValue)) {
+                res.put((String) entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<Object, Object> entry : mutableValues.entrySet()) {
+            if (entry.getKey() instanceof String && ((String) entry.getKey()).startsWith(startWithValue)) {
+                res.put((String) entry.getKey(), entry.getValue());
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Find all values with typed keys from the namespace
+     */
+    <T> Map<UUID, T> getValues(ValueKey.Namespace<T> namespace) {
+        Map<UUID, T> res = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : immutableValues.entrySet()) {
+            if (entry.getKey() instanceof ValueKey && ((ValueKey<?>) entry.getKey()).getNamespace().equals(namespace)) {
+                res.put(((ValueKey<?>) entry.getKey()).getId(), (T) entry.getValue());
+            }
+        }
+        for (Map.Entry<Object, Object> entry : mutableValues.entrySet()) {
+            if (entry.getKey() instanceof ValueKey && ((ValueKey<?>) entry.getKey()).getNamespace().equals(namespace)) {
+                res.put(((ValueKey<?>) entry.getKey()).getId(), (T) entry.getValue());
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public String toString() {
+        return immutableValues + ", " + mutableValues;
+    }
+}
@@ -1,29 +1,114 @@
-
 package mage.game;
 
+import mage.util.Copier;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import org.apache.log4j.Logger;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
+ * Game states history for undo, rollback and replays.
+ * <p>
+ * Memory optimization: long games can keep hundreds of saved states (e.g. with saved replays),
+ * so only last states are kept as full objects and all older states are kept in compressed form
+ * and restored on demand (each call makes a new state object). Saved state shares some objects with
+ * the game (e.g. cards), so it's serialized on the game thread and only compression of that data runs
+ * outside of the game thread, compressed data replaces full state on next changes.
  *
  * @author BetaSteward_at_googlemail.com
  */
 public class GameStates implements Serializable {
 
     private static final Logger logger = Logger.getLogger(GameStates.class);
-    private final List<GameState> states;
+
+    // undo and rollback work with last states, so keep it ready to use
+    private static final int MAX_FULL_STATES = 5;
+
+    // shared by all games, compress serialized data only, so it can be used in any thread
+    private static final ExecutorService compressExecutor = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME_STATES_COMPRESS)
+    );
+
+    private final List<GameState> states; // null for compressed states
+    private final List<byte[]> compressedStates; // null for full states
+    private final transient List<Future<byte[]>> compressingStates; // null for compressed or recent states
+    private final transient Copier<GameState> copier = new Copier<>(); // same classes for compress and uncompress
 
     public GameStates() {
         this.states = new ArrayList<>();
+        this.compressedStates = new ArrayList<>();
+        this.compressingStates = new ArrayList<>();
     }
 
     public void save(GameState gameState) {
+        applyCompressedStates();
         states.add(gameState.copy());
+        compressedStates.add(null);
+        compressingStates.add(null);
+        compressOutdatedState(states.size() - 1 - MAX_FULL_STATES);
         //logger.warn("states size: " + states.size());
     }
 
+    private void compressOutdatedState(int index) {
+        if (index < 0 || states.get(index) == null || compressingStates.get(index) != null) {
+            return;
+        }
+        byte[] data = copier.serialize(states.get(index));
+        if (data == null) {
+            // keep full state on errors
+            return;
+        }
+        compressingStates.set(index, compressExecutor.submit(() -> Copier.compress(data)));
+    }
+
+    /**
+     * Replace full states by finished compressed data
+     */
+    private void applyCompressedStates() {
+        for (int i = 0; i < compressingStates.size(); i++) {
+            Future<byte[]> task = compressingStates.get(i);
+            if (task != null && task.isDone()) {
+                applyCompressedState(i);
+            }
+        }
+    }
+
+    private void applyCompressedState(int index) {
+        Future<byte[]> task = compressingStates.get(index);
+        if (task == null) {
+            return;
+        }
+        compressingStates.set(index, null);
+        if (!task.isDone() && task.cancel(false)) {
+            // not started yet, so keep full state
+            return;
+        }
+        byte[] data;
+        try {
+            data = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            logger.error("Can't compress game state: " + e.getCause(), e.getCause());
+            return;
+        }
+        if (data != null) {
+            // keep full state on errors
+            compressedStates.set(index, data);
+            states.set(index, null);
+        }
+    }
+
     public int getSize() {
         return states.size();
     }
@@ -31,10 +116,10 @@ public class GameStates implements Serializable {
     public GameState rollback(int index) {
         if (!states.isEmpty() && index < states.size()) {
             while (states.size() > index + 1) {
-                states.remove(states.size() - 1);
+                removeLast();
             }
             logger.trace("Rolling back state: " + index);
-            return states.get(index);
+            return get(index);
         }
         return null;
     }
@@ -42,20 +127,38 @@ public class GameStates implements Serializable {
     public int remove(int index) {
         if (!states.isEmpty() && index < states.size()) {
             while (states.size() > index && !states.isEmpty()) {
-                states.remove(states.size() - 1);
+                removeLast();
             }
         }
         return states.size();
     }
 
+    private void removeLast() {
+        states.remove(states.size() - 1);
+        compressedStates.remove(compressedStates.size() - 1);
+        Future<byte[]> task = compressingStates.remove(compressingStates.size() - 1);
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
     public GameState get(int index) {
         if (index < states.size()) {
-            return states.get(index);
+            // full state can be used and changed by the game, so it must not be compressed at the same time
+            applyCompressedState(index);
+            GameState state = states.get(index);
+            if (state == null) {
+                state = copier.uncompressCopy(compressedStates.get(index));
+            }
+            return state;
         }
         return null;
     }
 
     public void clear() {
+        compressingStates.stream().filter(Objects::nonNull).forEach(task -> task.cancel(false));
         states.clear();
+        compressedStates.clear();
+        compressingStates.clear();
     }
 }
@@ -3,9 +3,9 @@ package mage.game;
 import java.util.UUID;
 
 import mage.cards.Card;
-import mage.cards.CardsImpl;
+import mage.cards.VersionedCards;
 
-public class Graveyard extends CardsImpl {
+public class Graveyard extends VersionedCards {
 
     public Graveyard() {
         super();
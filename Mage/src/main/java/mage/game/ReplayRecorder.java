@@ -0,0 +1,13 @@
+package mage.game;
+
+/**
+ * Replays support: receives game states during the game, so replay can be written step by step
+ * instead of keeping whole states history in memory
+ */
+public interface ReplayRecorder {
+
+    /**
+     * Called on each saved state of the real game (not simulations), state must not be changed
+     */
+    void saveState(GameState state);
+}
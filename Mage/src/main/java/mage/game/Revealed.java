@@ -9,7 +9,7 @@ import java.util.UUID;
 
 import mage.cards.Card;
 import mage.cards.Cards;
-import mage.cards.CardsImpl;
+import mage.cards.VersionedCards;
 import mage.util.Copyable;
 
 /**
@@ -31,19 +31,19 @@ public class Revealed extends HashMap<String, Cards> implements Serializable, Co
     }
 
     public void update(String name, Cards cards) {
-        this.put(name, cards.copy());
+        this.put(name, new VersionedCards(cards));
     }
 
     public void add(String name, Cards cards) {
         if (this.containsKey(name)) {
             this.get(name).addAll(cards);
         } else {
-            this.put(name, cards.copy());
+            this.put(name, new VersionedCards(cards));
         }
     }
 
     public Cards createRevealed(String name) {
-        putIfAbsent(name, new CardsImpl());
+        putIfAbsent(name, new VersionedCards());
         return this.get(name);
     }
 
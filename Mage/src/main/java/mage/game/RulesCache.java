@@ -0,0 +1,80 @@
+package mage.game;
+
+import mage.abilities.Ability;
+import mage.abilities.Mode;
+import mage.util.StateHashUtil;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Game's cache for abilities rules texts
+ * <p>
+ * Game views contain rules of all visible cards (hands, battlefield, stack, graveyards, exile) and game builds
+ * it for each player and watcher on each update, so texts generation from effects takes most of the views build time.
+ * Ability's text can be changed by effects (text changing effects, chosen values, runtime texts), so cached text
+ * is valid for the same game state version only (see {@link GameState#getStateVersion()}) and while ability keeps
+ * the same structure (modes, effects, targets, costs). Ability copies (views data) keep original id, so all copies
+ * share the same text.
+ * <p>
+ * Real game only: game copies for views use it (thread safe), but AI simulations and other copies must not.
+ */
+public class RulesCache {
+
+    private static final int MAX_CACHED_RULES = 100_000; // clear all on too many abilities (very long games)
+
+    private final Map<UUID, CachedRule> rules = new ConcurrentHashMap<>();
+
+    private static class CachedRule {
+
+        private final long stateVersion;
+        private final long fingerprint;
+        private final String rule;
+
+        private CachedRule(long stateVersion, long fingerprint, String rule) {
+            this.stateVersion = stateVersion;
+            this.fingerprint = fingerprint;
+            this.rule = rule;
+        }
+    }
+
+    public String getRule(Ability ability, Game game) {
+        long stateVersion = game.getState().getStateVersion();
+        long fingerprint = getFingerprint(ability);
+        CachedRule cached = rules.get(ability.getOriginalId());
+        if (cached != null && cached.stateVersion == stateVersion && cached.fingerprint == fingerprint) {
+            return cached.rule;
+        }
+
+        String rule = ability.getRule();
+        if (rules.size() >= MAX_CACHED_RULES) {
+            rules.clear();
+        }
+        rules.put(ability.getOriginalId(), new CachedRule(stateVersion, fingerprint, rule));
+        return rule;
+    }
+
+    public int size() {
+        return rules.size();
+    }
+
+    /**
+     * Cheap ability's structure info to find changed abilities with the same id
+     */
+    private static long getFingerprint(Ability ability) {
+        long hash = StateHashUtil.item(ability.getClass().getName());
+        hash = StateHashUtil.combine(hash, ability.getCosts().size());
+        hash = StateHashUtil.combine(hash, ability.getManaCosts().size());
+        hash = StateHashUtil.combine(hash, ability.getModes().size());
+        for (Mode mode : ability.getModes().values()) {
+            hash = StateHashUtil.combine(hash, mode.getId());
+            hash = StateHashUtil.combine(hash, mode.getEffects().size());
+            hash = StateHashUtil.combine(hash, mode.getTargets().size());
+        }
+        for (UUID modeId : ability.getModes().getSelectedModes()) {
+            hash = StateHashUtil.combine(hash, modeId);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,99 @@
+package mage.game;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Typed key for game state values: namespace + object id
+ * <p>
+ * Replacement for string keys like sourceId + "_someValue", so value search don't need string building and hashing.
+ * Namespaces must be static constants, e.g.
+ * public static final ValueKey.Namespace&lt;Boolean&gt; VALUE_KEY_SOME = new ValueKey.Namespace&lt;&gt;("SomeValue");
+ * <p>
+ * Warning, typed and string keys are different keys, so don't mix it for the same value.
+ *
+ * @param <T> value's type
+ */
+public final class ValueKey<T> implements Serializable {
+
+    private final Namespace<T> namespace;
+    private final UUID id;
+    private final int hash;
+
+    private ValueKey(Namespace<T> namespace, UUID id) {
+        this.namespace = Objects.requireNonNull(namespace);
+        this.id = Objects.requireNonNull(id);
+        this.hash = 31 * namespace.hashCode() + id.hashCode();
+    }
+
+    public Namespace<T> getNamespace() {
+        return namespace;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValueKey)) {
+            return false;
+        }
+        ValueKey<?> that = (ValueKey<?>) o;
+        return this.hash == that.hash
+                && this.id.equals(that.id)
+                && this.namespace.equals(that.namespace);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return namespace.getName() + id;
+    }
+
+    /**
+     * Values group, e.g. all enter transformed marks
+     *
+     * @param <T> value's type
+     */
+    public static final class Namespace<T> implements Serializable {
+
+        private final String name;
+
+        public Namespace(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        public ValueKey<T> key(UUID id) {
+            return new ValueKey<>(this, id);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            // namespaces are static constants, but game state can be deserialized (replays, saves), so compare by name
+            return this == o || (o instanceof Namespace && this.name.equals(((Namespace<?>) o).name));
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -346,7 +346,7 @@ public final class ZonesHandler {
              * that isn't a transforming double-faced card onto the battlefield transformed or converted, that card stays in
              * its current zone.
              */
-            boolean wantToTransform = Boolean.TRUE.equals(game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId()));
+            boolean wantToTransform = Boolean.TRUE.equals(game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId())));
             if (wantToTransform) {
                 isGoodToMove = card.isTransformable() && card.getSecondCardFace().isPermanent(game);
             } else {
@@ -4,8 +4,11 @@ import mage.abilities.Ability;
 import mage.abilities.keyword.PhasingAbility;
 import mage.constants.CardType;
 import mage.constants.RangeOfInfluence;
+import mage.constants.TargetController;
 import mage.filter.FilterPermanent;
+import mage.filter.predicate.Predicate;
 import mage.game.Game;
+import mage.util.DebugUtil;
 
 import java.io.Serializable;
 import java.util.*;
@@ -19,6 +22,11 @@ public class Battlefield implements Serializable {
 
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
 
+    // filter index: phased in permanents by controller and card type (lazy build, used in enabled mode only)
+    private transient boolean filterIndexEnabled = false;
+    private transient Map<UUID, List<Permanent>> filterIndexByController = null;
+    private transient Map<CardType, List<Permanent>> filterIndexByCardType = null;
+
     public Battlefield() {
     }
 
@@ -40,6 +48,96 @@ public class Battlefield implements Serializable {
 
     public void clear() {
         field.clear();
+        invalidateFilterIndex();
+    }
+
+    /**
+     * Enable filter index for fast filter calls (count, contains, getActivePermanents, etc)
+     * <p>
+     * Index keeps permanents by controller and card types, so it can be enabled only while
+     * controllers, types and phasing can't be changed (e.g. after type changing layer)
+     */
+    public void enableFilterIndex() {
+        this.filterIndexEnabled = !DebugUtil.GAME_BATTLEFIELD_DISABLE_FILTER_INDEX;
+        invalidateFilterIndex();
+    }
+
+    public void disableFilterIndex() {
+        this.filterIndexEnabled = false;
+        invalidateFilterIndex();
+    }
+
+    private void invalidateFilterIndex() {
+        this.filterIndexByController = null;
+        this.filterIndexByCardType = null;
+    }
+
+    private void buildFilterIndex(Game game) {
+        this.filterIndexByController = new HashMap<>();
+        this.filterIndexByCardType = new EnumMap<>(CardType.class);
+        for (Permanent permanent : field.values()) {
+            if (!permanent.isPhasedIn()) {
+                continue;
+            }
+            this.filterIndexByController.computeIfAbsent(permanent.getControllerId(), k -> new ArrayList<>()).add(permanent);
+            for (CardType cardType : permanent.getCardType(game)) {
+                if (cardType == null) {
+                    // possible on broken type changing effects, filters can't search it anyway
+                    continue;
+                }
+                List<Permanent> list = this.filterIndexByCardType.computeIfAbsent(cardType, k -> new ArrayList<>());
+                // card can have duplicated types
+                if (list.isEmpty() || list.get(list.size() - 1) != permanent) {
+                    list.add(permanent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find permanents to check by filter. Without filter index it's all permanents,
+     * with filter index it's phased in permanents with filter's controller or card type.
+     * Result can contain non-matching permanents, so it must be checked by filter anyway.
+     *
+     * @param controllerId controller of the permanents, can be null
+     * @param playerId     player for filter's controller predicates, can be null
+     */
+    private Collection<Permanent> getFilterCandidates(FilterPermanent filter, UUID controllerId, UUID playerId, Game game) {
+        if (!this.filterIndexEnabled) {
+            return field.values();
+        }
+        if (this.filterIndexByController == null) {
+            buildFilterIndex(game);
+        }
+
+        Collection<Permanent> res = field.values();
+
+        // controller
+        UUID needControllerId = controllerId;
+        if (needControllerId == null && playerId != null) {
+            for (Predicate predicate : filter.getExtraPredicates()) {
+                if (predicate instanceof TargetController.ControllerPredicate
+                        && ((TargetController.ControllerPredicate) predicate).getController() == TargetController.YOU) {
+                    needControllerId = playerId;
+                    break;
+                }
+            }
+        }
+        if (needControllerId != null) {
+            res = this.filterIndexByController.getOrDefault(needControllerId, Collections.emptyList());
+        }
+
+        // card type
+        for (Predicate predicate : filter.getPredicates()) {
+            if (predicate instanceof CardType.CardTypePredicate) {
+                CardType cardType = ((CardType.CardTypePredicate) predicate).getCardType();
+                List<Permanent> list = this.filterIndexByCardType.getOrDefault(cardType, Collections.emptyList());
+                if (list.size() < res.size()) {
+                    res = list;
+                }
+            }
+        }
+        return res;
     }
 
     /**
@@ -51,7 +149,7 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
+        return (int) getFilterCandidates(filter, controllerId, null, game)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, game)
@@ -66,14 +164,14 @@ public class Battlefield implements Serializable {
      */
     public int count(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return (int) field.values()
+            return (int) getFilterCandidates(filter, null, sourcePlayerId, game)
                     .stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
                     .count();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
+            return (int) getFilterCandidates(filter, null, sourcePlayerId, game)
                     .stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
@@ -93,7 +191,7 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
+        return getFilterCandidates(filter, controllerId, null, game)
                 .stream()
                 .filter(permanent -> permanent.isControlledBy(controllerId)
                         && filter.match(permanent, controllerId, source, game)
@@ -112,13 +210,13 @@ public class Battlefield implements Serializable {
      */
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values().stream()
+            return getFilterCandidates(filter, null, sourcePlayerId, game).stream()
                     .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn()).count() >= num;
 
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
+            return getFilterCandidates(filter, null, sourcePlayerId, game).stream()
                     .filter(permanent -> range.contains(permanent.getControllerId())
                             && filter.match(permanent, sourcePlayerId, source, game)
                             && permanent.isPhasedIn())
@@ -128,6 +226,7 @@ public class Battlefield implements Serializable {
 
     public void addPermanent(Permanent permanent) {
         field.put(permanent.getId(), permanent);
+        invalidateFilterIndex();
     }
 
     /**
@@ -144,6 +243,7 @@ public class Battlefield implements Serializable {
 
     public void removePermanent(UUID key) {
         field.remove(key);
+        invalidateFilterIndex();
     }
 
     /**
@@ -212,7 +312,7 @@ public class Battlefield implements Serializable {
      */
     @Deprecated
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, Game game) {
-        return field.values()
+        return getFilterCandidates(filter, null, null, game)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && filter.match(perm, game))
                 .collect(Collectors.toList());
@@ -224,7 +324,7 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return getFilterCandidates(filter, controllerId, null, game)
                 .stream()
                 .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
                 .collect(Collectors.toList());
@@ -244,13 +344,13 @@ public class Battlefield implements Serializable {
      */
     public List<Permanent> getActivePermanents(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
-            return field.values()
+            return getFilterCandidates(filter, null, sourcePlayerId, game)
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && filter.match(perm, sourcePlayerId, source, game))
                     .collect(Collectors.toList());
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values()
+            return getFilterCandidates(filter, null, sourcePlayerId, game)
                     .stream()
                     .filter(perm -> perm.isPhasedIn() && range.contains(perm.getControllerId())
                             && filter.match(perm, sourcePlayerId, source, game)).collect(Collectors.toList());
@@ -221,6 +221,11 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    /**
+     * AI related: 64-bit hash of the same data as getValue, but without strings building
+     */
+    long getStateHash(GameState state);
+
     /**
      * Add abilities to the permanent, can be used in effects
      *
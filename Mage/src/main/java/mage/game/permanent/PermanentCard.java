@@ -86,9 +86,9 @@ public class PermanentCard extends PermanentImpl {
 
         // if transformed on ETB
         if (card.isTransformable()) {
-            if (game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + getId()) != null
+            if (game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(getId())) != null
                     || NightboundAbility.checkCard(this, game)) {
-                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + getId(), null);
+                game.getState().setValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(getId()), null);
                 TransformAbility.transformPermanent(this, game, null);
             }
         }
@@ -7,6 +7,7 @@ import mage.ObjectColor;
 import mage.abilities.Abilities;
 import mage.abilities.Ability;
 import mage.abilities.SpellAbility;
+import mage.abilities.Mode;
 import mage.abilities.effects.ContinuousEffect;
 import mage.abilities.effects.Effect;
 import mage.abilities.effects.RequirementEffect;
@@ -38,6 +39,7 @@ import mage.players.Player;
 import mage.target.TargetPlayer;
 import mage.util.CardUtil;
 import mage.util.GameLog;
+import mage.util.StateHashUtil;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
 
@@ -272,6 +274,36 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getStateHash(GameState state) {
+        long hash = StateHashUtil.hash(controllerId);
+        hash = StateHashUtil.combine(hash, getName());
+        hash = StateHashUtil.combine(hash, tapped);
+        hash = StateHashUtil.combine(hash, damage);
+        hash = StateHashUtil.combine(hash, subtype);
+        hash = StateHashUtil.combine(hash, supertype);
+        hash = StateHashUtil.combine(hash, power.getValue());
+        hash = StateHashUtil.combine(hash, toughness.getValue());
+        // abilities compared by types of ability and effects only, rules generation is too slow here,
+        // so same hash must be confirmed by full compare (see TranspositionTable)
+        long abilitiesHash = 0;
+        for (Ability ability : abilities) {
+            long abilityHash = StateHashUtil.item(ability.getClass().getName());
+            for (Mode mode : ability.getModes().values()) {
+                for (Effect effect : mode.getEffects()) {
+                    abilityHash += StateHashUtil.item(effect.getClass().getName());
+                }
+            }
+            abilitiesHash += StateHashUtil.mix(abilityHash);
+        }
+        hash = StateHashUtil.combine(hash, abilitiesHash);
+        long countersHash = 0;
+        for (Counter counter : getCounters(state).values()) {
+            countersHash += StateHashUtil.combine(StateHashUtil.item(counter.getName()), counter.getCount());
+        }
+        return StateHashUtil.combine(hash, countersHash);
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
@@ -10,7 +10,7 @@ import mage.constants.TournamentPlayerState;
 import mage.game.events.TableEvent;
 import mage.game.tournament.pairing.RoundPairings;
 import mage.game.tournament.pairing.SwissPairingMinimalWeightMatching;
-import mage.game.tournament.pairing.SwissPairingSimple;
+import mage.game.tournament.pairing.SwissPairingScoreGroups;
 
 /**
  *
@@ -59,7 +59,7 @@ public abstract class TournamentSwiss extends TournamentImpl {
                 SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
                 roundPairings = swissPairing.getRoundPairings();
             } else {
-                SwissPairingSimple swissPairing = new SwissPairingSimple(roundPlayers, rounds);
+                SwissPairingScoreGroups swissPairing = new SwissPairingScoreGroups(roundPlayers, rounds, isLastRound);
                 roundPairings = swissPairing.getRoundPairings();
             }
 
@@ -96,7 +96,7 @@ public abstract class TournamentSwiss extends TournamentImpl {
                 SwissPairingMinimalWeightMatching swissPairing = new SwissPairingMinimalWeightMatching(roundPlayers, rounds, isLastRound);
                 roundPairings = swissPairing.getRoundPairings();
             } else {
-                SwissPairingSimple swissPairing = new SwissPairingSimple(roundPlayers, rounds);
+                SwissPairingScoreGroups swissPairing = new SwissPairingScoreGroups(roundPlayers, rounds, isLastRound);
                 roundPairings = swissPairing.getRoundPairings();
             }
 
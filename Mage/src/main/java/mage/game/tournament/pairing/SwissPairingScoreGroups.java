@@ -0,0 +1,205 @@
+package mage.game.tournament.pairing;
+
+import mage.game.tournament.Round;
+import mage.game.tournament.TournamentPairing;
+import mage.game.tournament.TournamentPlayer;
+import mage.util.RandomUtil;
+
+import java.util.*;
+
+/**
+ * Swiss pairings for big tournaments (works with any amount of players)
+ * <p>
+ * Players are sorted by points and Sum of Opponents' Scores, then paired by score groups: top half of
+ * the group plays against bottom half, odd player floats down to the next group. Rematches are avoided
+ * by depth-first search with limited steps, so usual rounds are paired near O(n^2) without any weight matrix.
+ * If search can't find pairings without rematches then it pairs nearest players and allows rematches.
+ * Bye goes to the lowest ranked player with minimum byes.
+ */
+public class SwissPairingScoreGroups {
+
+    // search steps limit for pairings without rematches (one step - one paired player)
+    private static final int MAX_SEARCH_STEPS = 50000;
+
+    private final boolean isLastRound;
+    private final List<TournamentPlayer> rankedPlayers;
+    private final int[] points;
+    private final List<Set<Integer>> opponents; // player index -> played opponents indexes
+    private final boolean[] paired;
+    private final int[] partners;
+    private int searchSteps = 0;
+
+    private final RoundPairings roundPairings;
+
+    public SwissPairingScoreGroups(List<TournamentPlayer> players, List<Round> rounds, boolean isLastRound) {
+        this.isLastRound = isLastRound;
+
+        // shuffle players first to add some randomness
+        this.rankedPlayers = new ArrayList<>(players);
+        Collections.shuffle(this.rankedPlayers, RandomUtil.getRandom());
+
+        // calculate Tie Breaker points -- Sum of Opponents' Scores (SOS) and byes
+        Map<TournamentPlayer, Integer> sosPoints = new HashMap<>();
+        Map<TournamentPlayer, Integer> byes = new HashMap<>();
+        for (Round round : rounds) {
+            for (TournamentPairing pairing : round.getPairs()) {
+                sosPoints.merge(pairing.getPlayer1(), pairing.getPlayer2().getPoints(), Integer::sum);
+                sosPoints.merge(pairing.getPlayer2(), pairing.getPlayer1().getPoints(), Integer::sum);
+            }
+            for (TournamentPlayer playerBye : round.getPlayerByes()) {
+                byes.merge(playerBye, 1, Integer::sum);
+            }
+        }
+
+        // sort by points and then by sos points
+        this.rankedPlayers.sort((p1, p2) -> {
+            int result = p2.getPoints() - p1.getPoints();
+            if (result != 0) {
+                return result;
+            }
+            return sosPoints.getOrDefault(p2, 0) - sosPoints.getOrDefault(p1, 0);
+        });
+
+        int playersCount = this.rankedPlayers.size();
+        Map<TournamentPlayer, Integer> ids = new HashMap<>();
+        this.points = new int[playersCount];
+        this.opponents = new ArrayList<>(playersCount);
+        for (int i = 0; i < playersCount; i++) {
+            ids.put(this.rankedPlayers.get(i), i);
+            this.points[i] = this.rankedPlayers.get(i).getPoints();
+            this.opponents.add(new HashSet<>());
+        }
+
+        // played matches (a player could have left the tournament, so we should check if id is not null)
+        for (Round round : rounds) {
+            for (TournamentPairing pairing : round.getPairs()) {
+                Integer id1 = ids.get(pairing.getPlayer1());
+                Integer id2 = ids.get(pairing.getPlayer2());
+                if (id1 != null && id2 != null) {
+                    this.opponents.get(id1).add(id2);
+                    this.opponents.get(id2).add(id1);
+                }
+            }
+        }
+
+        this.paired = new boolean[playersCount];
+        this.partners = new int[playersCount];
+        Arrays.fill(this.partners, -1);
+
+        // try to give bye to a player with a low score
+        // try to avoid giving the same person multiple byes
+        List<TournamentPlayer> playerByes = new ArrayList<>();
+        if (playersCount % 2 == 1) {
+            int minByes = this.rankedPlayers.stream().mapToInt(p -> byes.getOrDefault(p, 0)).min().orElse(0);
+            for (int i = playersCount - 1; i >= 0; i--) {
+                if (byes.getOrDefault(this.rankedPlayers.get(i), 0) == minByes) {
+                    this.paired[i] = true;
+                    playerByes.add(this.rankedPlayers.get(i));
+                    break;
+                }
+            }
+        }
+
+        // search pairings without rematches, if it fails then allow rematches
+        boolean[] pairedByBye = Arrays.copyOf(this.paired, playersCount);
+        if (!makePairings(0, false)) {
+            System.arraycopy(pairedByBye, 0, this.paired, 0, playersCount);
+            Arrays.fill(this.partners, -1);
+            makePairings(0, true);
+        }
+
+        List<TournamentPairing> pairings = new ArrayList<>();
+        for (int i = 0; i < playersCount; i++) {
+            if (this.partners[i] > i) {
+                pairings.add(new TournamentPairing(this.rankedPlayers.get(i), this.rankedPlayers.get(this.partners[i])));
+            }
+        }
+        this.roundPairings = new RoundPairings(pairings, playerByes);
+    }
+
+    public RoundPairings getRoundPairings() {
+        return roundPairings;
+    }
+
+    /**
+     * Pair the highest ranked unpaired player and all players after it
+     *
+     * @return false on impossible pairings or too many steps
+     */
+    private boolean makePairings(int from, boolean allowRematches) {
+        int player = from;
+        while (player < paired.length && paired[player]) {
+            player++;
+        }
+        if (player >= paired.length) {
+            return true;
+        }
+
+        searchSteps++;
+        for (int opponent : getOpponentCandidates(player, allowRematches)) {
+            if (!allowRematches && searchSteps > MAX_SEARCH_STEPS) {
+                return false;
+            }
+            paired[player] = true;
+            paired[opponent] = true;
+            partners[player] = opponent;
+            partners[opponent] = player;
+
+            if (makePairings(player + 1, allowRematches)) {
+                return true;
+            }
+
+            paired[player] = false;
+            paired[opponent] = false;
+            partners[player] = -1;
+            partners[opponent] = -1;
+        }
+        return false;
+    }
+
+    /**
+     * Possible opponents from best to worst
+     */
+    private List<Integer> getOpponentCandidates(int player, boolean allowRematches) {
+        List<Integer> sameGroup = new ArrayList<>();
+        List<Integer> lowerGroups = new ArrayList<>();
+        for (int i = player + 1; i < paired.length; i++) {
+            if (!paired[i]) {
+                if (points[i] == points[player]) {
+                    sameGroup.add(i);
+                } else {
+                    lowerGroups.add(i);
+                }
+            }
+        }
+
+        List<Integer> res = new ArrayList<>(sameGroup.size() + lowerGroups.size());
+        if (isLastRound) {
+            // for the last round pair against the highest ranked player they haven't played against
+            res.addAll(sameGroup);
+        } else {
+            // top half of the score group plays against bottom half
+            int preferred = (sameGroup.size() + 1) / 2 - 1;
+            for (int distance = 0; res.size() < sameGroup.size(); distance++) {
+                if (preferred + distance < sameGroup.size()) {
+                    res.add(sameGroup.get(preferred + distance));
+                }
+                if (distance > 0 && preferred - distance >= 0) {
+                    res.add(sameGroup.get(preferred - distance));
+                }
+            }
+        }
+        res.addAll(lowerGroups);
+
+        Set<Integer> played = opponents.get(player);
+        if (allowRematches) {
+            // rematches as last choice
+            List<Integer> rematches = new ArrayList<>();
+            res.removeIf(opponent -> played.contains(opponent) && rematches.add(opponent));
+            res.addAll(rematches);
+        } else {
+            res.removeIf(played::contains);
+        }
+        return res;
+    }
+}
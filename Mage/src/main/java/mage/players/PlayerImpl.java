@@ -199,6 +199,10 @@ public abstract class PlayerImpl implements Player, Serializable {
     // Used during available mana calculation to give back possible available net mana from triggered mana abilities (No need to copy)
     protected final List<List<Mana>> availableTriggeredManaList = new ArrayList<>();
 
+    // Available mana for same game state and mana pool (AI and playable calculations can ask it many times, no need to copy)
+    private transient String manaAvailableCacheKey = null;
+    private transient ManaOptions manaAvailableCache = null;
+
     protected PlayerImpl(String name, RangeOfInfluence range) {
         this(UUID.randomUUID());
         this.name = name;
@@ -3481,6 +3485,11 @@ public abstract class PlayerImpl implements Player, Serializable {
      */
     @Override
     public ManaOptions getManaAvailable(Game originalGame) {
+        String cacheKey = getManaAvailableCacheKey(originalGame);
+        if (manaAvailableCache != null && cacheKey.equals(manaAvailableCacheKey)) {
+            return manaAvailableCache.copy();
+        }
+
         // workaround to fix a triggers list modification bug (game must be immutable on playable calculations)
         Game game = originalGame.createSimulationForPlayableCalc();
 
@@ -3548,6 +3557,7 @@ public abstract class PlayerImpl implements Player, Serializable {
 
         for (Abilities<ActivatedManaAbilityImpl> manaAbilities : sourceWithoutManaCosts) {
             availableMana.addMana(manaAbilities, game);
+            availableMana.removeDominatedVariations();
         }
 
         boolean anAbilityWasUsed = true;
@@ -3563,6 +3573,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                     } else {
                         used = availableMana.addManaWithCost(manaAbilities, game);
                     }
+                    availableMana.removeDominatedVariations();
                     if (used) {
                         iterator.remove();
                         anAbilityWasUsed = true;
@@ -3579,9 +3590,26 @@ public abstract class PlayerImpl implements Player, Serializable {
         availableMana.remove(new Mana()); // Remove any empty mana that was left over from the way the code is written
 
         // make sure it independent of sim game
+        manaAvailableCacheKey = cacheKey;
+        manaAvailableCache = availableMana.copy();
         return availableMana.copy();
     }
 
+    /**
+     * State version can miss changes without game events (e.g. direct tap or gained abilities in tests and simulations),
+     * so permanents and hand are checked by state hash too. Mana pool can be changed without game events (e.g. on empty).
+     */
+    private String getManaAvailableCacheKey(Game game) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(game.getState().getStateVersion());
+        sb.append(" - ").append(game.getState().getStateHash(game, playerId));
+        sb.append(" - ").append(manaPool.getMana());
+        for (ConditionalMana conditionalMana : manaPool.getConditionalMana()) {
+            sb.append(" - ").append(conditionalMana).append(conditionalMana.getConditionString());
+        }
+        return sb.toString();
+    }
+
     /**
      * Used during calculation of available mana to gather the amount of
      * producable triggered mana caused by using mana sources. So the set value
@@ -4888,7 +4916,7 @@ public abstract class PlayerImpl implements Player, Serializable {
                     // or "converted," it enters the battlefield with its back face up. If a player is instructed to put a card
                     // that isn't a transforming double-faced card onto the battlefield transformed or converted, that card stays in
                     // its current zone.
-                    Boolean enterTransformed = (Boolean) game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED + card.getId());
+                    Boolean enterTransformed = (Boolean) game.getState().getValue(TransformAbility.VALUE_KEY_ENTER_TRANSFORMED.key(card.getId()));
                     if (enterTransformed != null && enterTransformed && !card.isTransformable()) {
                         continue;
                     }
@@ -35,6 +35,7 @@ import mage.filter.predicate.permanent.ControllerIdPredicate;
 import mage.game.CardState;
 import mage.game.Game;
 import mage.game.GameState;
+import mage.game.ValueKey;
 import mage.game.command.Commander;
 import mage.game.events.BatchEvent;
 import mage.game.events.GameEvent;
@@ -1343,7 +1344,7 @@ public final class CardUtil {
     public static List<String> getCardRulesWithAdditionalInfo(Game game, MageObject object,
                                                               Abilities<Ability> rulesSource, Abilities<Ability> hintsSource) {
         try {
-            List<String> rules = rulesSource.getRules();
+            List<String> rules = rulesSource.getRules(true, game);
 
             if (game == null || game.getPhase() == null) {
                 // dynamic hints for started game only
@@ -1943,11 +1944,14 @@ public final class CardUtil {
         return "pay " + text;
     }
 
-    private static boolean isImmutableObject(Object o) {
+    /**
+     * Immutable objects can be shared between game copies without deep copy
+     */
+    public static boolean isImmutableObject(Object o) {
         return o == null
                 || o instanceof Number || o instanceof Boolean || o instanceof String
                 || o instanceof MageObjectReference || o instanceof UUID
-                || o instanceof Enum;
+                || o instanceof Enum || o instanceof ValueKey;
     }
 
     /**
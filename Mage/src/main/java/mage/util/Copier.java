@@ -2,10 +2,19 @@
 
 package mage.util;
 
+import org.apache.log4j.Logger;
+
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -16,39 +25,239 @@ import java.util.zip.GZIPOutputStream;
  */
 public class Copier<T> {
 
-    private static ClassLoader loader;
+    private static final Logger logger = Logger.getLogger(Copier.class);
+
+    // classes from own compressed data, so it can be restored without class loader setup (e.g. cards from plugins),
+    // use same copier object for compress and uncompress
+    private final Map<String, Class<?>> compressedClasses = new ConcurrentHashMap<>();
 
-    public static void setLoader(ClassLoader loader) {
-        Copier.loader = loader;
+    /**
+     * Devs only: check copy constructors (Copyable.copy) for missing fields, see DebugUtil.GAME_COPY_VERIFY_WITH_SERIALIZATION
+     * <p>
+     * Full copy must have same data in all serializable fields (non static and non transient), so it compares
+     * both objects field by field (maps and sets by its keys, so hash based order doesn't matter)
+     *
+     * @return false on missing data
+     */
+    public boolean verifyCopy(T original, T copy) {
+        List<String> differences = new FieldsComparator().compare(original, copy);
+        if (!differences.isEmpty()) {
+            logger.error("Wrong copy of " + original.getClass().getSimpleName() + ": different data in "
+                    + differences + " (possible reason: miss field in copy constructor)");
+            return false;
+        }
+        return true;
     }
 
-    public T copy(T obj) {
-        T copy = null;
+    /**
+     * Compare serializable data of two objects graphs (see verifyCopy)
+     */
+    private static class FieldsComparator {
 
-        FastByteArrayOutputStream fbos = null;
-        ObjectOutputStream out = null;
-        ObjectInputStream in = null;
-        try {
-            fbos = new FastByteArrayOutputStream();
-            out = new ObjectOutputStream(fbos);
+        private static final int MAX_DIFFERENCES = 10;
 
-            // Write the object out to a byte array
-            out.writeObject(obj);
-            out.flush();
+        // classes with data based equals
+        private static final Set<Class<?>> VALUE_CLASSES = new HashSet<>(Arrays.asList(
+                String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+                Boolean.class, Character.class, UUID.class
+        ));
+
+        private final Map<Object, Object> compared = new IdentityHashMap<>(); // original -> copy
+        private final List<String> differences = new ArrayList<>();
+
+        private List<String> compare(Object original, Object copy) {
+            compare(original, copy, original.getClass().getSimpleName());
+            return differences;
+        }
+
+        private void compare(Object original, Object copy, String path) {
+            if (original == copy || differences.size() >= MAX_DIFFERENCES) {
+                return;
+            }
+            if (original == null || copy == null || original.getClass() != copy.getClass()) {
+                differences.add(path);
+                return;
+            }
+            Class<?> objClass = original.getClass();
+            if (VALUE_CLASSES.contains(objClass) || original instanceof Enum || original instanceof Class) {
+                if (!original.equals(copy)) {
+                    differences.add(path);
+                }
+                return;
+            }
+            if (compared.put(original, copy) != null) {
+                // shared object or references cycle
+                return;
+            }
+
+            if (objClass.isArray()) {
+                if (Array.getLength(original) != Array.getLength(copy)) {
+                    differences.add(path + ".length");
+                    return;
+                }
+                for (int i = 0; i < Array.getLength(original); i++) {
+                    compare(Array.get(original, i), Array.get(copy, i), path + "[" + i + "]");
+                }
+                return;
+            }
+
+            // collections from game objects can have own fields too (e.g. TriggeredAbilities)
+            if (original instanceof Map) {
+                compareMaps((Map<?, ?>) original, (Map<?, ?>) copy, path);
+            } else if (original instanceof Set) {
+                compareSets((Set<?>) original, (Set<?>) copy, path);
+            } else if (original instanceof Collection) {
+                compareInOrder((Collection<?>) original, (Collection<?>) copy, path);
+            } else if (isJavaClass(objClass)) {
+                // other java's data (e.g. Random) can't be read by reflection
+                if (!Arrays.equals(serialize(original), serialize(copy))) {
+                    differences.add(path);
+                }
+                return;
+            }
+
+            for (Class<?> cl = objClass; cl != null && !isJavaClass(cl); cl = cl.getSuperclass()) {
+                for (Field field : cl.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        compare(field.get(original), field.get(copy), path + "." + field.getName());
+                    } catch (IllegalAccessException | RuntimeException e) {
+                        // inaccessible module's data
+                    }
+                }
+            }
+        }
+
+        private void compareMaps(Map<?, ?> original, Map<?, ?> copy, String path) {
+            if (original.size() != copy.size()) {
+                differences.add(path + ".size");
+                return;
+            }
+            if (!copy.keySet().containsAll(original.keySet())) {
+                // keys without data based equals
+                compareInOrder(original.keySet(), copy.keySet(), path + ".keys");
+                compareInOrder(original.values(), copy.values(), path + ".values");
+                return;
+            }
+            for (Map.Entry<?, ?> entry : original.entrySet()) {
+                compare(entry.getValue(), copy.get(entry.getKey()), path + "[" + entry.getKey() + "]");
+            }
+        }
+
+        private void compareSets(Set<?> original, Set<?> copy, String path) {
+            if (original.size() != copy.size()) {
+                differences.add(path + ".size");
+                return;
+            }
+            Map<Object, Object> copyItems = new HashMap<>();
+            copy.forEach(item -> copyItems.put(item, item));
+            if (!copyItems.keySet().containsAll(original)) {
+                // items without data based equals
+                compareInOrder(original, copy, path);
+                return;
+            }
+            for (Object item : original) {
+                compare(item, copyItems.get(item), path + "[" + item + "]");
+            }
+        }
+
+        private void compareInOrder(Collection<?> original, Collection<?> copy, String path) {
+            if (original.size() != copy.size()) {
+                differences.add(path + ".size");
+                return;
+            }
+            Iterator<?> copyIterator = copy.iterator();
+            int i = 0;
+            for (Object item : original) {
+                compare(item, copyIterator.next(), path + "[" + i + "]");
+                i++;
+            }
+        }
 
-            // Retrieve an input stream from the byte array and read
-            // a copy of the object back in.
-            in = new CopierObjectInputStream(loader, fbos.getInputStream());
-            copy = (T) in.readObject();
+        private static boolean isJavaClass(Class<?> cl) {
+            String name = cl.getName();
+            return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("sun.") || name.startsWith("jdk.");
         }
-        catch(IOException | ClassNotFoundException e) {
-            e.printStackTrace();
-        } finally {
-            StreamUtils.closeQuietly(fbos);
-            StreamUtils.closeQuietly(out);
-            StreamUtils.closeQuietly(in);
+
+        private static byte[] serialize(Object obj) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+                out.writeObject(obj);
+            } catch (IOException e) {
+                return new byte[0];
+            }
+            return bos.toByteArray();
         }
-        return copy;
+    }
+
+    /**
+     * Serialize object to compressed data, use it to keep rarely used objects with less memory
+     *
+     * @return null on errors
+     */
+    public byte[] copyCompressed(T obj) {
+        byte[] data = serialize(obj);
+        return data == null ? null : compress(data);
+    }
 
+    /**
+     * Serialize object to data for compress (see copyCompressed), must be called from the thread that
+     * owns the object (e.g. game thread), so compress can be called later from any thread
+     *
+     * @return null on errors
+     */
+    public byte[] serialize(T obj) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos) {
+            @Override
+            protected void annotateClass(Class<?> cl) {
+                compressedClasses.putIfAbsent(cl.getName(), cl);
+            }
+        }) {
+            out.writeObject(obj);
+        } catch (IOException e) {
+            logger.error("Can't serialize object " + obj.getClass().getSimpleName() + ": " + e, e);
+            return null;
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Compress serialized data (see serialize), result can be restored by uncompressCopy
+     *
+     * @return null on errors
+     */
+    public static byte[] compress(byte[] data) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bos)) {
+            out.write(data);
+        } catch (IOException e) {
+            logger.error("Can't compress data: " + e, e);
+            return null;
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * Restore new object from compressed data (see copyCompressed), data must be compressed by same copier
+     *
+     * @return null on errors
+     */
+    public T uncompressCopy(byte[] buffer) {
+        try (ObjectInputStream in = new ObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(buffer))) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                Class<?> cl = compressedClasses.get(desc.getName());
+                return cl != null ? cl : super.resolveClass(desc);
+            }
+        }) {
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("Can't uncompress object: " + e, e);
+            return null;
+        }
     }
 }
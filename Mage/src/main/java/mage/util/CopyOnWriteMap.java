@@ -0,0 +1,163 @@
+package mage.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Game state's map with structural sharing between copies: copy() shares the data
+ * and real map copy will be made on first change only (by any side).
+ * <p>
+ * Use it for big maps with immutable keys/values (or values that never changes), e.g. zones of all game cards.
+ * Game engine copies game state all the time (AI simulations, bookmarks, rollbacks) and most of such copies
+ * never change that data.
+ * <p>
+ * Thread safety: map must be changed by owner thread only (game thread), but copy() can be called from any
+ * thread (e.g. game views). Copy and change use shared data's lock, so shared data never
+ * changes after copy and the copy gets full data (not half-changed map).
+ *
+ * @param <K>
+ * @param <V>
+ */
+public class CopyOnWriteMap<K, V> implements Serializable, Copyable<CopyOnWriteMap<K, V>> {
+
+    private static final class Data<K, V> implements Serializable {
+        private final HashMap<K, V> map;
+        private boolean shared; // true if map can be used by another copy, so it must be never changed again
+
+        private Data(HashMap<K, V> map) {
+            this.map = map;
+        }
+    }
+
+    private volatile Data<K, V> data;
+
+    public CopyOnWriteMap() {
+        this.data = new Data<>(new HashMap<>());
+    }
+
+    protected CopyOnWriteMap(final CopyOnWriteMap<K, V> source) {
+        // both sides must make real copy before change
+        Data<K, V> sourceData = source.data;
+        synchronized (sourceData) {
+            sourceData.shared = true;
+        }
+        this.data = sourceData;
+    }
+
+    @Override
+    public CopyOnWriteMap<K, V> copy() {
+        return new CopyOnWriteMap<>(this);
+    }
+
+    /**
+     * Call it under data's lock only
+     */
+    private HashMap<K, V> makeOwnMap(Data<K, V> current) {
+        if (!current.shared) {
+            return current.map;
+        }
+        // shared map is frozen, so change own copy and publish it after change
+        return new HashMap<>(current.map);
+    }
+
+    private void publish(Data<K, V> current, HashMap<K, V> map) {
+        if (current.map != map) {
+            this.data = new Data<>(map);
+        }
+    }
+
+    public V get(K key) {
+        return this.data.map.get(key);
+    }
+
+    public V getOrDefault(K key, V defaultValue) {
+        return this.data.map.getOrDefault(key, defaultValue);
+    }
+
+    public boolean containsKey(K key) {
+        return this.data.map.containsKey(key);
+    }
+
+    public int size() {
+        return this.data.map.size();
+    }
+
+    public boolean isEmpty() {
+        return this.data.map.isEmpty();
+    }
+
+    /**
+     * Read only values, use remove to change data
+     */
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(this.data.map.values());
+    }
+
+    /**
+     * Read only entries, use put/remove to change data
+     */
+    public Set<Map.Entry<K, V>> entrySet() {
+        return Collections.unmodifiableMap(this.data.map).entrySet();
+    }
+
+    public V put(K key, V value) {
+        Data<K, V> current = this.data;
+        synchronized (current) {
+            HashMap<K, V> map = makeOwnMap(current);
+            V res = map.put(key, value);
+            publish(current, map);
+            return res;
+        }
+    }
+
+    public V remove(K key) {
+        Data<K, V> current = this.data;
+        if (!current.map.containsKey(key)) {
+            return null;
+        }
+        synchronized (current) {
+            HashMap<K, V> map = makeOwnMap(current);
+            V res = map.remove(key);
+            publish(current, map);
+            return res;
+        }
+    }
+
+    /**
+     * Remove all keys with same value
+     *
+     * @return true if something removed
+     */
+    public boolean removeValue(V value) {
+        Data<K, V> current = this.data;
+        if (!current.map.containsValue(value)) {
+            return false;
+        }
+        synchronized (current) {
+            HashMap<K, V> map = makeOwnMap(current);
+            boolean res = map.values().removeIf(v -> v.equals(value));
+            publish(current, map);
+            return res;
+        }
+    }
+
+    public void clear() {
+        Data<K, V> current = this.data;
+        synchronized (current) {
+            if (current.shared) {
+                this.data = new Data<>(new HashMap<>());
+            } else {
+                current.map.clear();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.data.map.toString();
+    }
+}
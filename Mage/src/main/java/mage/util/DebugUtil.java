@@ -17,6 +17,13 @@ public class DebugUtil {
     public static boolean AI_ENABLE_DEBUG_MODE = false;
     public static boolean AI_SHOW_TARGET_OPTIMIZATION_LOGS = false; // works with target amount
 
+    // game engine
+    public static boolean GAME_TRIGGERS_DISABLE_EVENT_TYPE_INDEX = false; // check all triggers for each event (old mode, can be used for benchmarks)
+    public static boolean GAME_BATTLEFIELD_DISABLE_FILTER_INDEX = false; // check all permanents in battlefield's filter calls (old mode, can be used for benchmarks)
+    public static boolean GAME_EFFECTS_DISABLE_INCREMENTAL_APPLY = false; // re-check all active effects after each applied effect (old mode, can be used for benchmarks)
+    public static boolean GAME_EFFECTS_VERIFY_INCREMENTAL_APPLY = false; // compare each incremental effects apply with full apply on game's copy (very slow)
+    public static boolean GAME_COPY_VERIFY_WITH_SERIALIZATION = false; // compare serializable fields of AI's game copies to find missing fields in copy constructors (very slow)
+
     // cards basic (card panels)
     public static boolean GUI_CARD_DRAW_OUTER_BORDER = false;
     public static boolean GUI_CARD_DRAW_INNER_BORDER = false;
@@ -0,0 +1,59 @@
+package mage.util;
+
+import java.util.UUID;
+
+/**
+ * AI related: helpers for 64-bit game state hashes (Zobrist-like)
+ * <p>
+ * Each data item gets well mixed 64-bit value, ordered data combines it one by one,
+ * unordered data (permanents, cards in hand, etc) sums it, so no sorting or strings building required.
+ * Hash used in memory only (AI's search trees and caches), so it can use objects hash codes.
+ */
+public final class StateHashUtil {
+
+    private StateHashUtil() {
+    }
+
+    /**
+     * 64-bit finalizer from SplitMix64
+     */
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Ordered data: add next item to the hash
+     */
+    public static long combine(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    public static long combine(long hash, Object value) {
+        return combine(hash, value == null ? 0 : value.hashCode());
+    }
+
+    public static long combine(long hash, UUID value) {
+        return combine(hash, hash(value));
+    }
+
+    public static long combine(long hash, boolean value) {
+        return combine(hash, value ? 1231 : 1237);
+    }
+
+    public static long hash(UUID id) {
+        if (id == null) {
+            return 0;
+        }
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    /**
+     * Unordered data: item's value for the sum
+     */
+    public static long item(Object value) {
+        return mix(value == null ? 0 : value.hashCode());
+    }
+}
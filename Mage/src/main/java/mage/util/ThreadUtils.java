@@ -25,6 +25,8 @@ public final class ThreadUtils {
 
     // game
     public final static String THREAD_PREFIX_GAME_JOIN_WAITING = "XMAGE game join waiting";
+    public final static String THREAD_PREFIX_GAME_REPLAY_WRITER = "XMAGE game replay writer";
+    public final static String THREAD_PREFIX_GAME_STATES_COMPRESS = "XMAGE game states compress";
 
     // services
     public final static String THREAD_PREFIX_SERVICE_HEALTH = "XMAGE service health";
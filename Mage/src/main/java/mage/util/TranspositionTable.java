@@ -0,0 +1,55 @@
+package mage.util;
+
+import mage.game.Game;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * AI related: find repeated positions after different actions (e.g. same lands or another copy of the card)
+ * <p>
+ * Game state hash is a bucket only: it's fast, but can't see all data (e.g. different activated abilities
+ * of the same type and source on the stack), so positions with the same hash must be confirmed by a full compare.
+ * Full compare is slow, so it runs on hash collisions only.
+ */
+public class TranspositionTable {
+
+    private final Map<Long, Position> positions = new HashMap<>(); // hash -> first game with it
+
+    private static class Position {
+
+        private final Game game;
+        private String value = null; // full position data, calcs on first collision only
+
+        private Position(Game game) {
+            this.game = game;
+        }
+
+        private String getValue() {
+            if (value == null) {
+                value = calcValue(game);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * @return false if same position already added (no need to search it again)
+     */
+    public boolean add(Game game) {
+        return add(game.getState().getStateHash(true, game), game);
+    }
+
+    /**
+     * @param stateHash full game state hash (with hidden info), see {@link mage.game.GameState#getStateHash(boolean, Game)}
+     * @return false if same position already added (no need to search it again)
+     */
+    public boolean add(long stateHash, Game game) {
+        Position samePosition = positions.putIfAbsent(stateHash, new Position(game));
+        return samePosition == null || !samePosition.getValue().equals(calcValue(game));
+    }
+
+    private static String calcValue(Game game) {
+        return game.getState().getValue(true, game);
+    }
+}
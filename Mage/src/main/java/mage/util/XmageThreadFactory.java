@@ -1,5 +1,10 @@
 package mage.util;
 
+import org.apache.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -10,9 +15,33 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class XmageThreadFactory implements ThreadFactory {
 
+    private static final Logger logger = Logger.getLogger(XmageThreadFactory.class);
+
+    // virtual threads support (java 21+), must be called by reflection due java 8 compatible sources
+    private static final Method virtualThreadBuilderCreate; // Thread.ofVirtual()
+    private static final Method virtualThreadBuilderUnstarted; // Thread.Builder.unstarted(Runnable)
+    private static final Method threadPerTaskExecutorCreate; // Executors.newThreadPerTaskExecutor(ThreadFactory)
+
+    static {
+        Method create = null;
+        Method unstarted = null;
+        Method executorCreate = null;
+        try {
+            create = Thread.class.getMethod("ofVirtual");
+            unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+            executorCreate = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException ignore) {
+            // old java version
+        }
+        virtualThreadBuilderCreate = create;
+        virtualThreadBuilderUnstarted = unstarted;
+        threadPerTaskExecutorCreate = executorCreate;
+    }
+
     private final String prefix;
     private final AtomicInteger counter = new AtomicInteger();
     private final boolean isDaemon;
+    private final boolean isVirtual;
 
     public XmageThreadFactory(String prefix) {
         this(prefix, true);
@@ -23,20 +52,67 @@ public class XmageThreadFactory implements ThreadFactory {
      * @param isDaemon mark thread as daemon on non-writeable tasks (e.g. can be terminated at any time without data loss)
      */
     public XmageThreadFactory(String prefix, boolean isDaemon) {
+        this(prefix, isDaemon, false);
+    }
+
+    /**
+     * @param isVirtual use virtual threads instead platform (java 21+ only, will be ignored on older java).
+     *                  Virtual threads are always daemons, so use it for daemon tasks only.
+     */
+    public XmageThreadFactory(String prefix, boolean isDaemon, boolean isVirtual) {
         this.prefix = prefix;
         this.isDaemon = isDaemon;
+        this.isVirtual = isVirtual && isVirtualThreadsSupported();
+    }
+
+    public static boolean isVirtualThreadsSupported() {
+        return virtualThreadBuilderCreate != null && virtualThreadBuilderUnstarted != null && threadPerTaskExecutorCreate != null;
+    }
+
+    /**
+     * New thread for each task without pooling, same as Executors.newVirtualThreadPerTaskExecutor but with
+     * threads names (java 21+ only)
+     *
+     * @return null on older java
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String prefix) {
+        if (!isVirtualThreadsSupported()) {
+            return null;
+        }
+        try {
+            return (ExecutorService) threadPerTaskExecutorCreate.invoke(null, new XmageThreadFactory(prefix, true, true));
+        } catch (ReflectiveOperationException e) {
+            logger.error("Can't create virtual threads executor: " + e, e);
+            return null;
+        }
     }
 
     @Override
     public Thread newThread(Runnable r) {
         int instanceNumber = this.counter.incrementAndGet();
 
-        Thread thread = new Thread(r);
-        thread.setDaemon(this.isDaemon);
+        Thread thread = null;
+        if (this.isVirtual) {
+            thread = createVirtualThread(r);
+        }
+        if (thread == null) {
+            thread = new Thread(r);
+            thread.setDaemon(this.isDaemon);
+        }
 
         // gives default name, but threads can change it by Thread.currentThread().setName (example: on game or tourney start)
         thread.setName(String.format("%s - %d", this.prefix, instanceNumber));
 
         return thread;
     }
+
+    private static Thread createVirtualThread(Runnable r) {
+        try {
+            Object builder = virtualThreadBuilderCreate.invoke(null);
+            return (Thread) virtualThreadBuilderUnstarted.invoke(builder, r);
+        } catch (ReflectiveOperationException e) {
+            logger.error("Can't create virtual thread, platform thread will be used: " + e, e);
+            return null;
+        }
+    }
 }
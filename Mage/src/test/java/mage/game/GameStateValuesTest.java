@@ -0,0 +1,77 @@
+package mage.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Custom unit tests for {@link GameStateValues} and {@link ValueKey}.
+ */
+public class GameStateValuesTest {
+
+    private static final ValueKey.Namespace<Integer> NAMESPACE_NUMBER = new ValueKey.Namespace<>("number");
+    private static final ValueKey.Namespace<Integer> NAMESPACE_OTHER = new ValueKey.Namespace<>("other");
+
+    @Test
+    public void shouldFindTypedKeysWithoutSameInstance() {
+        UUID id = UUID.randomUUID();
+        GameStateValues values = new GameStateValues();
+        values.put(NAMESPACE_NUMBER.key(id), 1);
+        values.put(NAMESPACE_OTHER.key(id), 2);
+
+        assertEquals(1, values.get(NAMESPACE_NUMBER.key(id)));
+        assertEquals(1, values.get(new ValueKey.Namespace<>("number").key(id)));
+        assertEquals(2, values.get(NAMESPACE_OTHER.key(id)));
+        assertNull(values.get("number" + id), "typed and string keys must be different");
+
+        Map<UUID, Integer> found = values.getValues(NAMESPACE_NUMBER);
+        assertEquals(1, found.size());
+        assertEquals(1, found.get(id));
+        assertTrue(values.getValues("number").isEmpty());
+    }
+
+    @Test
+    public void shouldNotShareChangesAfterCopy() {
+        UUID id = UUID.randomUUID();
+        GameStateValues original = new GameStateValues();
+        original.put("a", 1);
+        original.put(NAMESPACE_NUMBER.key(id), 1);
+
+        GameStateValues copy = original.copy();
+        copy.put("a", 10);
+        copy.remove(NAMESPACE_NUMBER.key(id));
+        original.put("b", 2);
+
+        assertEquals(1, original.get("a"));
+        assertEquals(1, original.get(NAMESPACE_NUMBER.key(id)));
+        assertEquals(10, copy.get("a"));
+        assertNull(copy.get(NAMESPACE_NUMBER.key(id)));
+        assertNull(copy.get("b"));
+    }
+
+    @Test
+    public void shouldDeepCopyMutableValues() {
+        Set<UUID> set = new HashSet<>();
+        GameStateValues original = new GameStateValues();
+        original.put("set", set);
+
+        GameStateValues copy = original.copy();
+        ((Set<UUID>) copy.get("set")).add(UUID.randomUUID());
+        assertTrue(set.isEmpty());
+        assertEquals(1, ((Set<UUID>) copy.get("set")).size());
+
+        // mutable value can be replaced by immutable
+        copy.put("set", 1);
+        assertEquals(1, copy.get("set"));
+        assertEquals(1, copy.getValues("set").size());
+        assertFalse(original.get("set") instanceof Integer);
+    }
+}
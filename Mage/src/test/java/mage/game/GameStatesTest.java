@@ -0,0 +1,49 @@
+package mage.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Custom unit tests for {@link GameStates}.
+ */
+public class GameStatesTest {
+
+    private GameStates prepareStates(int amount) {
+        GameStates states = new GameStates();
+        GameState state = new GameState();
+        for (int i = 0; i < amount; i++) {
+            state.setTurnNum(i);
+            states.save(state);
+        }
+        return states;
+    }
+
+    @Test
+    public void shouldRestoreOldAndNewStates() {
+        // old states must be compressed and restored on demand
+        GameStates states = prepareStates(20);
+        assertEquals(20, states.getSize());
+        for (int i = 0; i < 20; i++) {
+            GameState state = states.get(i);
+            assertNotNull(state);
+            assertEquals(i, state.getTurnNum());
+        }
+        assertNull(states.get(20));
+    }
+
+    @Test
+    public void shouldRollbackToOldState() {
+        GameStates states = prepareStates(20);
+
+        GameState state = states.rollback(3);
+        assertNotNull(state);
+        assertEquals(3, state.getTurnNum());
+        assertEquals(4, states.getSize());
+
+        assertEquals(2, states.remove(2));
+        assertEquals(1, states.get(1).getTurnNum());
+    }
+}
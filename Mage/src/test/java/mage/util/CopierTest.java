@@ -0,0 +1,77 @@
+package mage.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Custom unit tests for {@link Copier} copy verification.
+ */
+public class CopierTest {
+
+    private static class TestData implements Serializable, Copyable<TestData> {
+
+        private String name;
+        private final List<Integer> values = new ArrayList<>();
+        private final boolean copyAllFields;
+
+        TestData(String name, boolean copyAllFields) {
+            this.name = name;
+            this.values.add(1);
+            this.values.add(2);
+            this.copyAllFields = copyAllFields;
+        }
+
+        private TestData(final TestData data) {
+            this.copyAllFields = data.copyAllFields;
+            if (data.copyAllFields) {
+                this.name = data.name;
+                this.values.addAll(data.values);
+            }
+        }
+
+        @Override
+        public TestData copy() {
+            return new TestData(this);
+        }
+    }
+
+    @Test
+    public void shouldAcceptFullCopy() {
+        TestData data = new TestData("test", true);
+        assertTrue(new Copier<TestData>().verifyCopy(data, data.copy()));
+    }
+
+    @Test
+    public void shouldFindMissingFields() {
+        TestData data = new TestData("test", false);
+        assertFalse(new Copier<TestData>().verifyCopy(data, data.copy()));
+    }
+
+    @Test
+    public void shouldFindChangedDataWithSameSize() {
+        TestData data = new TestData("test", true);
+        TestData copy = data.copy();
+        copy.name = "tset";
+        copy.values.set(0, 3);
+        assertFalse(new Copier<TestData>().verifyCopy(data, copy));
+    }
+
+    @Test
+    public void shouldIgnoreHashSetsOrder() {
+        // different capacity gives different iteration order
+        Set<String> original = new HashSet<>();
+        Set<String> copy = new HashSet<>(1024);
+        for (int i = 0; i < 100; i++) {
+            original.add("value " + i);
+            copy.add("value " + i);
+        }
+        assertNotEquals(new ArrayList<>(original), new ArrayList<>(copy));
+        assertTrue(new Copier<Set<String>>().verifyCopy(original, copy));
+    }
+}
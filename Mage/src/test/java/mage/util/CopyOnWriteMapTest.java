@@ -0,0 +1,118 @@
+package mage.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Custom unit tests for {@link CopyOnWriteMap}.
+ */
+public class CopyOnWriteMapTest {
+
+    @Test
+    public void shouldNotShareChangesAfterCopy() {
+        CopyOnWriteMap<String, Integer> original = new CopyOnWriteMap<>();
+        original.put("a", 1);
+        original.put("b", 2);
+
+        CopyOnWriteMap<String, Integer> copy = original.copy();
+        assertEquals(2, copy.size());
+        assertEquals(1, copy.get("a"));
+
+        // change copy
+        copy.put("a", 10);
+        copy.remove("b");
+        assertEquals(10, copy.get("a"));
+        assertNull(copy.get("b"));
+        assertEquals(1, original.get("a"));
+        assertEquals(2, original.get("b"));
+
+        // change original
+        original.put("c", 3);
+        assertTrue(original.containsKey("c"));
+        assertFalse(copy.containsKey("c"));
+    }
+
+    @Test
+    public void shouldNotShareChangesBetweenMultipleCopies() {
+        CopyOnWriteMap<String, Integer> original = new CopyOnWriteMap<>();
+        original.put("a", 1);
+        CopyOnWriteMap<String, Integer> copy1 = original.copy();
+        CopyOnWriteMap<String, Integer> copy2 = copy1.copy();
+
+        copy1.put("a", 2);
+        copy2.clear();
+        assertEquals(1, original.get("a"));
+        assertEquals(2, copy1.get("a"));
+        assertTrue(copy2.isEmpty());
+        assertEquals(1, original.size());
+    }
+
+    @Test
+    public void shouldRemoveByValue() {
+        CopyOnWriteMap<String, String> original = new CopyOnWriteMap<>();
+        original.put("a", "x");
+        original.put("b", "y");
+        CopyOnWriteMap<String, String> copy = original.copy();
+
+        assertFalse(copy.removeValue("z"));
+        assertTrue(copy.removeValue("x"));
+        assertEquals(1, copy.size());
+        assertEquals(2, original.size());
+    }
+
+    @Test
+    public void shouldNotAllowChangesByValues() {
+        CopyOnWriteMap<String, String> original = new CopyOnWriteMap<>();
+        original.put("a", "x");
+        assertThrows(UnsupportedOperationException.class, () -> original.values().remove("x"));
+    }
+
+    @Test
+    public void shouldCopyFromAnotherThreadWhileChanging() throws Exception {
+        // game views can copy game state from another thread while game thread changes it
+        CopyOnWriteMap<Integer, Integer> original = new CopyOnWriteMap<>();
+        int maxKeys = 2000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<List<CopyOnWriteMap<Integer, Integer>>> copier = executor.submit(() -> {
+                List<CopyOnWriteMap<Integer, Integer>> copies = new ArrayList<>();
+                started.countDown();
+                while (original.size() < maxKeys && copies.size() < 100000) {
+                    copies.add(original.copy());
+                }
+                return copies;
+            });
+            started.await();
+            for (int i = 0; i < maxKeys; i++) {
+                original.put(i, i);
+            }
+
+            List<CopyOnWriteMap<Integer, Integer>> copies = copier.get();
+            assertFalse(copies.isEmpty());
+            for (CopyOnWriteMap<Integer, Integer> copy : copies) {
+                // copy must keep full data from the copy moment and never get later changes
+                int size = copy.size();
+                for (int i = 0; i < size; i++) {
+                    assertEquals(i, copy.get(i));
+                }
+                assertFalse(copy.containsKey(size));
+            }
+            assertEquals(maxKeys, original.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}